@@ -255,7 +255,7 @@ public class SurrogateHelper {
   public static CompositeKnowledgeCarrier toAnonymousCompositeAsset(
       ResourceIdentifier rootAssetId,
       Collection<KnowledgeAsset> components) {
-    return ofUniformAnonymousComposite(
+    return indexed(ofUniformAnonymousComposite(
         rootAssetId,
         components,
         rep(Knowledge_Asset_Surrogate_2_0),
@@ -270,7 +270,7 @@ public class SurrogateHelper {
         KnowledgeAsset::getAssetId,
         ka -> getCanonicalSurrogateId(ka).orElse(null),
         KnowledgeAsset::getName
-    );
+    ));
   }
 
   /**
@@ -304,7 +304,7 @@ public class SurrogateHelper {
       ResourceIdentifier compositeAssetId,
       Collection<KnowledgeAsset> components,
       CompositeStructType structType) {
-    return ofUniformNamedComposite(
+    return indexed(ofUniformNamedComposite(
         compositeAssetId,
         null,
         compositeAssetId,
@@ -322,7 +322,19 @@ public class SurrogateHelper {
         KnowledgeAsset::getAssetId,
         ka -> getCanonicalSurrogateId(ka).orElse(null),
         KnowledgeAsset::getName
-    );
+    ));
+  }
+
+  /**
+   * Composite Surrogates are navigated by Asset Id: builds the index of the components upfront,
+   * so that lookups by Asset Id do not require a scan of the components
+   *
+   * @param ckc the Composite Surrogate
+   * @return ckc, with its components indexed
+   */
+  private static CompositeKnowledgeCarrier indexed(CompositeKnowledgeCarrier ckc) {
+    ckc.componentIndex();
+    return ckc;
   }
 
   /**
@@ -0,0 +1,142 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.bench;
+
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newId;
+import static org.omg.spec.api4kp._20200801.taxonomy.clinicalknowledgeassettype.ClinicalKnowledgeAssetTypeSeries.Clinical_Rule;
+import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeassetcategory.KnowledgeAssetCategorySeries.Rules_Policies_And_Guidelines;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.mayo.kmdp.util.JSonUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.omg.spec.api4kp._20200801.AbstractCarrier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.surrogate.KnowledgeArtifact;
+import org.omg.spec.api4kp._20200801.surrogate.KnowledgeAsset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares (de)serialization of Surrogates and Carriers using freshly built ("cold") mappers,
+ * vs the pre-configured mappers cached by {@link edu.mayo.kmdp.util.JSonMapperRegistry}.
+ * <p>
+ * Not a unit test: run via {@link #main(String[])}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSonMapperBenchmark {
+
+  private KnowledgeAsset asset;
+  private KnowledgeCarrier carrier;
+
+  private byte[] assetJson;
+  private byte[] carrierJson;
+
+  @Setup
+  public void setup() {
+    asset = new KnowledgeAsset()
+        .withAssetId(newId(URI.create("http://foo.bar"), "baz", "1.0.0"))
+        .withFormalCategory(Rules_Policies_And_Guidelines)
+        .withFormalType(Clinical_Rule)
+        .withName("Benchmark Asset")
+        .withCarriers(new KnowledgeArtifact()
+            .withArtifactId(newId(URI.create("http://foo.bar"), "qux", "1.0.0"))
+            .withRepresentation(rep(DMN_1_1, XML_1_1)));
+    carrier = AbstractCarrier.of("<definitions/>", rep(DMN_1_1, XML_1_1))
+        .withAssetId(newId(URI.create("http://foo.bar"), "baz", "1.0.0"))
+        .withLabel("Benchmark Carrier");
+
+    assetJson = JSonUtil.writeJson(asset)
+        .map(ByteArrayOutputStream::toByteArray)
+        .orElseThrow(IllegalStateException::new);
+    carrierJson = JSonUtil.writeJson(carrier)
+        .map(ByteArrayOutputStream::toByteArray)
+        .orElseThrow(IllegalStateException::new);
+  }
+
+  @Benchmark
+  public byte[] writeAssetCold() throws IOException {
+    return coldMapper().writerWithDefaultPrettyPrinter().writeValueAsBytes(asset);
+  }
+
+  @Benchmark
+  public Object writeAssetCached() {
+    return JSonUtil.writeJson(asset).orElse(null);
+  }
+
+  @Benchmark
+  public Object readAssetCold() throws IOException {
+    return coldMapper().readValue(assetJson, KnowledgeAsset.class);
+  }
+
+  @Benchmark
+  public Object readAssetCached() {
+    return JSonUtil.readJson(assetJson, KnowledgeAsset.class).orElse(null);
+  }
+
+  @Benchmark
+  public byte[] writeCarrierCold() throws IOException {
+    return coldMapper().writerWithDefaultPrettyPrinter().writeValueAsBytes(carrier);
+  }
+
+  @Benchmark
+  public Object writeCarrierCached() {
+    return JSonUtil.writeJson(carrier).orElse(null);
+  }
+
+  @Benchmark
+  public Object readCarrierCold() throws IOException {
+    return coldMapper().readValue(carrierJson, KnowledgeCarrier.class);
+  }
+
+  @Benchmark
+  public Object readCarrierCached() {
+    return JSonUtil.readJson(carrierJson, KnowledgeCarrier.class).orElse(null);
+  }
+
+  /**
+   * Reproduces the historical behavior, where each call built and configured its own mapper
+   */
+  private static ObjectMapper coldMapper() {
+    return JSonUtil.configureMapper(new ObjectMapper(), JSonUtil.defaultProperties());
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(JSonMapperBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+}
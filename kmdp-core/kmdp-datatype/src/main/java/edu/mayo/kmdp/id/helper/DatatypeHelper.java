@@ -15,12 +15,13 @@ package edu.mayo.kmdp.id.helper;
 
 
 import edu.mayo.kmdp.registry.Registry;
-import edu.mayo.kmdp.util.DateTimeUtil;
 import edu.mayo.kmdp.util.URIUtil;
 import edu.mayo.kmdp.util.Util;
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,7 +43,6 @@ public class DatatypeHelper {
   }
 
   private static final Pattern VERSIONS_RX = Pattern.compile("^(.*/)?(.*)/versions/(.+)$");
-  private static final Pattern SEMVER_RX = Pattern.compile("^(\\d+\\.)?(\\d+\\.)?(\\*|\\d+)$");
 
 
   public static SemanticIdentifier ns(final String nsUri) {
@@ -78,19 +78,14 @@ public class DatatypeHelper {
         : "/versions/";
   }
 
+  /**
+   * @param tag a version tag
+   * @return the format of the version tag
+   * @deprecated use {@link VersionIdentifier#detectVersionTag(String)}
+   */
+  @Deprecated
   public static VersionTagType tag(final String tag) {
-    if (tag.matches("\\d+")) {
-      return VersionTagType.SEQUENTIAL;
-    }
-    if (DateTimeUtil.validateDate(tag)) {
-      return VersionTagType.TIMESTAMP;
-    }
-    Matcher matcher = SEMVER_RX.matcher(tag);
-    if (matcher.matches()) {
-      return VersionTagType.SEM_VER;
-    } else {
-      return VersionTagType.GENERIC;
-    }
+    return VersionIdentifier.detectVersionTag(tag);
   }
 
   public static String versionOf(URI versionedIdentifier) {
@@ -200,6 +195,55 @@ public class DatatypeHelper {
         .collect(Collectors.toConcurrentMap(Term::getUuid, Function.identity())));
   }
 
+  /**
+   * Builds an immutable index of the given values, by the key extracted using a given getter.
+   * Consistently with {@link #resolveTerm(Object, Term[], Function)}, if two values share the same
+   * key, the one that comes first in the array wins. Null keys are not indexed.
+   *
+   * @param values the values to be indexed
+   * @param getter the function that extracts the key from each value
+   * @param <T>    the type of the values
+   * @param <X>    the type of the keys
+   * @return an immutable map from key to value
+   */
+  public static <T, X> Map<X, T> indexBy(T[] values, Function<? super T, X> getter) {
+    Map<X, T> map = new HashMap<>(2 * values.length);
+    for (T value : values) {
+      X key = getter.apply(value);
+      if (key != null) {
+        map.putIfAbsent(key, value);
+      }
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Builds an immutable index of the given values, by each of the keys extracted using a given
+   * getter. Consistently with {@link #resolveAliases(Object, Term[], Function)}, if two values
+   * share the same key, the one that comes first in the array wins. Null keys are not indexed.
+   *
+   * @param values the values to be indexed
+   * @param getter the function that extracts the keys from each value
+   * @param <T>    the type of the values
+   * @param <X>    the type of the keys
+   * @return an immutable map from key to value
+   */
+  public static <T, X> Map<X, T> indexByAll(T[] values,
+      Function<? super T, ? extends Collection<X>> getter) {
+    Map<X, T> map = new HashMap<>(2 * values.length);
+    for (T value : values) {
+      Collection<X> keys = getter.apply(value);
+      if (keys != null) {
+        for (X key : keys) {
+          if (key != null) {
+            map.putIfAbsent(key, value);
+          }
+        }
+      }
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
 
   public static Optional<String> encodeConcept(Term trm) {
     if (trm == null) {
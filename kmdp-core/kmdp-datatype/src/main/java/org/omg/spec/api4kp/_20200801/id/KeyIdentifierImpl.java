@@ -0,0 +1,129 @@
+package org.omg.spec.api4kp._20200801.id;
+
+import static org.omg.spec.api4kp._20200801.id.IdentifierConstants.VERSION_LATEST;
+
+import com.github.zafarkhaja.semver.Version;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Immutable {@link KeyIdentifier}, based on a UUID and a version tag.
+ * <p>
+ * Keys are used as Map keys, and sorted, so the hash code, the normalized version tag (a missing
+ * version tag is treated as {@link IdentifierConstants#VERSION_LATEST}) and the semantic version
+ * parsed from the tag are computed once, the latter on first use.
+ */
+public final class KeyIdentifierImpl implements KeyIdentifier {
+
+  private final UUID uuid;
+  private final String versionTag;
+  private final String normalizedTag;
+  private final int versionHash;
+  private final int hash;
+
+  private volatile boolean parsed;
+  private Version version;
+
+  public KeyIdentifierImpl(UUID uuid, String versionTag) {
+    this.uuid = uuid;
+    this.versionTag = versionTag;
+    this.normalizedTag = versionTag != null ? versionTag : VERSION_LATEST;
+    this.versionHash = normalizedTag.hashCode();
+    this.hash = 31 * (31 + Objects.hashCode(uuid)) + versionHash;
+  }
+
+  /**
+   * @param uuid       a UUID
+   * @param versionTag a version tag
+   * @return true if this Key was created from the given UUID and version tag
+   */
+  public boolean isKeyOf(UUID uuid, String versionTag) {
+    return Objects.equals(this.uuid, uuid)
+        && Objects.equals(this.versionTag, versionTag);
+  }
+
+  @Override
+  public UUID getUuid() {
+    return uuid;
+  }
+
+  @Override
+  public int getVersionHash() {
+    return versionHash;
+  }
+
+  @Override
+  public String getVersionTag() {
+    return versionTag;
+  }
+
+  /**
+   * @return the version tag, or {@link IdentifierConstants#VERSION_LATEST} if none
+   */
+  public String getNormalizedTag() {
+    return normalizedTag;
+  }
+
+  /**
+   * @return the semantic version denoted by the version tag, if any, or null
+   */
+  public Version getVersion() {
+    if (!parsed) {
+      version = VersionIdentifier.semVerOf(versionTag);
+      parsed = true;
+    }
+    return version;
+  }
+
+  @Override
+  public int compareTo(KeyIdentifier other) {
+    int byId = this.getUuid().compareTo(other.getUuid());
+    if (byId != 0) {
+      return byId;
+    }
+
+    Version v1 = this.getVersion();
+    Version v2 = other instanceof KeyIdentifierImpl
+        ? ((KeyIdentifierImpl) other).getVersion()
+        : VersionIdentifier.semVerOf(other.getVersionTag());
+    if (v1 == null) {
+      return v2 == null ? 0 : -1;
+    }
+    return v2 == null ? 1 : v1.compareTo(v2);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other instanceof KeyIdentifierImpl) {
+      KeyIdentifierImpl otherKey = (KeyIdentifierImpl) other;
+      return hash == otherKey.hash
+          && Objects.equals(uuid, otherKey.uuid)
+          && normalizedTag.equals(otherKey.normalizedTag);
+    }
+    if (other instanceof KeyIdentifier) {
+      KeyIdentifier otherKey = (KeyIdentifier) other;
+      return Objects.equals(uuid, otherKey.getUuid())
+          && versionHash == otherKey.getVersionHash();
+    }
+    if (other instanceof SemanticIdentifier) {
+      SemanticIdentifier otherId = (SemanticIdentifier) other;
+      return Objects.equals(uuid, otherId.getUuid())
+          && otherId.getVersionTag() != null
+          && versionHash == otherId.getVersionTag().hashCode();
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return uuid + " # " + versionTag;
+  }
+}
@@ -863,76 +863,17 @@ public interface SemanticIdentifier extends VersionIdentifier, ScopedIdentifier,
   }
 
   static KeyIdentifier newKey(UUID seriesId, String versionTag) {
-    return new ResourceIdentifier()
-        .withUuid(seriesId)
-        .withVersionTag(versionTag)
-        .asKey();
+    return new KeyIdentifierImpl(seriesId, versionTag);
   }
 
+  /**
+   * Note that ResourceIdentifier memoizes its Key, as long as the UUID and version tag are not
+   * changed.
+   *
+   * @return a Key based on the UUID and version tag of this identifier
+   */
   default KeyIdentifier asKey() {
-    final UUID id = getUuid();
-    final int vid = getVersionTag() != null
-        ? getVersionTag().hashCode()
-        : VERSION_LATEST.hashCode();
-
-    return new KeyIdentifier() {
-
-      @Override
-      public UUID getUuid() {
-        return id;
-      }
-
-      @Override
-      public int getVersionHash() {
-        return vid;
-      }
-
-      @Override
-      public String getVersionTag() {
-        return SemanticIdentifier.this.getVersionTag();
-      }
-
-      @Override
-      public int compareTo(KeyIdentifier other) {
-        int byId = this.getUuid().compareTo(other.getUuid());
-        if (byId != 0) {
-          return byId;
-        }
-
-        Version v1 = VersionIdentifier.semVerOf(this.getVersionTag());
-        Version v2 = VersionIdentifier.semVerOf(other.getVersionTag());
-        if (v1 == null) {
-          return v2 == null ? 0 : -1;
-        }
-        return v1.compareTo(v2);
-      }
-
-      public boolean equals(Object other) {
-        if (other == null) {
-          return false;
-        }
-        if (other instanceof KeyIdentifier) {
-          KeyIdentifier otherkey = (KeyIdentifier) other;
-          return this.getUuid().equals(otherkey.getUuid())
-              && this.getVersionHash() == otherkey.getVersionHash();
-        }
-        if (other instanceof SemanticIdentifier) {
-          SemanticIdentifier otherId = (SemanticIdentifier) other;
-          return this.getUuid().equals(otherId.getUuid())
-              && this.getVersionHash() == otherId.getVersionTag().hashCode();
-        }
-        return false;
-      }
-
-      public int hashCode() {
-        int result = 31 + getUuid().hashCode();
-        return 31 * result + getVersionHash();
-      }
-
-      public String toString() {
-        return id + " # " + getVersionTag();
-      }
-    };
+    return new KeyIdentifierImpl(getUuid(), getVersionTag());
   }
 
   /**
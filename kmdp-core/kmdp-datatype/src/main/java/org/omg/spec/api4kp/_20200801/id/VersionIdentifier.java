@@ -3,58 +3,35 @@ package org.omg.spec.api4kp._20200801.id;
 
 import static edu.mayo.kmdp.registry.Registry.DID_URN;
 import static edu.mayo.kmdp.registry.Registry.DID_URN_URI;
-import static org.omg.spec.api4kp._20200801.id.IdentifierConstants.SEMVER_FULL;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.github.zafarkhaja.semver.UnexpectedCharacterException;
 import com.github.zafarkhaja.semver.Version;
-import edu.mayo.kmdp.util.DateTimeUtil;
 import java.net.URI;
-import java.util.regex.Matcher;
 
 /**
  * Handle versionIdentifier data.
  */
 public interface VersionIdentifier extends Identifier {
 
+  /**
+   * Rewrites a version tag into a semantic version string: 'major' and 'major.minor' tags are
+   * completed, while tags that cannot be interpreted are treated as pre-releases of 0.0.0
+   *
+   * @param versionTag a version tag
+   * @return the semantic version string
+   */
   static String toSemVer(String versionTag) {
-    if (versionTag == null) {
-      return null;
-    }
-    Matcher matcher = IdentifierConstants.SEMVER_FULL.matcher(versionTag);
-    if (matcher.matches()) {
-      return versionTag;
-    }
-    if (versionTag.matches("\\d+")) {
-      return Version.forIntegers(Integer.parseInt(versionTag)).toString();
-    }
-    if (versionTag.matches("(\\d+)\\.(\\d+)")) {
-      int idx = versionTag.indexOf('.');
-      return Version.forIntegers(
-              Integer.parseInt(versionTag.substring(0, idx)),
-              Integer.parseInt(versionTag.substring(idx + 1)))
-          .toString();
-    }
-    int dashIdx = versionTag.indexOf('-');
-    if (dashIdx >= 0) {
-      return toSemVer(versionTag.substring(0, dashIdx)) + "-" + versionTag.substring(dashIdx + 1);
-    }
-    return IdentifierConstants.VERSION_ZERO + "-" + versionTag;
+    return VersionTagParser.toSemVer(versionTag);
   }
 
+  /**
+   * @param versionTag a version tag
+   * @return the semantic version denoted by the version tag, or null if the tag cannot be mapped
+   * to a semantic version
+   * @see VersionTagParser
+   */
   static Version semVerOf(String versionTag) {
-    if (versionTag == null) {
-      return null;
-    }
-    try {
-      return Version.valueOf(versionTag);
-    } catch (UnexpectedCharacterException ue) {
-      try {
-        return Version.valueOf(toSemVer(versionTag));
-      } catch (Exception e) {
-        return null;
-      }
-    }
+    return VersionTagParser.semVerOf(versionTag);
   }
 
   static Version semVerOf(VersionIdentifier vid) {
@@ -127,18 +104,7 @@ public interface VersionIdentifier extends Identifier {
    * @return
    */
   static VersionTagType detectVersionTag(String versionTag) {
-    Matcher matcher = SEMVER_FULL.matcher(versionTag);
-    if (matcher.matches()) {
-      return VersionTagType.SEM_VER;
-    }
-    if (versionTag.matches("\\d+")) {
-      return VersionTagType.SEQUENTIAL;
-    }
-    if (DateTimeUtil.validateDate(versionTag)) {
-      return VersionTagType.TIMESTAMP;
-    } else {
-      return VersionTagType.GENERIC;
-    }
+    return VersionTagParser.detect(versionTag);
   }
 
   /**
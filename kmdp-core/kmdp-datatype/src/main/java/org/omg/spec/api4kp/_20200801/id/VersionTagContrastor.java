@@ -47,8 +47,8 @@ public class VersionTagContrastor extends Contrastor<String> {
 
     switch (tagType) {
       case SEM_VER:
-        Version sv1 = Version.valueOf(v1);
-        Version sv2 = Version.valueOf(v2);
+        Version sv1 = VersionTagParser.semVerOf(v1);
+        Version sv2 = VersionTagParser.semVerOf(v2);
         return sv1.compareWithBuildsTo(sv2);
       case TIMESTAMP:
         return parseDateTime(v1).compareTo(parseDateTime(v2));
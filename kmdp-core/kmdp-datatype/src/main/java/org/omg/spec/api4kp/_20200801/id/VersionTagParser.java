@@ -0,0 +1,296 @@
+package org.omg.spec.api4kp._20200801.id;
+
+import static org.omg.spec.api4kp._20200801.id.IdentifierConstants.VERSION_ZERO;
+
+import com.github.zafarkhaja.semver.Version;
+import edu.mayo.kmdp.util.DateTimeUtil;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classifies version tags ({@link VersionTagType}), and maps them to semantic versions.
+ * <p>
+ * Version tags are compared, sorted and classified very frequently, and the set of distinct tags
+ * in use is usually small. Tags are thus scanned by hand, without regular expressions, and
+ * {@link Version#valueOf(String)} is only invoked on strings that are known to be valid, so that
+ * no exception is thrown (and caught) in the process. The outcome is cached by tag: the cache is
+ * bounded, and simply reset when full.
+ * <p>
+ * The semantics are the ones of {@link VersionIdentifier#detectVersionTag(String)} and
+ * {@link VersionIdentifier#semVerOf(String)}, which delegate to this class.
+ */
+public final class VersionTagParser {
+
+  private static final int MAX_CACHE_SIZE = 16 * 1024;
+
+  private static final int NO_MATCH = 0;
+  private static final int MATCH = 1;
+  private static final int MATCH_OVERFLOW = 2;
+
+  private static final String MAX_INT = Integer.toString(Integer.MAX_VALUE);
+
+  private static final Map<String, ParsedTag> cache = new ConcurrentHashMap<>();
+
+  private VersionTagParser() {
+    // static functions only
+  }
+
+  /**
+   * @param versionTag a version tag
+   * @return the format of the version tag
+   */
+  public static VersionTagType detect(String versionTag) {
+    return parse(versionTag).type;
+  }
+
+  /**
+   * @param versionTag a version tag
+   * @return the semantic version denoted by the version tag, or null if the tag cannot be mapped
+   * to a semantic version
+   */
+  public static Version semVerOf(String versionTag) {
+    return versionTag != null ? parse(versionTag).version : null;
+  }
+
+  /**
+   * Evicts all the cached tags. Mostly intended for testing purposes.
+   */
+  public static void clear() {
+    cache.clear();
+  }
+
+  /**
+   * @return the number of tags currently cached
+   */
+  public static int size() {
+    return cache.size();
+  }
+
+
+  private static ParsedTag parse(String versionTag) {
+    ParsedTag parsed = cache.get(versionTag);
+    if (parsed == null) {
+      parsed = new ParsedTag(versionTag);
+      if (cache.size() >= MAX_CACHE_SIZE) {
+        cache.clear();
+      }
+      cache.put(versionTag, parsed);
+    }
+    return parsed;
+  }
+
+  /**
+   * Rewrites a tag into a semantic version string, as per {@link VersionIdentifier#toSemVer(String)}
+   *
+   * @param versionTag a version tag
+   * @return the semantic version string
+   */
+  static String toSemVer(String versionTag) {
+    if (versionTag == null) {
+      return null;
+    }
+    if (scanSemVer(versionTag) != NO_MATCH) {
+      return versionTag;
+    }
+    int dashIdx = versionTag.indexOf('-');
+    String core = dashIdx >= 0 ? versionTag.substring(0, dashIdx) : versionTag;
+    String semVer = coreToSemVer(core);
+    if (dashIdx < 0) {
+      return semVer != null ? semVer : VERSION_ZERO + "-" + versionTag;
+    }
+    return (semVer != null ? semVer : VERSION_ZERO + "-" + core)
+        + "-" + versionTag.substring(dashIdx + 1);
+  }
+
+  /**
+   * Rewrites 'major', 'major.minor' and (dash-free) 'major.minor.patch' tags
+   *
+   * @return the semantic version string, or null if not applicable
+   */
+  private static String coreToSemVer(String core) {
+    if (scanSemVer(core) != NO_MATCH) {
+      return core;
+    }
+    int len = core.length();
+    int dotIdx = -1;
+    for (int j = 0; j < len; j++) {
+      char c = core.charAt(j);
+      if (c == '.' && dotIdx < 0 && j > 0 && j < len - 1) {
+        dotIdx = j;
+      } else if (!isDigit(c)) {
+        return null;
+      }
+    }
+    if (len == 0) {
+      return null;
+    }
+    return dotIdx < 0
+        ? stripZeros(core, 0, len) + ".0.0"
+        : stripZeros(core, 0, dotIdx) + "." + stripZeros(core, dotIdx + 1, len) + ".0";
+  }
+
+  /**
+   * Matches the SemVer 2.0 grammar (see {@link IdentifierConstants#SEMVER_FULL})
+   *
+   * @return NO_MATCH, MATCH, or MATCH_OVERFLOW if the tag is well formed, but a version number
+   * exceeds the range of an int
+   */
+  private static int scanSemVer(String s) {
+    int len = s.length();
+    int i = 0;
+    boolean overflow = false;
+    for (int n = 0; n < 3; n++) {
+      int start = i;
+      while (i < len && isDigit(s.charAt(i))) {
+        i++;
+      }
+      if (i == start || (s.charAt(start) == '0' && i - start > 1)) {
+        return NO_MATCH;
+      }
+      overflow |= !fitsInt(s, start, i);
+      if (n < 2) {
+        if (i >= len || s.charAt(i) != '.') {
+          return NO_MATCH;
+        }
+        i++;
+      }
+    }
+    if (i < len && s.charAt(i) == '-') {
+      i = scanIdentifiers(s, i + 1, true);
+      if (i < 0) {
+        return NO_MATCH;
+      }
+    }
+    if (i < len && s.charAt(i) == '+') {
+      i = scanIdentifiers(s, i + 1, false);
+      if (i < 0) {
+        return NO_MATCH;
+      }
+    }
+    if (i != len) {
+      return NO_MATCH;
+    }
+    return overflow ? MATCH_OVERFLOW : MATCH;
+  }
+
+  /**
+   * Scans a non-empty, dot-separated list of [0-9a-zA-Z-] identifiers. Numeric pre-release
+   * identifiers must not have leading zeros.
+   *
+   * @return the index after the last identifier, or -1 if not well formed
+   */
+  private static int scanIdentifiers(String s, int from, boolean preRelease) {
+    int len = s.length();
+    int i = from;
+    while (true) {
+      int start = i;
+      boolean numeric = true;
+      while (i < len) {
+        char c = s.charAt(i);
+        if (isDigit(c)) {
+          i++;
+        } else if (isLetter(c) || c == '-') {
+          numeric = false;
+          i++;
+        } else {
+          break;
+        }
+      }
+      if (i == start
+          || (preRelease && numeric && s.charAt(start) == '0' && i - start > 1)) {
+        return -1;
+      }
+      if (i < len && s.charAt(i) == '.') {
+        i++;
+      } else {
+        return i;
+      }
+    }
+  }
+
+  private static boolean isAllDigits(String s) {
+    int len = s.length();
+    if (len == 0) {
+      return false;
+    }
+    for (int j = 0; j < len; j++) {
+      if (!isDigit(s.charAt(j))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Necessary (but not sufficient) condition for an ISO local date, i.e. [+-]yyyy-MM-dd
+   */
+  private static boolean isDateLike(String s) {
+    int len = s.length();
+    int i = 0;
+    if (len > 0 && (s.charAt(0) == '+' || s.charAt(0) == '-')) {
+      i++;
+    }
+    int start = i;
+    while (i < len && isDigit(s.charAt(i))) {
+      i++;
+    }
+    return i - start >= 4
+        && len - i == 6
+        && s.charAt(i) == '-' && isDigit(s.charAt(i + 1)) && isDigit(s.charAt(i + 2))
+        && s.charAt(i + 3) == '-' && isDigit(s.charAt(i + 4)) && isDigit(s.charAt(i + 5));
+  }
+
+  private static boolean fitsInt(String s, int from, int to) {
+    while (from < to - 1 && s.charAt(from) == '0') {
+      from++;
+    }
+    int digits = to - from;
+    return digits < MAX_INT.length()
+        || (digits == MAX_INT.length() && s.substring(from, to).compareTo(MAX_INT) <= 0);
+  }
+
+  private static String stripZeros(String s, int from, int to) {
+    while (from < to - 1 && s.charAt(from) == '0') {
+      from++;
+    }
+    return s.substring(from, to);
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+
+  /**
+   * The (immutable) outcome of parsing a tag
+   */
+  private static final class ParsedTag {
+
+    private final VersionTagType type;
+    private final Version version;
+
+    private ParsedTag(String tag) {
+      int semVer = scanSemVer(tag);
+      if (semVer != NO_MATCH) {
+        this.type = VersionTagType.SEM_VER;
+        this.version = semVer == MATCH ? Version.valueOf(tag) : null;
+        return;
+      }
+
+      if (isAllDigits(tag)) {
+        this.type = VersionTagType.SEQUENTIAL;
+      } else if (isDateLike(tag) && DateTimeUtil.validateDate(tag)) {
+        this.type = VersionTagType.TIMESTAMP;
+      } else {
+        this.type = VersionTagType.GENERIC;
+      }
+
+      String normalized = toSemVer(tag);
+      this.version = scanSemVer(normalized) == MATCH ? Version.valueOf(normalized) : null;
+    }
+  }
+}
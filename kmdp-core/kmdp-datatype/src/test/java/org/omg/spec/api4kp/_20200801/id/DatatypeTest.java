@@ -22,8 +22,11 @@ import static edu.mayo.kmdp.registry.Registry.REGISTRY_URI;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.omg.spec.api4kp._20200801.id.IdentifierConstants.VERSIONS;
 import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newId;
 import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newIdAsPointer;
@@ -497,6 +500,26 @@ public class DatatypeTest {
     assertNotEquals(id1.asKey(), id3.asKey());
   }
 
+  @Test
+  void testMemoizedKeyIdentifiers() {
+    ResourceIdentifier rid = newId("thisId", "1.0.0");
+    KeyIdentifier k1 = rid.asKey();
+    assertSame(k1, rid.asKey());
+    assertEquals(SemanticIdentifier.newKey(rid.getUuid(), "1.0.0"), k1);
+    assertEquals(SemanticIdentifier.newKey(rid.getUuid(), "1.0.0").hashCode(), k1.hashCode());
+
+    rid.setVersionTag("2.0.0");
+    KeyIdentifier k2 = rid.asKey();
+    assertNotSame(k1, k2);
+    assertEquals("2.0.0", k2.getVersionTag());
+    assertTrue(k1.compareTo(k2) < 0);
+    assertTrue(k2.compareTo(k1) > 0);
+
+    KeyIdentifier latest = SemanticIdentifier.newKey(rid.getUuid(), null);
+    assertEquals(SemanticIdentifier.newKey(rid.getUuid(), null), latest);
+    assertNull(latest.getVersionTag());
+  }
+
   @Test
   void testVersionedUriWithQualifiedVersions() {
     URI uri = URI.create("http://foo.bar/blah/test/123/versions/2131");
@@ -604,4 +627,28 @@ public class DatatypeTest {
     ResourceIdentifier nsId = SemanticIdentifier.newNamespaceId(uri);
     assertEquals("urn:uuid", nsId.getResourceId().toString());
   }
+
+  @Test
+  void testVersionTagParser() {
+    assertEquals(VersionTagType.SEM_VER, VersionIdentifier.detectVersionTag("1.0.0-SNAPSHOT"));
+    assertEquals(VersionTagType.SEQUENTIAL, VersionIdentifier.detectVersionTag("42"));
+    assertEquals(VersionTagType.TIMESTAMP, VersionIdentifier.detectVersionTag("2020-03-20"));
+    assertEquals(VersionTagType.GENERIC, VersionIdentifier.detectVersionTag("2020-13-40"));
+    assertEquals(VersionTagType.GENERIC, VersionIdentifier.detectVersionTag("01.0.0"));
+
+    assertEquals(Version.valueOf("1.2.3-rc.1+b01"), VersionIdentifier.semVerOf("1.2.3-rc.1+b01"));
+    assertEquals(Version.valueOf("42.0.0"), VersionIdentifier.semVerOf("42"));
+    assertEquals(Version.valueOf("1.2.0-SNAPSHOT"), VersionIdentifier.semVerOf("1.2-SNAPSHOT"));
+    assertEquals(Version.valueOf("0.0.0-foo"), VersionIdentifier.semVerOf("foo"));
+    assertEquals("2020.0.0-03-20", VersionIdentifier.toSemVer("2020-03-20"));
+    // not representable
+    assertNull(VersionIdentifier.semVerOf("1.0.0-01"));
+    assertNull(VersionIdentifier.semVerOf("99999999999"));
+    assertNull(VersionIdentifier.semVerOf((String) null));
+
+    VersionTagParser.clear();
+    Version v = VersionIdentifier.semVerOf("3.1.4");
+    assertSame(v, VersionIdentifier.semVerOf("3.1.4"));
+    assertEquals(1, VersionTagParser.size());
+  }
 }
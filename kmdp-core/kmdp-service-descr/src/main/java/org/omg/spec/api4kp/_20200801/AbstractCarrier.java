@@ -24,14 +24,13 @@ import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSe
 
 import com.fasterxml.jackson.databind.JsonNode;
 import edu.mayo.kmdp.util.FileUtil;
-import edu.mayo.kmdp.util.JSonUtil;
 import edu.mayo.kmdp.util.StreamUtil;
-import edu.mayo.kmdp.util.XMLUtil;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -74,6 +73,13 @@ public interface AbstractCarrier {
         .withLevel(Encoded_Knowledge_Expression);
   }
 
+  static KnowledgeCarrier ofPath(Path path) {
+    return new org.omg.spec.api4kp._20200801.services.KnowledgeCarrier()
+        .withAssetId(randomId())
+        .withExpression(FileExpression.of(path))
+        .withLevel(Encoded_Knowledge_Expression);
+  }
+
   static KnowledgeCarrier of(String serialized) {
     return new org.omg.spec.api4kp._20200801.services.KnowledgeCarrier()
         .withAssetId(randomId())
@@ -127,6 +133,26 @@ public interface AbstractCarrier {
         .withRepresentation(rep);
   }
 
+  /**
+   * Creates a Carrier for a (binary) artifact stored in a file, which is read on demand,
+   * rather than loaded in memory
+   *
+   * @param path the path to the file
+   * @param rep the Representation of the artifact
+   * @return a Carrier backed by the file
+   * @see FileExpression
+   */
+  static KnowledgeCarrier ofPath(Path path, SyntacticRepresentation rep) {
+    if (rep.getCharset() == null) {
+      rep.withCharset(Charset.defaultCharset().name());
+    }
+    if (rep.getEncoding() == null) {
+      rep.withEncoding(Encodings.DEFAULT.name());
+    }
+    return ofPath(path)
+        .withRepresentation(rep);
+  }
+
   static KnowledgeCarrier of(String serialized, SyntacticRepresentation rep) {
     if (rep.getCharset() == null) {
       rep.withCharset(Charset.defaultCharset().name());
@@ -195,10 +221,7 @@ public interface AbstractCarrier {
       ResourceIdentifier id, CompositeKnowledgeCarrier ckc) {
     return Optional.ofNullable(id)
         .map(SemanticIdentifier::asKey)
-        .flatMap(key -> ckc.getComponent().stream()
-            .filter(kc -> kc.getAssetId() != null)
-            .filter(kc -> kc.getAssetId().asKey().equals(key))
-            .findFirst());
+        .flatMap(key -> ckc.componentIndex().get(key));
   }
 
   default KnowledgeCarrier mainComponent() {
@@ -229,9 +252,8 @@ public interface AbstractCarrier {
 
   default <T> Optional<T> componentAs(SemanticIdentifier id, Class<T> klass) {
     if (this instanceof CompositeKnowledgeCarrier) {
-      return ((CompositeKnowledgeCarrier) this).getComponent().stream()
-          .filter(kc -> kc.getAssetId().asKey().equals(id.asKey()))
-          .findFirst()
+      return ((CompositeKnowledgeCarrier) this).componentIndex()
+          .get(id.asKey())
           .flatMap(kc -> kc.as(klass));
     } else {
       return this.as(klass);
@@ -535,54 +557,61 @@ public interface AbstractCarrier {
    * @return An optional 'toString' representation of the carried Knowledge Artifact
    */
   default Optional<String> asString() {
-    if (this.getExpression() == null) {
-      return Optional.empty();
-    }
-    if (this.getExpression() instanceof byte[]) {
-      return Optional.of(new String((byte[]) this.getExpression()));
-    }
-    if (this.getExpression() instanceof Document) {
-      var dox = (Document) getExpression();
-      if (dox.getDocumentElement() == null) {
-        return Optional.of("");
-      }
-      var baos = new ByteArrayOutputStream();
-      XMLUtil.streamXMLNode(dox, baos);
-      return Optional.of(baos.toString());
-    }
-    if (this.getExpression() instanceof JsonNode) {
-      return JSonUtil.writeJsonAsString(this.getExpression());
-    }
-    if (this.getExpression() instanceof String) {
-      String s = (String) this.getExpression();
-      if (Encoded_Knowledge_Expression.sameAs(this.getLevel())) {
-        s = new String(Base64.getDecoder().decode(s));
-      }
-      return Optional.ofNullable(s);
-    }
-    return Optional.of(this.getExpression().toString());
+    return expressionViews().asString();
   }
 
+  /**
+   * Attempts to return a binary representation of the carried Knowledge.
+   *  - Returns the Artifact if already encoded
+   *  - Decodes Base64 encoded Strings, and encodes serialized Strings
+   *
+   * Strings are encoded using the Charset declared by the Representation, if any.
+   * The returned array may be shared, and should not be modified
+   *
+   * @return An optional binary representation of the carried Knowledge Artifact
+   * @throws IllegalStateException if the Artifact is neither binary nor a String
+   */
   default Optional<byte[]> asBinary() {
-    if (this.getExpression() == null) {
-      return Optional.empty();
-    }
-    if (this.getExpression() instanceof byte[]) {
-      return Optional.of((byte[]) this.getExpression());
-    }
-    if (this.getExpression() instanceof String) {
-      switch (ParsingLevelSeries.asEnum(getLevel())) {
-        case Encoded_Knowledge_Expression:
-          return Optional.ofNullable(Base64.getDecoder().decode((String) getExpression()));
-        case Serialized_Knowledge_Expression:
-          return Optional.of(((String) getExpression()).getBytes());
-        default:
-      }
-    }
-    throw new IllegalStateException("Unexpected String Expression at level " + getLevel().getLabel());
+    return expressionViews().asBinary();
+  }
+
+  /**
+   * Streams a binary representation of the carried Knowledge, without (re)building
+   * intermediate copies of the Artifact where possible.
+   *
+   * @param out the stream to write to. The stream is flushed, but not closed
+   * @return false if there is no Artifact to write
+   * @throws IOException if writing to the stream fails
+   */
+  default boolean writeTo(OutputStream out) throws IOException {
+    return expressionViews().writeTo(out);
+  }
+
+  /**
+   * @return a stream of the binary representation of the carried Knowledge, if any
+   * @see #writeTo(OutputStream)
+   */
+  default Optional<InputStream> asInputStream() {
+    return expressionViews().asInputStream();
+  }
+
+  /**
+   * Exposes String and binary views of the carried Knowledge, which (de)serialize the
+   * Artifact according to the Charset of the Representation.
+   *
+   * Implementations are expected to cache the views, and rebuild them when the Artifact,
+   * its Level or Representation change.
+   * This default implementation builds new views on each invocation
+   *
+   * @return views on the carried Knowledge Artifact
+   */
+  default ExpressionViews expressionViews() {
+    return ExpressionViews.of(getExpression(), getLevel(), getRepresentation());
   }
 
   Object getExpression();
 
   ParsingLevel getLevel();
+
+  SyntacticRepresentation getRepresentation();
 }
@@ -1,7 +1,6 @@
 package org.omg.spec.api4kp._20200801;
 
 import static edu.mayo.kmdp.registry.Registry.KNOWLEDGE_ASSET_URI;
-import static edu.mayo.kmdp.util.JenaUtil.objA;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
 import static org.omg.spec.api4kp._20200801.contrastors.SyntacticRepresentationContrastor.theRepContrastor;
@@ -15,10 +14,10 @@ import static org.omg.spec.api4kp._20200801.services.CompositeStructType.SET;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.Turtle;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Serialized_Knowledge_Expression;
 import static org.omg.spec.api4kp._20200801.taxonomy.structuralreltype.StructuralPartTypeSeries.Has_Structural_Component;
 import static org.omg.spec.api4kp._20200801.taxonomy.structuralreltype.StructuralPartTypeSeries.Has_Structuring_Component;
 
-import edu.mayo.kmdp.util.JenaUtil;
 import edu.mayo.kmdp.util.Util;
 import java.net.URI;
 import java.util.Arrays;
@@ -26,15 +25,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.vocabulary.RDF;
 import org.omg.spec.api4kp._20200801.contrastors.ParsingLevelContrastor;
 import org.omg.spec.api4kp._20200801.id.Link;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
-import org.omg.spec.api4kp._20200801.id.SemanticIdentifier;
 import org.omg.spec.api4kp._20200801.services.CompositeKnowledgeCarrier;
 import org.omg.spec.api4kp._20200801.services.CompositeStructType;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
@@ -43,6 +41,17 @@ import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
 
 public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarrier, KnowledgeCarrier, CompositeKnowledgeCarrier> {
 
+  /**
+   * Indexes the components of this Composite by Asset Id.
+   *
+   * Implementations are expected to cache the index, and rebuild it when the components change.
+   * This default implementation builds a new index on each invocation
+   *
+   * @return an index of the components of this Composite
+   */
+  default ComponentIndex componentIndex() {
+    return ComponentIndex.of(getComponent());
+  }
 
   /* *********************************************************************************
    *  Named Composites
@@ -96,6 +105,59 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
         components.values());
   }
 
+  /**
+   * Parallel variant of
+   * {@link #ofUniformNamedComposite(ResourceIdentifier, ResourceIdentifier, ResourceIdentifier,
+   * String, CompositeStructType, KnowledgeCarrier, Collection, SyntacticRepresentation, Function,
+   * Function, Function)}
+   *
+   * Wraps the components, and checks the consistency of their representations, using the given
+   * Executor. The outcome is the same as the one of the sequential variant
+   *
+   * @param assetId The ID of the composite Asset
+   * @param artifactId The ID of the composite Artifact.- used to reference a (flat)
+   *                   manifestation of the Asset, which could be inlined
+   * @param rootId  The optional ID of a 'root' component, which may coincide with the Asset itself
+   * @param name A human readable label associated to the Composite Asset
+   * @param structType The topology of the Composite
+   * @param struct The Structure of the Composite
+   * @param artifacts The components
+   * @param rep the common SyntacticReprsentation
+   * @param assetIdentificator A (thread safe) function that assigns an AssetId to each Expression
+   * @param artifactidentificator A (thread safe) function that assigns an ArtifactId to each
+   *                              Expression
+   * @param assetLabeler A (thread safe) function that assigns a name/label to each Expression
+   * @param executor The Executor (e.g. a ForkJoinPool) used to process the components
+   * @param <T> the Type of the component Expressions
+   * @return The named Composite Carrier
+   */
+  static <T> CompositeKnowledgeCarrier ofUniformNamedComposite(
+      ResourceIdentifier assetId,
+      ResourceIdentifier artifactId,
+      ResourceIdentifier rootId,
+      String name,
+      CompositeStructType structType,
+      KnowledgeCarrier struct,
+      Collection<T> artifacts,
+      SyntacticRepresentation rep,
+      Function<T, ResourceIdentifier> assetIdentificator,
+      Function<T, ResourceIdentifier> artifactidentificator,
+      Function<T, String> assetLabeler,
+      Executor executor) {
+    Map<ResourceIdentifier, KnowledgeCarrier> components =
+        wrapComponents(artifacts, rep, assetIdentificator, artifactidentificator, assetLabeler,
+            executor)
+            .stream()
+            .collect(Collectors.toMap(
+                KnowledgeCarrier::getAssetId,
+                kc -> kc
+            ));
+    return addUniformRepresentation(
+        ofNamedComposite(assetId, artifactId, rootId, name, structType, struct, components),
+        components.values(),
+        executor);
+  }
+
   /**
    * Creates a Composite Knowledge Carrier for a named Composite Knowledge Resource,
    * using the Identifiers and the Structure provided by the client
@@ -402,6 +464,31 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
         ofAnonymous(rootId, struct, structType, artifacts), artifacts);
   }
 
+  /**
+   * Parallel variant of
+   * {@link #ofUniformAnonymousComposite(ResourceIdentifier, KnowledgeCarrier,
+   * CompositeStructType, Collection)}
+   *
+   * Checks the consistency of the components' representations using the given Executor.
+   * The outcome is the same as the one of the sequential variant
+   *
+   * @param rootId The ID of the 'root' component
+   * @param struct An explicitly provided struct for the new Composite
+   * @param structType The topology of the component's structure
+   * @param artifacts The artifacts to be aggregated into the composite
+   * @param executor The Executor (e.g. a ForkJoinPool) used to process the components
+   * @return An Anonymous Composite Knowledge Carrier
+   */
+  static CompositeKnowledgeCarrier ofUniformAnonymousComposite(
+      ResourceIdentifier rootId,
+      KnowledgeCarrier struct,
+      CompositeStructType structType,
+      Collection<KnowledgeCarrier> artifacts,
+      Executor executor) {
+    return addUniformRepresentation(
+        ofAnonymous(rootId, struct, structType, artifacts), artifacts, executor);
+  }
+
 
   /**
    * Creates an Anonymous Composite Knowledge Carrier from a set of Knowledge Artifacts
@@ -465,6 +552,42 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
     return ofUniformAnonymousComposite(rootId, struct, structType, components);
   }
 
+  /**
+   * Parallel variant of
+   * {@link #ofUniformAnonymousComposite(ResourceIdentifier, Collection, SyntacticRepresentation,
+   * KnowledgeCarrier, CompositeStructType, Function, Function, Function)}
+   *
+   * Wraps the components, and checks the consistency of their representations, using the given
+   * Executor. The outcome is the same as the one of the sequential variant
+   *
+   * @param rootId The ID of the 'root' component
+   * @param artifacts The artifacts to be aggregated into the composite
+   * @param rep the common SyntacticReprsentation
+   * @param struct An explicitly provided struct for the new Composite
+   * @param structType The topology of the component's structure
+   * @param assetIdentificator A (thread safe) function that assigns an AssetId to each Expression
+   * @param artifactidentificator A (thread safe) function that assigns an ArtifactId to each
+   *                              Expression
+   * @param assetLabeler A (thread safe) function that assigns a name/label to each Expression
+   * @param executor The Executor (e.g. a ForkJoinPool) used to process the components
+   * @return An Anonymous Composite Knowledge Carrier
+   */
+  static <T> CompositeKnowledgeCarrier ofUniformAnonymousComposite(
+      ResourceIdentifier rootId,
+      Collection<T> artifacts,
+      SyntacticRepresentation rep,
+      KnowledgeCarrier struct,
+      CompositeStructType structType,
+      Function<T, ResourceIdentifier> assetIdentificator,
+      Function<T, ResourceIdentifier> artifactidentificator,
+      Function<T, String> assetLabeler,
+      Executor executor) {
+    List<KnowledgeCarrier> components =
+        wrapComponents(artifacts, rep, assetIdentificator, artifactidentificator, assetLabeler,
+            executor);
+    return ofUniformAnonymousComposite(rootId, struct, structType, components, executor);
+  }
+
 
   /**
    * Instantiates a CompositeKnowledgeCarrier for an 'anonymous' composite,
@@ -540,6 +663,26 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
         artifacts);
   }
 
+  /**
+   * Parallel variant of {@link #ofUniformAggregate(Collection)}
+   *
+   * Checks the consistency of the components' representations using the given Executor.
+   * The outcome is the same as the one of the sequential variant
+   *
+   * @param artifacts The artifacts to be aggregated
+   * @param executor The Executor (e.g. a ForkJoinPool) used to process the components
+   * @return An Aggregate Knowledge Carrier
+   * @throws IllegalArgumentException if the artifacts do not have equivalent Representations
+   */
+  static CompositeKnowledgeCarrier ofUniformAggregate(
+      Collection<KnowledgeCarrier> artifacts,
+      Executor executor) {
+    return addUniformRepresentation(
+        ofAggregate(artifacts),
+        artifacts,
+        executor);
+  }
+
   /**
    * Creates an Uniform, Aggregate Knowledge Carrier from a set of Knowledge Expressions
    * An Aggregate has multiple components, but does not have a root nor a structure,
@@ -565,6 +708,36 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
     return ofUniformAggregate(components);
   }
 
+  /**
+   * Parallel variant of
+   * {@link #ofUniformAggregate(Collection, SyntacticRepresentation, Function, Function, Function)}
+   *
+   * Wraps the components, and checks the consistency of their representations, using the given
+   * Executor. The outcome is the same as the one of the sequential variant
+   *
+   * @param artifacts The Expressions to be aggregated
+   * @param rep the common Syntactic Representation
+   * @param assetIdentificator A (thread safe) function that assigns an AssetId to each Expression
+   * @param artifactidentificator A (thread safe) function that assigns an ArtifactId to each
+   *                              Expression
+   * @param assetLabeler A (thread safe) function that assigns a name/label to each Expression
+   * @param executor The Executor (e.g. a ForkJoinPool) used to process the components
+   *
+   * @return An Aggregate Knowledge Carrier
+   */
+  static <T> CompositeKnowledgeCarrier ofUniformAggregate(
+      Collection<T> artifacts,
+      SyntacticRepresentation rep,
+      Function<T, ResourceIdentifier> assetIdentificator,
+      Function<T, ResourceIdentifier> artifactidentificator,
+      Function<T, String> assetLabeler,
+      Executor executor)  {
+    List<KnowledgeCarrier> components =
+        wrapComponents(artifacts, rep, assetIdentificator, artifactidentificator, assetLabeler,
+            executor);
+    return ofUniformAggregate(components, executor);
+  }
+
   private static CompositeKnowledgeCarrier ofAggregate(
       Collection<KnowledgeCarrier> artifacts) {
     return newCompositeKnowledgeCarrier(
@@ -585,21 +758,54 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
    *  Helper functions
    * ******************************************************************************** */
 
+  /**
+   * Infers a SET-oriented Struct, serialized to Turtle
+   *
+   * @see #inferSetStruct(ResourceIdentifier, ResourceIdentifier, Function, Collection, boolean)
+   */
   static <T> KnowledgeCarrier inferSetStruct(
       ResourceIdentifier assetId,
       ResourceIdentifier structId,
       Function<T,ResourceIdentifier> assetIdentifier,
       Collection<T> artifacts) {
+    return inferSetStruct(assetId, structId, assetIdentifier, artifacts, false);
+  }
+
+  /**
+   * Infers a SET-oriented Struct
+   *
+   * @param assetId the ID of the composite Asset
+   * @param structId the ID of the Struct
+   * @param assetIdentifier A function that assigns an AssetId to each component
+   * @param artifacts the components
+   * @param deferred if true, the Struct Expression is a {@link StructGraph}, which is only
+   *                 serialized on demand. If false, the Struct Expression is a Turtle String
+   * @param <T> the Type of the components
+   * @return a Struct KnowledgeCarrier
+   */
+  static <T> KnowledgeCarrier inferSetStruct(
+      ResourceIdentifier assetId,
+      ResourceIdentifier structId,
+      Function<T,ResourceIdentifier> assetIdentifier,
+      Collection<T> artifacts,
+      boolean deferred) {
     return inferStruct(
         assetId,
         null,
         structId,
         x -> Collections.emptyList(),
         assetIdentifier,
-        artifacts
+        artifacts,
+        deferred
     );
   }
 
+  /**
+   * Infers the Struct of a Composite, serialized to Turtle
+   *
+   * @see #inferStruct(ResourceIdentifier, ResourceIdentifier, ResourceIdentifier, Function,
+   * Function, Collection, boolean)
+   */
   static <T> KnowledgeCarrier inferStruct(
       ResourceIdentifier assetId,
       ResourceIdentifier rootId,
@@ -607,29 +813,68 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
       Function<T, Collection<? extends Link>> visitor,
       Function<T,ResourceIdentifier> assetIdentifier,
       Collection<T> components) {
+    return inferStruct(assetId, rootId, structId, visitor, assetIdentifier, components, false);
+  }
+
+  /**
+   * Infers the Struct of a Composite, linking the Composite to its components, and the 'root'
+   * component (if any) to the components it is related to
+   *
+   * @param assetId the ID of the composite Asset
+   * @param rootId the optional ID of the 'root' component
+   * @param structId the ID of the Struct
+   * @param visitor A function that determines the relationships of the 'root' component
+   * @param assetIdentifier A function that assigns an AssetId to each component
+   * @param components the components
+   * @param deferred if true, the Struct Expression is a {@link StructGraph}, which is only
+   *                 serialized on demand. If false, the Struct Expression is a Turtle String
+   * @param <T> the Type of the components
+   * @return a Struct KnowledgeCarrier, with an (OWL2, Turtle, TXT) representation
+   */
+  static <T> KnowledgeCarrier inferStruct(
+      ResourceIdentifier assetId,
+      ResourceIdentifier rootId,
+      ResourceIdentifier structId,
+      Function<T, Collection<? extends Link>> visitor,
+      Function<T,ResourceIdentifier> assetIdentifier,
+      Collection<T> components,
+      boolean deferred) {
+    StructGraph graph =
+        inferStructGraph(assetId, rootId, structId, visitor, assetIdentifier, components);
+
+    KnowledgeCarrier struct = deferred
+        ? new KnowledgeCarrier()
+            .withExpression(graph)
+            .withLevel(Serialized_Knowledge_Expression)
+        : of(graph.toTurtle());
+    return
+        struct
+            .withAssetId(structId)
+            .withArtifactId(randomId())
+            .withRepresentation(rep(OWL_2, Turtle, TXT));
+  }
+
+  private static <T> StructGraph inferStructGraph(
+      ResourceIdentifier assetId,
+      ResourceIdentifier rootId,
+      ResourceIdentifier structId,
+      Function<T, Collection<? extends Link>> visitor,
+      Function<T,ResourceIdentifier> assetIdentifier,
+      Collection<T> components) {
     Map<ResourceIdentifier, T> artifacts =
         components.stream().collect(Collectors.toMap(
             assetIdentifier,
             x -> x));
 
-    List<Statement> structs =
-        artifacts.keySet().stream()
-            .flatMap(
-                component -> Stream.of(
-                    objA(
-                        assetId.getVersionId(),
-                        Has_Structural_Component.getReferentId(),
-                        component.getVersionId()),
-                    objA(
-                        assetId.getVersionId().toString(),
-                        RDF.type.getURI(),
-                        KNOWLEDGE_ASSET_URI),
-                    objA(
-                        component.getVersionId().toString(),
-                        RDF.type.getURI(),
-                        KNOWLEDGE_ASSET_URI)
-                ))
-            .collect(Collectors.toList());
+    StructGraph graph = new StructGraph();
+    URI compositeId = assetId.getVersionId();
+    if (!artifacts.isEmpty()) {
+      graph.add(compositeId.toString(), RDF.type.getURI(), KNOWLEDGE_ASSET_URI);
+    }
+    artifacts.keySet().forEach(
+        component -> graph
+            .add(compositeId, Has_Structural_Component.getReferentId(), component.getVersionId())
+            .add(component.getVersionId().toString(), RDF.type.getURI(), KNOWLEDGE_ASSET_URI));
 
     if (rootId != null && artifacts.containsKey(rootId)) {
       // Add Struct for relationships between Components
@@ -638,26 +883,18 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
               childLink -> {
                 URI rel = childLink.getRel().getReferentId();
                 URI versionId = childLink.getHrefVersionURI();
-                structs.add(
-                    objA(
-                        rootId.getVersionId().toString(), rel.toString(), versionId.toString()));
+                graph.add(rootId.getVersionId().toString(), rel.toString(), versionId.toString());
               });
     }
 
     if (structId != null) {
-      structs.add(objA(
-          assetId.getVersionId(),
+      graph.add(
+          compositeId,
           Has_Structuring_Component.getReferentId(),
-          structId.getVersionId()));
+          structId.getVersionId());
     }
 
-    // Create String and set Struct
-    String structString = JenaUtil.fromStatementsToString(structs);
-    return
-        of(structString)
-            .withAssetId(structId)
-            .withArtifactId(randomId())
-            .withRepresentation(rep(OWL_2, Turtle, TXT));
+    return graph;
   }
 
   private static CompositeKnowledgeCarrier newCompositeKnowledgeCarrier(
@@ -707,24 +944,58 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
       Function<T, String> assetLabeler) {
 
     return artifacts.stream()
-        .map(x -> x instanceof KnowledgeCarrier
-            ? (KnowledgeCarrier) x
-            : of(x, level)
-                .withRepresentation(rep)
-                .withAssetId(assetIdentificator.apply(x))
-                .withArtifactId(artifactIdentificator.apply(x))
-                .withLabel(assetLabeler.apply(x)));
+        .map(x -> wrapComponent(x, rep, level,
+            assetIdentificator, artifactIdentificator, assetLabeler));
+  }
+
+  private static <T> List<KnowledgeCarrier> wrapComponents(
+      Collection<T> artifacts,
+      SyntacticRepresentation rep,
+      Function<T, ResourceIdentifier> assetIdentificator,
+      Function<T, ResourceIdentifier> artifactIdentificator,
+      Function<T, String> assetLabeler,
+      Executor executor) {
+    ParsingLevel level = ParsingLevelContrastor.detectLevel(rep);
+    return ChunkedExecution.map(
+        artifacts,
+        x -> wrapComponent(x, rep, level,
+            assetIdentificator, artifactIdentificator, assetLabeler),
+        executor);
+  }
+
+  private static <T> KnowledgeCarrier wrapComponent(
+      T x,
+      SyntacticRepresentation rep,
+      ParsingLevel level,
+      Function<T, ResourceIdentifier> assetIdentificator,
+      Function<T, ResourceIdentifier> artifactIdentificator,
+      Function<T, String> assetLabeler) {
+    return x instanceof KnowledgeCarrier
+        ? (KnowledgeCarrier) x
+        : of(x, level)
+            .withRepresentation(rep)
+            .withAssetId(assetIdentificator.apply(x))
+            .withArtifactId(artifactIdentificator.apply(x))
+            .withLabel(assetLabeler.apply(x));
   }
 
   private static CompositeKnowledgeCarrier addUniformRepresentation(CompositeKnowledgeCarrier ckc,
       Collection<KnowledgeCarrier> artifacts) {
+    return addUniformRepresentation(ckc, artifacts, null);
+  }
+
+  private static CompositeKnowledgeCarrier addUniformRepresentation(CompositeKnowledgeCarrier ckc,
+      Collection<KnowledgeCarrier> artifacts,
+      Executor executor) {
     if (! artifacts.isEmpty()) {
       KnowledgeCarrier kc = artifacts.iterator().next();
       ParsingLevel level = ParsingLevelContrastor.detectLevel(kc);
       SyntacticRepresentation rep = kc.getRepresentation();
 
-      boolean consistent = artifacts.stream().map(KnowledgeCarrier::getRepresentation)
-          .allMatch(x -> theRepContrastor.isEqual(x,rep));
+      boolean consistent = ChunkedExecution.allMatch(
+          artifacts,
+          x -> theRepContrastor.isEqual(x.getRepresentation(), rep),
+          executor);
       if (! consistent) {
         throw new IllegalArgumentException();
       }
@@ -744,18 +1015,55 @@ public interface AbstractCompositeCarrier extends ClosedComposite<KnowledgeCarri
             .orElse(defaultLabel));
   }
 
-  private static <T> ResourceIdentifier hashComponentIds(
+  /**
+   * Derives an Id from the (Asset) Ids of a set of components, and the TREE topology
+   *
+   * The component Ids are combined by means of an order-independent digest:
+   * the outcome depends on the set of Ids, but not on the order of the components
+   *
+   * @param artifacts the components
+   * @param assetIdentificator A function that assigns an AssetId to each component
+   * @param <T> the Type of the components
+   * @return an Id derived from the components' Ids
+   * @throws IllegalArgumentException if there are no components
+   */
+  static <T> ResourceIdentifier hashComponentIds(
       Collection<T> artifacts,
       Function<T, ResourceIdentifier> assetIdentificator) {
-    return
-        artifacts.stream()
-            .map(assetIdentificator)
-            .reduce(SemanticIdentifier::hashIdentifiers)
-            .map(
-                compsId ->
-                    hashIdentifiers(
-                        compsId, newId(Util.uuid(CompositeStructType.TREE), VERSION_LATEST)))
-            .orElseThrow(IllegalArgumentException::new);
+    return hashComponentIds(artifacts, assetIdentificator, null);
+  }
+
+  /**
+   * Parallel variant of {@link #hashComponentIds(Collection, Function)}, which digests the
+   * component Ids using the given Executor. The outcome is the same as the one of the sequential
+   * variant
+   *
+   * @param artifacts the components
+   * @param assetIdentificator A (thread safe) function that assigns an AssetId to each component
+   * @param executor The Executor (e.g. a ForkJoinPool) used to process the components
+   * @param <T> the Type of the components
+   * @return an Id derived from the components' Ids
+   * @throws IllegalArgumentException if there are no components
+   */
+  static <T> ResourceIdentifier hashComponentIds(
+      Collection<T> artifacts,
+      Function<T, ResourceIdentifier> assetIdentificator,
+      Executor executor) {
+    ComponentIdDigest digest = ChunkedExecution.onChunks(
+        artifacts,
+        chunk -> {
+          ComponentIdDigest partial = new ComponentIdDigest();
+          chunk.forEach(x -> partial.add(assetIdentificator.apply(x)));
+          return partial;
+        },
+        executor)
+        .stream()
+        .reduce(new ComponentIdDigest(), ComponentIdDigest::combine);
+    if (digest.isEmpty()) {
+      throw new IllegalArgumentException();
+    }
+    return hashIdentifiers(
+        digest.toId(), newId(Util.uuid(CompositeStructType.TREE), VERSION_LATEST));
   }
 
 
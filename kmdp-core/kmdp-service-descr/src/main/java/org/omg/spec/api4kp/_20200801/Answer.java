@@ -20,6 +20,7 @@ import edu.mayo.kmdp.util.Util;
 import edu.mayo.ontology.taxonomies.ws.responsecodes.ResponseCode;
 import edu.mayo.ontology.taxonomies.ws.responsecodes.ResponseCodeSeries;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,6 +32,8 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
@@ -228,71 +231,130 @@ public class Answer<T> extends Explainer {
         headers);
   }
 
-  public static <T> Collector<Answer<T>, List<Answer<T>>, Answer<List<T>>> toList() {
+  public static <T> Collector<Answer<T>, ?, Answer<List<T>>> toList() {
     return toList(ans -> true);
   }
 
-  public static <T> Collector<Answer<T>, Set<Answer<T>>, Answer<Set<T>>> toSet() {
+  public static <T> Collector<Answer<T>, ?, Answer<Set<T>>> toSet() {
     return toSet(ans -> true);
   }
 
-  public static <T> Collector<Answer<T>, Stream<Answer<T>>, Answer<Stream<T>>> toStream() {
+  public static <T> Collector<Answer<T>, ?, Answer<Stream<T>>> toStream() {
     return toStream(ans -> true);
   }
 
-  public static <T> Collector<Answer<T>, List<Answer<T>>, Answer<List<T>>> toList(
+  public static <T> Collector<Answer<T>, ?, Answer<List<T>>> toList(
       Predicate<T> filter) {
-    return Collector.of(
+    return toList(filter, FailurePolicy.SKIP);
+  }
+
+  public static <T> Collector<Answer<T>, ?, Answer<Set<T>>> toSet(
+      Predicate<T> filter) {
+    return toSet(filter, FailurePolicy.SKIP);
+  }
+
+  public static <T> Collector<Answer<T>, ?, Answer<Stream<T>>> toStream(
+      Predicate<T> filter) {
+    return toStream(filter, FailurePolicy.SKIP);
+  }
+
+  public static <T> Collector<Answer<T>, ?, Answer<List<T>>> toList(FailurePolicy policy) {
+    return toList(ans -> true, policy);
+  }
+
+  public static <T> Collector<Answer<T>, ?, Answer<Set<T>>> toSet(FailurePolicy policy) {
+    return toSet(ans -> true, policy);
+  }
+
+  public static <T> Collector<Answer<T>, ?, Answer<Stream<T>>> toStream(FailurePolicy policy) {
+    return toStream(ans -> true, policy);
+  }
+
+  /**
+   * Collects the values of successful Answers that match a filter into an Answer of a List, in
+   * encounter order. Values are unwrapped as the Answers arrive. Safe to use with parallel streams.
+   *
+   * @param filter the filter on the values
+   * @param policy the handling of failed Answers
+   * @param <T>    the type of the values
+   * @return an Answer of the List of values
+   */
+  public static <T> Collector<Answer<T>, ?, Answer<List<T>>> toList(
+      Predicate<T> filter, FailurePolicy policy) {
+    return new AnswerCollector<T, List<T>>(
         ArrayList::new,
-        (list, member) -> {
-          if (member.isSuccess()
-              && member.map(filter::test).orElse(false).booleanValue()) {
-            list.add(member);
-          }
-        },
+        List::add,
         (left, right) -> {
           left.addAll(right);
           return left;
         },
-        answerList -> Answer.of(answerList.stream()
-            .map(Answer::get)
-            .collect(Collectors.toList()))
-    );
+        filter,
+        policy,
+        Collections.emptySet());
   }
 
-  public static <T> Collector<Answer<T>, Set<Answer<T>>, Answer<Set<T>>> toSet(
-      Predicate<T> filter) {
-    return Collector.of(
+  /**
+   * Collects the values of successful Answers that match a filter into an Answer of a Set. Values
+   * are unwrapped as the Answers arrive. Safe to use with parallel streams.
+   *
+   * @param filter the filter on the values
+   * @param policy the handling of failed Answers
+   * @param <T>    the type of the values
+   * @return an Answer of the Set of values
+   */
+  public static <T> Collector<Answer<T>, ?, Answer<Set<T>>> toSet(
+      Predicate<T> filter, FailurePolicy policy) {
+    return new AnswerCollector<T, Set<T>>(
         HashSet::new,
-        (list, member) -> {
-          if (member.isSuccess()
-              && member.map(filter::test).orElse(false).booleanValue()) {
-            list.add(member);
-          }
-        },
+        Set::add,
         (left, right) -> {
+          if (left.size() < right.size()) {
+            right.addAll(left);
+            return right;
+          }
           left.addAll(right);
           return left;
         },
-        answerSet -> Answer.of(answerSet.stream()
-            .map(Answer::get)
-            .collect(Collectors.toSet()))
-    );
+        filter,
+        policy,
+        policy == FailurePolicy.FAIL_FAST
+            ? Collections.emptySet()
+            : Collections.singleton(Collector.Characteristics.UNORDERED));
   }
 
-  public static <T> Collector<Answer<T>, Stream<Answer<T>>, Answer<Stream<T>>> toStream(
-      Predicate<T> filter) {
-    return Collector.of(
-        Stream::of,
-        (stream, member) -> {
-          if (member.isSuccess()
-              && member.map(filter::test).orElse(false).booleanValue()) {
-            Stream.concat(stream, Stream.of(member));
-          }
-        },
-        Stream::concat,
-        answerSet -> Answer.of(answerSet.map(Answer::get))
-    );
+  /**
+   * Collects the values of successful Answers that match a filter into an Answer of a Stream, in
+   * encounter order. Values are unwrapped as the Answers arrive. Safe to use with parallel streams.
+   *
+   * @param filter the filter on the values
+   * @param policy the handling of failed Answers
+   * @param <T>    the type of the values
+   * @return an Answer of the Stream of values
+   */
+  public static <T> Collector<Answer<T>, ?, Answer<Stream<T>>> toStream(
+      Predicate<T> filter, FailurePolicy policy) {
+    return Collectors.collectingAndThen(
+        toList(filter, policy),
+        ans -> ans.map(List::stream));
+  }
+
+  /**
+   * Strategies to handle failed Answers, when collecting a stream of Answers
+   */
+  public enum FailurePolicy {
+    /**
+     * The collected Answer fails as the first failed Answer (in encounter order) does, and any
+     * value that follows the failure is discarded
+     */
+    FAIL_FAST,
+    /**
+     * Failed Answers are ignored
+     */
+    SKIP,
+    /**
+     * Failed Answers are ignored, but their explanations are added to the collected Answer
+     */
+    COLLECT
   }
 
 
@@ -381,6 +443,15 @@ public class Answer<T> extends Explainer {
   }
 
 
+  /**
+   * @param executor the {@link Executor} used to run the subsequent stages
+   * @return this Answer, as an {@link AsyncAnswer}
+   */
+  public AsyncAnswer<T> async(Executor executor) {
+    return AsyncAnswer.of(this, executor);
+  }
+
+
   public static <U> Answer<U> first(List<U> coll) {
     return coll.isEmpty()
         ? Answer.failed(new NoSuchElementException())
@@ -473,8 +544,8 @@ public class Answer<T> extends Explainer {
             .orElse(ResponseCodeSeries.InternalServerError))
         .withMeta(a1.getMeta())
         .withAddedMeta(a2.getMeta())
-        .withFormalExplanation(a1.getExplanation())
-        .withAddedExplanation(a2.getExplanation());
+        .withFormalExplanationOf(a1)
+        .withAddedExplanationOf(a2);
   }
 
   public static <X, T> Stream<T> aggregate(Collection<X> delegates,
@@ -591,6 +662,192 @@ public class Answer<T> extends Explainer {
         .orElseGet(() -> compensate(fallback, fails));
   }
 
+  /**
+   * Concurrent variant of {@link #anyDo(Collection, Function, Supplier)}, bound by a deadline.
+   *
+   * @param delegates the inputs
+   * @param mapper    the {@link Function}
+   * @param fallback  the {@link Supplier}
+   * @param executor  the {@link Executor} used to apply the mapper
+   * @param deadline  the maximum time to wait for a successful application
+   * @param <X>       The input type
+   * @param <Y>       The output type
+   * @return the Answer of any one of the applications, or of the fallback
+   * @see #anyDo(Collection, Function, Supplier, Executor, Duration, Duration)
+   */
+  public static <X, Y> Answer<Y> anyDo(Collection<X> delegates, Function<X, Answer<Y>> mapper,
+      Supplier<Answer<Y>> fallback, Executor executor, Duration deadline) {
+    return anyDo(delegates, mapper, fallback, executor, deadline, null);
+  }
+
+  /**
+   * Applies an Answer-returning function mapper to a collection of inputs, concurrently, returning
+   * the {@link Answer} provided by the first application that {@link #isSuccess()} within the
+   * deadline or, if none does, relies on a default {@link Supplier}.
+   * <p>
+   * If hedgeAfter is not null, the applications are hedged: the first input is mapped right away,
+   * and each of the following ones only once the previous application has failed, or has not
+   * answered within hedgeAfter. Otherwise, all the inputs are mapped at once.
+   * <p>
+   * Applications that have not answered by the deadline are cancelled (interrupted), and are
+   * considered failed. The fallback is explained by the failures, in the order of the inputs.
+   *
+   * @param delegates  the inputs
+   * @param mapper     the {@link Function}
+   * @param fallback   the {@link Supplier}
+   * @param executor   the {@link Executor} used to apply the mapper
+   * @param deadline   the maximum time to wait for a successful application
+   * @param hedgeAfter the latency after which the next input is mapped, or null
+   * @param <X>        The input type
+   * @param <Y>        The output type
+   * @return the Answer of any one of the applications, or of the fallback
+   */
+  public static <X, Y> Answer<Y> anyDo(Collection<X> delegates, Function<X, Answer<Y>> mapper,
+      Supplier<Answer<Y>> fallback, Executor executor, Duration deadline, Duration hedgeAfter) {
+    Objects.requireNonNull(deadline);
+    return AsyncAnswer.of(
+        DelegateRace.run(delegates, mapper, fallback, false, executor, deadline, hedgeAfter),
+        executor).join();
+  }
+
+  /**
+   * Concurrent variant of {@link #firstDo(Collection, Function, Supplier)}, bound by a deadline.
+   *
+   * @param delegates the inputs
+   * @param mapper    the {@link Function}
+   * @param fallback  the {@link Supplier}
+   * @param executor  the {@link Executor} used to apply the mapper
+   * @param deadline  the maximum time to wait for a successful application
+   * @param <X>       The input type
+   * @param <Y>       The output type
+   * @return the Answer of the first successful application, or of the fallback
+   * @see #firstDo(Collection, Function, Supplier, Executor, Duration, Duration)
+   */
+  public static <X, Y> Answer<Y> firstDo(Collection<X> delegates, Function<X, Answer<Y>> mapper,
+      Supplier<Answer<Y>> fallback, Executor executor, Duration deadline) {
+    return firstDo(delegates, mapper, fallback, executor, deadline, null);
+  }
+
+  /**
+   * Applies an Answer-returning function mapper to a collection of inputs, concurrently, returning
+   * the {@link Answer} provided by the first successful application, in the order of the inputs,
+   * or, if none {@link #isSuccess()}, relies on a default {@link Supplier}.
+   * <p>
+   * If hedgeAfter is not null, the applications are hedged: the first input is mapped right away,
+   * and each of the following ones only once the previous application has failed, or has not
+   * answered within hedgeAfter. Otherwise, all the inputs are mapped at once.
+   * <p>
+   * Applications that have not answered by the deadline are cancelled (interrupted), and are
+   * considered failed: the first successful application that has answered by then is returned,
+   * even if some application that precedes it is still pending. Otherwise, the fallback is
+   * explained by the failures, in the order of the inputs.
+   *
+   * @param delegates  the inputs
+   * @param mapper     the {@link Function}
+   * @param fallback   the {@link Supplier}
+   * @param executor   the {@link Executor} used to apply the mapper
+   * @param deadline   the maximum time to wait for a successful application
+   * @param hedgeAfter the latency after which the next input is mapped, or null
+   * @param <X>        The input type
+   * @param <Y>        The output type
+   * @return the Answer of the first successful application, or of the fallback
+   */
+  public static <X, Y> Answer<Y> firstDo(Collection<X> delegates, Function<X, Answer<Y>> mapper,
+      Supplier<Answer<Y>> fallback, Executor executor, Duration deadline, Duration hedgeAfter) {
+    Objects.requireNonNull(deadline);
+    return AsyncAnswer.of(
+        DelegateRace.run(delegates, mapper, fallback, true, executor, deadline, hedgeAfter),
+        executor).join();
+  }
+
+  /**
+   * Asynchronous variant of {@link #anyDo(Collection, Function)}
+   *
+   * @param delegates the inputs
+   * @param mapper    the {@link Function}
+   * @param executor  the {@link Executor} used to apply the mapper
+   * @param <X>       The input type
+   * @param <Y>       The output type
+   * @return the (eventual) Answer of any one of the applications
+   * @see #anyDoAsync(Collection, Function, Supplier, Executor)
+   */
+  public static <X, Y> AsyncAnswer<Y> anyDoAsync(Collection<X> delegates,
+      Function<X, Answer<Y>> mapper, Executor executor) {
+    return anyDoAsync(
+        delegates,
+        mapper,
+        () -> failed(new UnsupportedOperationException("Unable to find suitable mapper")),
+        executor);
+  }
+
+  /**
+   * Applies an Answer-returning function mapper to a collection of inputs, concurrently, returning
+   * the {@link Answer} provided by the first application that {@link #isSuccess()} or, if none
+   * does, relies on a default {@link Supplier}.
+   * <p>
+   * The applications still running when a successful Answer arrives are cancelled (interrupted).
+   * The fallback is explained by the failures, in the order of the delegates.
+   *
+   * @param delegates the inputs
+   * @param mapper    the {@link Function}
+   * @param fallback  the {@link Supplier}
+   * @param executor  the {@link Executor} used to apply the mapper
+   * @param <X>       The input type
+   * @param <Y>       The output type
+   * @return the (eventual) Answer of any one of the applications, or of the fallback
+   * @see AsyncAnswer
+   */
+  public static <X, Y> AsyncAnswer<Y> anyDoAsync(Collection<X> delegates,
+      Function<X, Answer<Y>> mapper, Supplier<Answer<Y>> fallback, Executor executor) {
+    return AsyncAnswer.of(
+        DelegateRace.run(delegates, mapper, fallback, false, executor),
+        executor);
+  }
+
+  /**
+   * Asynchronous variant of {@link #firstDo(Collection, Function)}
+   *
+   * @param delegates the inputs
+   * @param mapper    the {@link Function}
+   * @param executor  the {@link Executor} used to apply the mapper
+   * @param <X>       The input type
+   * @param <Y>       The output type
+   * @return the (eventual) Answer of the first successful application
+   * @see #firstDoAsync(Collection, Function, Supplier, Executor)
+   */
+  public static <X, Y> AsyncAnswer<Y> firstDoAsync(Collection<X> delegates,
+      Function<X, Answer<Y>> mapper, Executor executor) {
+    return firstDoAsync(
+        delegates,
+        mapper,
+        () -> failed(new UnsupportedOperationException("Unable to find suitable mapper")),
+        executor);
+  }
+
+  /**
+   * Applies an Answer-returning function mapper to a collection of inputs, concurrently, returning
+   * the {@link Answer} provided by the first successful application, in the order of the inputs,
+   * or, if none {@link #isSuccess()}, relies on a default {@link Supplier}.
+   * <p>
+   * A successful Answer is returned as soon as all the applications that precede it have failed,
+   * and the applications still running at that point are cancelled (interrupted).
+   *
+   * @param delegates the inputs
+   * @param mapper    the {@link Function}
+   * @param fallback  the {@link Supplier}
+   * @param executor  the {@link Executor} used to apply the mapper
+   * @param <X>       The input type
+   * @param <Y>       The output type
+   * @return the (eventual) Answer of the first successful application, or of the fallback
+   * @see AsyncAnswer
+   */
+  public static <X, Y> AsyncAnswer<Y> firstDoAsync(Collection<X> delegates,
+      Function<X, Answer<Y>> mapper, Supplier<Answer<Y>> fallback, Executor executor) {
+    return AsyncAnswer.of(
+        DelegateRace.run(delegates, mapper, fallback, true, executor),
+        executor);
+  }
+
   /**
    * Compensation helper method that builds an Answer using a fallback Supplier, and the failures to
    * be compensated. The former builds the result, while the latter provide additional explanation.
@@ -600,7 +857,7 @@ public class Answer<T> extends Explainer {
    * @param <Y> The output type
    * @return The Answer provided by the fallback {@link Supplier}
    */
-  private static <Y> Answer<Y> compensate(Supplier<Answer<Y>> fallback,
+  static <Y> Answer<Y> compensate(Supplier<Answer<Y>> fallback,
       Collection<Answer<? super Y>> fails) {
     Answer<Y> handler = fallback.get();
     fails.stream()
@@ -688,6 +945,39 @@ public class Answer<T> extends Explainer {
     return this;
   }
 
+  /**
+   * Adds an Explanation message that is only built if and when the Explanation is read
+   *
+   * @param msg the Supplier of the message
+   * @return this
+   */
+  public Answer<T> withAddedExplanationMessage(Supplier<String> msg) {
+    addExplanationMessage(msg);
+    return this;
+  }
+
+  /**
+   * Adds the Explanation of another Answer to this, without materializing either
+   *
+   * @param other the other Answer
+   * @return this
+   */
+  protected Answer<T> withAddedExplanationOf(Explainer other) {
+    mergeExplanationOf(other);
+    return this;
+  }
+
+  /**
+   * Assigns the Explanation of another Answer to this, replacing any existing one
+   *
+   * @param other the other Answer
+   * @return this
+   */
+  protected Answer<T> withFormalExplanationOf(Explainer other) {
+    setExplanationOf(other);
+    return this;
+  }
+
   public Answer<T> withAddedExplanationDetail(Problem issue) {
     addExplanationDetail(issue);
     return this;
@@ -799,6 +1089,10 @@ public class Answer<T> extends Explainer {
     if (t instanceof NoSuchElementException) {
       return NotFound;
     }
+    if (t instanceof TimeoutException) {
+      return ResponseCodeSeries.resolveTag("504")
+          .orElse(ResponseCodeSeries.InternalServerError);
+    }
     return ResponseCodeSeries.InternalServerError;
   }
 
@@ -852,12 +1146,12 @@ public class Answer<T> extends Explainer {
         return new Answer<U>()
             .withValue(mapper.apply(srcAnswer.value))
             .withCodedOutcome(srcAnswer.getCodedOutcome())
-            .withFormalExplanation(srcAnswer.explanation)
+            .withFormalExplanationOf(srcAnswer)
             .withMeta(srcAnswer.meta);
       } catch (Exception e) {
         return Answer.<U>failed(e)
             .withAddedMeta(srcAnswer.meta)
-            .withAddedExplanation(srcAnswer.explanation);
+            .withAddedExplanationOf(srcAnswer);
       }
     }
 
@@ -869,11 +1163,11 @@ public class Answer<T> extends Explainer {
           Function closedMapper = mapper;
           return (Answer<U>) ckc.visit(closedMapper)
               .withAddedMeta(srcAnswer.meta)
-              .withAddedExplanation(srcAnswer.explanation);
+              .withAddedExplanationOf(srcAnswer);
         } else {
           return mapper.apply(srcAnswer.value)
               .withAddedMeta(srcAnswer.meta)
-              .withAddedExplanation(srcAnswer.explanation);
+              .withAddedExplanationOf(srcAnswer);
         }
 
       } catch (Exception e) {
@@ -881,7 +1175,7 @@ public class Answer<T> extends Explainer {
         return Answer.<U>failed(e)
             .withAddedMeta(srcAnswer.meta)
             .withExplanationInterrupt(new ServerSideException(e))
-            .withAddedExplanation(srcAnswer.explanation);
+            .withAddedExplanationOf(srcAnswer);
       }
     }
 
@@ -891,7 +1185,7 @@ public class Answer<T> extends Explainer {
         if (srcAnswer.value instanceof ClosedComposite) {
           return mapper.apply(srcAnswer.value)
               .withAddedMeta(srcAnswer.meta)
-              .withAddedExplanation(srcAnswer.explanation);
+              .withAddedExplanationOf(srcAnswer);
         } else {
           return Answer.failed(new IllegalArgumentException("Function only applies to Composites"));
         }
@@ -900,7 +1194,7 @@ public class Answer<T> extends Explainer {
         logger.error(e.getMessage(), e);
         return Answer.<U>failed(e)
             .withAddedMeta(srcAnswer.meta)
-            .withAddedExplanation(srcAnswer.explanation);
+            .withAddedExplanationOf(srcAnswer);
       }
     }
 
@@ -910,12 +1204,12 @@ public class Answer<T> extends Explainer {
       try {
         return Answer.of(mapper.apply(srcAnswer.value))
             .withAddedMeta(srcAnswer.meta)
-            .withAddedExplanation(srcAnswer.explanation);
+            .withAddedExplanationOf(srcAnswer);
       } catch (Exception e) {
         logger.error(e.getMessage(), e);
         return Answer.<U>failed(e)
             .withAddedMeta(srcAnswer.meta)
-            .withAddedExplanation(srcAnswer.explanation);
+            .withAddedExplanationOf(srcAnswer);
       }
     }
 
@@ -926,12 +1220,12 @@ public class Answer<T> extends Explainer {
         Composite<? super T, ?, ?> ckc = (Composite<? super T, ?, ?>) srcAnswer.value;
         return mapper.apply(ckc)
             .withAddedMeta(srcAnswer.meta)
-            .withAddedExplanation(srcAnswer.explanation);
+            .withAddedExplanationOf(srcAnswer);
       } catch (Exception e) {
         logger.error(e.getMessage(), e);
         return Answer.<U>failed(e)
             .withAddedMeta(srcAnswer.meta)
-            .withAddedExplanation(srcAnswer.explanation);
+            .withAddedExplanationOf(srcAnswer);
       }
     }
 
@@ -979,7 +1273,7 @@ public class Answer<T> extends Explainer {
     public <U> Answer<U> map(Answer<T> tAnswer, Function<? super T, ? extends U> mapper) {
       return new Answer<U>()
           .withCodedOutcome(tAnswer.getCodedOutcome())
-          .withFormalExplanation(tAnswer.explanation)
+          .withFormalExplanationOf(tAnswer)
           .withMeta(tAnswer.meta);
     }
 
@@ -987,7 +1281,7 @@ public class Answer<T> extends Explainer {
     public <U> Answer<U> flatMap(Answer<T> tAnswer, Function<? super T, Answer<U>> mapper) {
       return new Answer<U>()
           .withCodedOutcome(tAnswer.getCodedOutcome())
-          .withFormalExplanation(tAnswer.explanation)
+          .withFormalExplanationOf(tAnswer)
           .withMeta(tAnswer.meta);
     }
 
@@ -995,7 +1289,7 @@ public class Answer<T> extends Explainer {
     public <U> Answer<U> flatWhole(Answer<T> tAnswer, Function<? super T, Answer<U>> mapper) {
       return new Answer<U>()
           .withCodedOutcome(tAnswer.getCodedOutcome())
-          .withFormalExplanation(tAnswer.explanation)
+          .withFormalExplanationOf(tAnswer)
           .withMeta(tAnswer.meta);
     }
 
@@ -1003,7 +1297,7 @@ public class Answer<T> extends Explainer {
     public <U> Answer<U> flatOpt(Answer<T> tAnswer, Function<? super T, Optional<U>> mapper) {
       return new Answer<U>()
           .withCodedOutcome(tAnswer.getCodedOutcome())
-          .withFormalExplanation(tAnswer.explanation)
+          .withFormalExplanationOf(tAnswer)
           .withMeta(tAnswer.meta);
     }
 
@@ -1012,7 +1306,7 @@ public class Answer<T> extends Explainer {
         Function<Composite<? super T, ?, ?>, Answer<U>> mapper) {
       return new Answer<U>()
           .withCodedOutcome(srcAnswer.getCodedOutcome())
-          .withFormalExplanation(srcAnswer.explanation)
+          .withFormalExplanationOf(srcAnswer)
           .withMeta(srcAnswer.meta);
     }
 
@@ -1020,7 +1314,7 @@ public class Answer<T> extends Explainer {
     public <U> Answer<U> reduce(Answer<Stream<U>> srcAnswer, BinaryOperator<U> reducer) {
       return new Answer<U>()
           .withCodedOutcome(srcAnswer.getCodedOutcome())
-          .withFormalExplanation(srcAnswer.explanation)
+          .withFormalExplanationOf(srcAnswer)
           .withMeta(srcAnswer.meta);
     }
 
@@ -1029,7 +1323,7 @@ public class Answer<T> extends Explainer {
         Function<? super X, ? extends U> mapper) {
       return new Answer<List<U>>()
           .withCodedOutcome(listAnswer.getCodedOutcome())
-          .withFormalExplanation(listAnswer.explanation)
+          .withFormalExplanationOf(listAnswer)
           .withMeta(listAnswer.meta);
     }
 
@@ -1038,7 +1332,7 @@ public class Answer<T> extends Explainer {
         Function<? super X, Answer<U>> mapper) {
       return new Answer<List<U>>()
           .withCodedOutcome(listAnswer.getCodedOutcome())
-          .withFormalExplanation(listAnswer.explanation)
+          .withFormalExplanationOf(listAnswer)
           .withMeta(listAnswer.meta);
     }
 
@@ -1046,7 +1340,7 @@ public class Answer<T> extends Explainer {
     public <X> Answer<Void> forEach(Answer<List<X>> listAnswer, Consumer<? super X> mapper) {
       return new Answer<Void>()
           .withCodedOutcome(listAnswer.getCodedOutcome())
-          .withFormalExplanation(listAnswer.explanation)
+          .withFormalExplanationOf(listAnswer)
           .withMeta(listAnswer.meta);
     }
   }
@@ -0,0 +1,148 @@
+package org.omg.spec.api4kp._20200801;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import org.omg.spec.api4kp._20200801.Answer.FailurePolicy;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+
+/**
+ * Collects a stream of Answers into an Answer of a container of their values, in one pass.
+ * <p>
+ * The values are unwrapped and added to the container as the Answers arrive, so that the Answers
+ * themselves are not retained. Failures are handled according to a {@link FailurePolicy}: only
+ * the first failure (FAIL_FAST) or the failures' explanations (COLLECT) are retained.
+ * <p>
+ * Each thread of a parallel stream accumulates into its own partial result, and partial results
+ * are combined in encounter order, so the collector is safe to use with parallel streams.
+ *
+ * @param <T> the type of the values of the collected Answers
+ * @param <C> the type of the container
+ */
+final class AnswerCollector<T, C>
+    implements Collector<Answer<T>, AnswerCollector.Partial<T, C>, Answer<C>> {
+
+  private final Supplier<C> supplier;
+  private final BiConsumer<C, ? super T> adder;
+  private final BinaryOperator<C> merger;
+  private final Predicate<? super T> filter;
+  private final FailurePolicy policy;
+  private final Set<Characteristics> characteristics;
+
+  AnswerCollector(
+      Supplier<C> supplier,
+      BiConsumer<C, ? super T> adder,
+      BinaryOperator<C> merger,
+      Predicate<? super T> filter,
+      FailurePolicy policy,
+      Set<Characteristics> characteristics) {
+    this.supplier = Objects.requireNonNull(supplier);
+    this.adder = Objects.requireNonNull(adder);
+    this.merger = Objects.requireNonNull(merger);
+    this.filter = Objects.requireNonNull(filter);
+    this.policy = Objects.requireNonNull(policy);
+    this.characteristics = characteristics;
+  }
+
+  /**
+   * The (partial) result of the accumulation
+   */
+  static final class Partial<T, C> {
+
+    private C values;
+    private Answer<?> failure;
+    private List<KnowledgeCarrier> explanations = Collections.emptyList();
+
+    private Partial(C values) {
+      this.values = values;
+    }
+  }
+
+  @Override
+  public Supplier<Partial<T, C>> supplier() {
+    return () -> new Partial<>(supplier.get());
+  }
+
+  @Override
+  public BiConsumer<Partial<T, C>, Answer<T>> accumulator() {
+    return this::accumulate;
+  }
+
+  @Override
+  public BinaryOperator<Partial<T, C>> combiner() {
+    return this::combine;
+  }
+
+  @Override
+  public Function<Partial<T, C>, Answer<C>> finisher() {
+    return this::finish;
+  }
+
+  @Override
+  public Set<Characteristics> characteristics() {
+    return characteristics;
+  }
+
+  private void accumulate(Partial<T, C> partial, Answer<T> member) {
+    if (partial.failure != null) {
+      return;
+    }
+    if (member.isSuccess()) {
+      if (filter.test(member.value)) {
+        adder.accept(partial.values, member.value);
+      }
+      return;
+    }
+    switch (policy) {
+      case FAIL_FAST:
+        partial.failure = member;
+        partial.values = null;
+        break;
+      case COLLECT:
+        if (member.getExplanation() != null) {
+          if (partial.explanations.isEmpty()) {
+            partial.explanations = new ArrayList<>();
+          }
+          partial.explanations.add(member.getExplanation());
+        }
+        break;
+      case SKIP:
+      default:
+    }
+  }
+
+  private Partial<T, C> combine(Partial<T, C> left, Partial<T, C> right) {
+    if (left.failure != null) {
+      return left;
+    }
+    if (right.failure != null) {
+      return right;
+    }
+    left.values = merger.apply(left.values, right.values);
+    if (!right.explanations.isEmpty()) {
+      if (left.explanations.isEmpty()) {
+        left.explanations = right.explanations;
+      } else {
+        left.explanations.addAll(right.explanations);
+      }
+    }
+    return left;
+  }
+
+  private Answer<C> finish(Partial<T, C> partial) {
+    if (partial.failure != null) {
+      return Answer.failed(partial.failure);
+    }
+    Answer<C> result = Answer.of(partial.values);
+    partial.explanations.forEach(result::withAddedExplanation);
+    return result;
+  }
+}
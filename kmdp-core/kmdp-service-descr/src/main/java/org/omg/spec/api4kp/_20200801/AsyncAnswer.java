@@ -0,0 +1,231 @@
+package org.omg.spec.api4kp._20200801;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Answer} that is (being) computed asynchronously, backed by a {@link CompletableFuture}.
+ * <p>
+ * Follows the semantics of the (synchronous) Answer: {@link #map(Function)}, {@link
+ * #flatMap(Function)}, {@link #or(Supplier)} and {@link #merge(AsyncAnswer, AsyncAnswer,
+ * BinaryOperator)} delegate to their Answer counterparts, so outcome codes, explanations and meta
+ * are propagated, and failures short-circuit the chain. Exceptions are never propagated to the
+ * client: an application that throws results in a failed Answer.
+ * <p>
+ * Each stage runs on the {@link Executor} the AsyncAnswer was created with, which can be any
+ * Executor, including a ForkJoinPool or, on JDK 21+, a virtual thread per task Executor, e.g.
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}, well suited for delegates that block on I/O.
+ *
+ * @param <T> the type of the value of the Answer
+ * @see Answer#async(Executor)
+ * @see Answer#anyDoAsync(java.util.Collection, Function, Supplier, Executor)
+ * @see Answer#firstDoAsync(java.util.Collection, Function, Supplier, Executor)
+ */
+public final class AsyncAnswer<T> {
+
+  private final CompletableFuture<Answer<T>> future;
+  private final Executor executor;
+
+  private AsyncAnswer(CompletableFuture<Answer<T>> future, Executor executor) {
+    this.future = Objects.requireNonNull(future);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /* Constructors (lifters) */
+
+  /**
+   * @param answer   an (already computed) Answer
+   * @param executor the Executor used to run the subsequent stages
+   * @return an AsyncAnswer, completed with the given Answer
+   */
+  public static <T> AsyncAnswer<T> of(Answer<T> answer, Executor executor) {
+    return new AsyncAnswer<>(CompletableFuture.completedFuture(answer), executor);
+  }
+
+  /**
+   * @param future   the (eventual) Answer
+   * @param executor the Executor used to run the subsequent stages
+   * @return an AsyncAnswer, completed when the future completes
+   */
+  public static <T> AsyncAnswer<T> of(CompletableFuture<Answer<T>> future, Executor executor) {
+    return new AsyncAnswer<>(future, executor);
+  }
+
+  /**
+   * @param supplier the computation of the Answer
+   * @param executor the Executor used to run the computation, and the subsequent stages
+   * @return an AsyncAnswer, completed with the supplied Answer, or failed if the supplier throws
+   */
+  public static <T> AsyncAnswer<T> supply(Supplier<Answer<T>> supplier, Executor executor) {
+    Objects.requireNonNull(supplier);
+    return new AsyncAnswer<>(
+        CompletableFuture.supplyAsync(() -> {
+          try {
+            return supplier.get();
+          } catch (Exception e) {
+            return Answer.<T>failed(e);
+          }
+        }, executor),
+        executor);
+  }
+
+  /* Chaining */
+
+  public <U> AsyncAnswer<U> map(Function<? super T, ? extends U> mapper) {
+    Objects.requireNonNull(mapper);
+    return then(future.thenApplyAsync(ans -> ans.map(mapper), executor));
+  }
+
+  public <U> AsyncAnswer<U> flatMap(Function<? super T, Answer<U>> mapper) {
+    Objects.requireNonNull(mapper);
+    return then(future.thenApplyAsync(ans -> ans.flatMap(mapper), executor));
+  }
+
+  /**
+   * Chains an asynchronous computation. The outcome of the computation is combined with the meta
+   * and explanation of this Answer, as with {@link Answer#flatMap(Function)}
+   *
+   * @param mapper the asynchronous computation, applied to the value of this Answer, if successful
+   * @return the (eventual) Answer of the mapper, or this Answer's failure
+   */
+  public <U> AsyncAnswer<U> flatMapAsync(Function<? super T, AsyncAnswer<U>> mapper) {
+    Objects.requireNonNull(mapper);
+    return then(future.thenComposeAsync(ans -> {
+      if (ans.getHandler() instanceof Answer.FailureOutcomeStrategy) {
+        return CompletableFuture.completedFuture(ans.<U>map(x -> null));
+      }
+      try {
+        return mapper.apply(ans.value).future
+            .thenApply(next -> next
+                .withAddedMeta(ans.meta)
+                .withAddedExplanationOf(ans));
+      } catch (Exception e) {
+        return CompletableFuture.completedFuture(Answer.<U>failed(e)
+            .withAddedMeta(ans.meta)
+            .withAddedExplanationOf(ans));
+      }
+    }, executor));
+  }
+
+  public AsyncAnswer<T> or(Supplier<? extends Answer<? extends T>> supplier) {
+    Objects.requireNonNull(supplier);
+    return then(future.thenApplyAsync(ans -> {
+      try {
+        return ans.or(supplier);
+      } catch (Exception e) {
+        return Answer.<T>failed(e);
+      }
+    }, executor));
+  }
+
+  /**
+   * @param supplier an asynchronous alternative, only requested if this Answer is not successful
+   * @return this Answer, if successful, or the (eventual) alternative
+   */
+  public AsyncAnswer<T> orAsync(Supplier<AsyncAnswer<T>> supplier) {
+    Objects.requireNonNull(supplier);
+    return then(future.thenComposeAsync(ans -> {
+      if (ans.isSuccess()) {
+        return CompletableFuture.completedFuture(ans);
+      }
+      try {
+        return supplier.get().future;
+      } catch (Exception e) {
+        return CompletableFuture.completedFuture(Answer.<T>failed(e));
+      }
+    }, executor));
+  }
+
+  public static <T> AsyncAnswer<T> merge(AsyncAnswer<T> a1, AsyncAnswer<T> a2) {
+    return merge(a1, a2, (x, y) -> y);
+  }
+
+  /**
+   * @see Answer#merge(Answer, Answer, BinaryOperator)
+   */
+  public static <T> AsyncAnswer<T> merge(AsyncAnswer<T> a1, AsyncAnswer<T> a2,
+      BinaryOperator<T> valueMerger) {
+    return a1.then(a1.future.thenCombineAsync(a2.future,
+        (x, y) -> {
+          try {
+            return Answer.merge(x, y, valueMerger);
+          } catch (Exception e) {
+            return Answer.<T>failed(e);
+          }
+        }, a1.executor));
+  }
+
+  /* Completion */
+
+  /**
+   * Waits for the Answer to be computed
+   *
+   * @return the Answer, or a failed Answer if the computation was cancelled or interrupted
+   */
+  public Answer<T> join() {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      return Answer.failed(e.getCause() != null ? e.getCause() : e);
+    } catch (CancellationException e) {
+      return Answer.failed(e);
+    }
+  }
+
+  /**
+   * Waits, at most for the given time, for the Answer to be computed. The computation is not
+   * cancelled if the time expires.
+   *
+   * @param timeout the maximum time to wait
+   * @return the Answer, or a failed Answer if the computation did not complete in time
+   */
+  public Answer<T> join(Duration timeout) {
+    try {
+      return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Answer.failed(e);
+    } catch (ExecutionException e) {
+      return Answer.failed(e.getCause() != null ? e.getCause() : e);
+    } catch (TimeoutException | CancellationException e) {
+      return Answer.failed(e);
+    }
+  }
+
+  public boolean isDone() {
+    return future.isDone();
+  }
+
+  /**
+   * Cancels the computation, if not completed yet. Delegates that are still running, as in
+   * {@link Answer#anyDoAsync(java.util.Collection, Function, Supplier, Executor)}, are interrupted
+   *
+   * @return true if the computation was cancelled
+   */
+  public boolean cancel() {
+    return future.cancel(true);
+  }
+
+  public CompletableFuture<Answer<T>> toCompletableFuture() {
+    return future;
+  }
+
+  public Executor getExecutor() {
+    return executor;
+  }
+
+
+  private <U> AsyncAnswer<U> then(CompletableFuture<Answer<U>> next) {
+    return new AsyncAnswer<>(next, executor);
+  }
+}
@@ -0,0 +1,145 @@
+package org.omg.spec.api4kp._20200801;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Splits a List into contiguous chunks, processes the chunks on a client-provided
+ * {@link Executor}, and reassembles the partial results in the original order.
+ * <p>
+ * Used by the parallel factories of {@link AbstractCompositeCarrier}: since the chunks are
+ * reassembled in order, the outcome is the same as the one of a sequential traversal. Small
+ * Lists, and null Executors, are processed on the calling thread. Unchecked exceptions thrown
+ * by a task are rethrown as such.
+ */
+final class ChunkedExecution {
+
+  /**
+   * Minimum number of elements per chunk
+   */
+  static final int MIN_CHUNK_SIZE = 256;
+
+  /**
+   * Maximum number of chunks per unit of parallelism
+   */
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private ChunkedExecution() {
+    // static functions only
+  }
+
+  /**
+   * @param items    the elements
+   * @param mapper   a (thread safe) function
+   * @param executor the Executor that will apply the function
+   * @param <T>      the type of the elements
+   * @param <R>      the type of the results
+   * @return the results of the function, in the order of the elements
+   */
+  static <T, R> List<R> map(
+      Collection<T> items,
+      Function<T, R> mapper,
+      Executor executor) {
+    List<List<R>> partials = onChunks(items,
+        chunk -> {
+          List<R> mapped = new ArrayList<>(chunk.size());
+          chunk.forEach(x -> mapped.add(mapper.apply(x)));
+          return mapped;
+        },
+        executor);
+    if (partials.size() == 1) {
+      return partials.get(0);
+    }
+    List<R> results = new ArrayList<>(items.size());
+    partials.forEach(results::addAll);
+    return results;
+  }
+
+  /**
+   * @param items     the elements
+   * @param predicate a (thread safe) predicate
+   * @param executor  the Executor that will test the predicate
+   * @param <T>       the type of the elements
+   * @return true if all the elements satisfy the predicate
+   */
+  static <T> boolean allMatch(
+      Collection<T> items,
+      Predicate<T> predicate,
+      Executor executor) {
+    return onChunks(items, chunk -> chunk.stream().allMatch(predicate), executor)
+        .stream()
+        .allMatch(Boolean::booleanValue);
+  }
+
+  /**
+   * Applies a task to each chunk of a List
+   *
+   * @param items    the elements
+   * @param task     the (thread safe) task
+   * @param executor the Executor that will run the tasks
+   * @param <T>      the type of the elements
+   * @param <R>      the type of the partial results
+   * @return the partial results, in the order of the chunks
+   */
+  static <T, R> List<R> onChunks(
+      Collection<T> items,
+      Function<List<T>, R> task,
+      Executor executor) {
+    List<T> list = items instanceof List && items instanceof RandomAccess
+        ? (List<T>) items
+        : new ArrayList<>(items);
+    int n = list.size();
+    int numChunks = numChunks(n, executor);
+    if (numChunks <= 1) {
+      List<R> single = new ArrayList<>(1);
+      single.add(task.apply(list));
+      return single;
+    }
+
+    int chunkSize = (n + numChunks - 1) / numChunks;
+    List<CompletableFuture<R>> futures = new ArrayList<>(numChunks);
+    for (int from = 0; from < n; from += chunkSize) {
+      List<T> chunk = list.subList(from, Math.min(n, from + chunkSize));
+      futures.add(CompletableFuture.supplyAsync(() -> task.apply(chunk), executor));
+    }
+
+    List<R> partials = new ArrayList<>(futures.size());
+    for (CompletableFuture<R> future : futures) {
+      partials.add(join(future));
+    }
+    return partials;
+  }
+
+  private static int numChunks(int n, Executor executor) {
+    if (executor == null || n < 2 * MIN_CHUNK_SIZE) {
+      return 1;
+    }
+    int parallelism = executor instanceof ForkJoinPool
+        ? ((ForkJoinPool) executor).getParallelism()
+        : Runtime.getRuntime().availableProcessors();
+    return Math.max(1, Math.min(n / MIN_CHUNK_SIZE, CHUNKS_PER_THREAD * parallelism));
+  }
+
+  private static <R> R join(CompletableFuture<R> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ce) {
+      Throwable cause = ce.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw ce;
+    }
+  }
+}
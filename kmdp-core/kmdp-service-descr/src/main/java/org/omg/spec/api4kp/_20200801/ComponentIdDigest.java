@@ -0,0 +1,103 @@
+package org.omg.spec.api4kp._20200801;
+
+import static org.omg.spec.api4kp._20200801.id.IdentifierConstants.VERSION_ZERO;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newId;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.UUID;
+import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
+
+/**
+ * Order-independent digest of the (Asset) Ids of a set of components.
+ * <p>
+ * Each Id contributes a mix of its UUID to two running sums: since the sums are commutative and
+ * associative, digests of disjoint subsets can be computed independently (e.g. in parallel) and
+ * then combined, with the same outcome as a sequential traversal, regardless of the order of the
+ * components. The namespace of the Ids is preserved if shared by all the components.
+ */
+final class ComponentIdDigest {
+
+  private static final long MIX = 0x9E3779B97F4A7C15L;
+
+  private long hi;
+  private long lo;
+  private int count;
+  private URI namespace;
+  private boolean mixedNamespaces;
+
+  /**
+   * @param id an Id to be added to the digest
+   */
+  void add(ResourceIdentifier id) {
+    UUID uuid = id.getUuid();
+    long msb = uuid.getMostSignificantBits();
+    long lsb = uuid.getLeastSignificantBits();
+    addNamespace(id.getNamespaceUri(), false);
+    hi += mix(msb ^ (lsb * MIX));
+    lo += mix(lsb ^ (msb * MIX));
+    count++;
+  }
+
+  /**
+   * @param other a digest of a disjoint set of Ids
+   * @return this digest, updated to include the other
+   */
+  ComponentIdDigest combine(ComponentIdDigest other) {
+    if (other.count == 0) {
+      return this;
+    }
+    addNamespace(other.namespace, other.mixedNamespaces);
+    hi += other.hi;
+    lo += other.lo;
+    count += other.count;
+    return this;
+  }
+
+  /**
+   * @return true if no Id has been added
+   */
+  boolean isEmpty() {
+    return count == 0;
+  }
+
+  /**
+   * @return an Id derived from the digest
+   */
+  ResourceIdentifier toId() {
+    byte[] bytes = ByteBuffer.allocate(2 * Long.BYTES + Integer.BYTES)
+        .putLong(hi)
+        .putLong(lo)
+        .putInt(count)
+        .array();
+    UUID uuid = UUID.nameUUIDFromBytes(bytes);
+    return mixedNamespaces || namespace == null
+        ? newId(uuid, VERSION_ZERO)
+        : newId(namespace, uuid, VERSION_ZERO);
+  }
+
+  private void addNamespace(URI ns, boolean mixed) {
+    if (mixedNamespaces) {
+      return;
+    }
+    if (mixed || (count > 0 && !Objects.equals(namespace, ns))) {
+      mixedNamespaces = true;
+      namespace = null;
+    } else {
+      namespace = ns;
+    }
+  }
+
+  /**
+   * 64-bit finalizer, as per MurmurHash3
+   */
+  private static long mix(long x) {
+    x ^= x >>> 33;
+    x *= 0xFF51AFD7ED558CCDL;
+    x ^= x >>> 33;
+    x *= 0xC4CEB93FE53A2CE5L;
+    x ^= x >>> 33;
+    return x;
+  }
+}
@@ -0,0 +1,131 @@
+package org.omg.spec.api4kp._20200801;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.omg.spec.api4kp._20200801.id.KeyIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+
+/**
+ * Index of the components of a Composite Knowledge Carrier, by (the Key of) their Asset Id.
+ * <p>
+ * The index is a snapshot of a (mutable) component List, and is guarded against changes to that
+ * List:
+ * <ul>
+ *   <li>components added to, or removed from, the List, detected in constant time</li>
+ *   <li>components replaced, or re-identified (in place or not), detected in constant time when a
+ *   lookup finds the indexed component has been replaced, or its current Asset Id no longer has
+ *   the indexed Key</li>
+ *   <li>any replacement or re-identification, detected before a lookup misses, by comparing each
+ *   indexed component with the current one (by reference) and its indexed Key with the current
+ *   one. A miss is only trusted if no component has changed</li>
+ * </ul>
+ * If the List is found to have changed, the lookup falls back to a scan of the current components,
+ * and the index marks itself as stale: clients are expected to rebuild stale indexes (see {@link
+ * #isIndexOf(List)}).
+ * <p>
+ * Consistently with a linear scan of the components, the first component with a given Asset Id
+ * is indexed, and components without an Asset Id are ignored.
+ */
+public final class ComponentIndex {
+
+  private final List<KnowledgeCarrier> components;
+  private final KnowledgeCarrier[] carriers;
+  private final KeyIdentifier[] keys;
+  private final Map<KeyIdentifier, Integer> positions;
+
+  private volatile boolean stale;
+
+  private ComponentIndex(List<KnowledgeCarrier> components) {
+    int n = components.size();
+    this.components = components;
+    this.carriers = components.toArray(new KnowledgeCarrier[n]);
+    this.keys = new KeyIdentifier[n];
+    this.positions = new HashMap<>(Math.max(16, (int) (n / 0.75f) + 1));
+    for (int j = 0; j < n; j++) {
+      KeyIdentifier key = keyOf(carriers[j]);
+      keys[j] = key;
+      if (key != null) {
+        positions.putIfAbsent(key, j);
+      }
+    }
+  }
+
+  /**
+   * @param components the components of a Composite
+   * @return an index of the given components
+   */
+  public static ComponentIndex of(List<KnowledgeCarrier> components) {
+    return new ComponentIndex(components);
+  }
+
+  /**
+   * @param components the (current) components of a Composite
+   * @return true if this index was built on the given List, and has not been found stale
+   */
+  public boolean isIndexOf(List<KnowledgeCarrier> components) {
+    return !stale
+        && this.components == components
+        && carriers.length == components.size();
+  }
+
+  /**
+   * @param key the Key of a component's Asset Id
+   * @return the first component with the given Asset Id, if any
+   */
+  public Optional<KnowledgeCarrier> get(KeyIdentifier key) {
+    if (key == null) {
+      return Optional.empty();
+    }
+    if (!stale && components.size() == carriers.length) {
+      Integer pos = positions.get(key);
+      if (pos != null) {
+        if (isCurrent(pos)) {
+          return Optional.of(carriers[pos]);
+        }
+      } else if (allCurrent()) {
+        return Optional.empty();
+      }
+    }
+    stale = true;
+    return components.stream()
+        .filter(kc -> kc != null && kc.getAssetId() != null)
+        .filter(kc -> kc.getAssetId().asKey().equals(key))
+        .findFirst();
+  }
+
+  /**
+   * @return true if the component at the given position is the indexed one, and its Asset Id
+   * (possibly changed in place) still has the indexed Key
+   */
+  private boolean isCurrent(int pos) {
+    KnowledgeCarrier kc = components.get(pos);
+    return kc == carriers[pos] && Objects.equals(keys[pos], keyOf(kc));
+  }
+
+  /**
+   * @return true if no component has been replaced or re-identified since the index was built,
+   * i.e. if a miss can be trusted
+   */
+  private boolean allCurrent() {
+    for (int pos = 0; pos < carriers.length; pos++) {
+      if (!isCurrent(pos)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static KeyIdentifier keyOf(KnowledgeCarrier kc) {
+    return kc != null && kc.getAssetId() != null ? kc.getAssetId().asKey() : null;
+  }
+
+  /**
+   * @return the number of distinct Asset Ids indexed
+   */
+  public int size() {
+    return positions.size();
+  }
+}
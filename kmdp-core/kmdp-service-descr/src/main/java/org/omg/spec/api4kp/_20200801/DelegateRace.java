@@ -0,0 +1,296 @@
+package org.omg.spec.api4kp._20200801;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Applies an Answer-returning function to a collection of delegates, concurrently, and completes
+ * with the first (or the first in order) successful Answer, cancelling the applications that are
+ * still pending. If no application succeeds, completes with the Answer provided by a fallback,
+ * explained by the failures, in the order of the delegates.
+ * <p>
+ * Optionally, the race is bound by a deadline: delegates that have not answered by then are
+ * considered failed (and cancelled). Also optionally, the delegates are hedged: rather than all
+ * at once, each delegate is only launched if the previous one has failed, or has not answered
+ * within a latency threshold.
+ * <p>
+ * The deadline and hedging timers run on a shared (daemon) scheduler, and are cancelled as soon as
+ * the race is settled. Timers only hand the delegates over to the Executor.
+ * <p>
+ * Supports {@link Answer#anyDoAsync(Collection, Function, Supplier, Executor)} and {@link
+ * Answer#firstDoAsync(Collection, Function, Supplier, Executor)}
+ *
+ * @param <X> the delegate type
+ * @param <Y> the Answer type
+ */
+final class DelegateRace<X, Y> {
+
+  private static final ScheduledThreadPoolExecutor TIMER = newTimer();
+
+  private final List<X> delegates;
+  private final Function<X, Answer<Y>> mapper;
+  private final Supplier<Answer<Y>> fallback;
+  private final boolean ordered;
+  private final Executor executor;
+  private final Duration deadline;
+  private final Duration hedgeAfter;
+
+  private final CompletableFuture<Answer<Y>> result = new CompletableFuture<>();
+
+  /* guarded by this */
+  private final Answer<Y>[] outcomes;
+  private final FutureTask<?>[] tasks;
+  private final List<ScheduledFuture<?>> timers = new ArrayList<>(2);
+  private int launched;
+  private int reported;
+  private int next;
+
+  @SuppressWarnings("unchecked")
+  private DelegateRace(
+      Collection<X> delegates,
+      Function<X, Answer<Y>> mapper,
+      Supplier<Answer<Y>> fallback,
+      boolean ordered,
+      Executor executor,
+      Duration deadline,
+      Duration hedgeAfter) {
+    this.delegates = new ArrayList<>(delegates);
+    this.mapper = Objects.requireNonNull(mapper);
+    this.fallback = Objects.requireNonNull(fallback);
+    this.ordered = ordered;
+    this.executor = Objects.requireNonNull(executor);
+    this.deadline = deadline;
+    this.hedgeAfter = hedgeAfter;
+    this.outcomes = new Answer[this.delegates.size()];
+    this.tasks = new FutureTask[this.delegates.size()];
+  }
+
+  /**
+   * @param ordered if true, the success of a delegate is only accepted once all the delegates that
+   *                precede it have failed
+   * @return the (eventual) Answer
+   */
+  static <X, Y> CompletableFuture<Answer<Y>> run(
+      Collection<X> delegates,
+      Function<X, Answer<Y>> mapper,
+      Supplier<Answer<Y>> fallback,
+      boolean ordered,
+      Executor executor) {
+    return run(delegates, mapper, fallback, ordered, executor, null, null);
+  }
+
+  /**
+   * @param ordered    if true, the success of a delegate is only accepted once all the delegates
+   *                   that precede it have failed
+   * @param deadline   the time after which pending delegates are considered failed, if not null
+   * @param hedgeAfter the latency after which the next delegate is launched, if not null. If null,
+   *                   all the delegates are launched at once
+   * @return the (eventual) Answer
+   */
+  static <X, Y> CompletableFuture<Answer<Y>> run(
+      Collection<X> delegates,
+      Function<X, Answer<Y>> mapper,
+      Supplier<Answer<Y>> fallback,
+      boolean ordered,
+      Executor executor,
+      Duration deadline,
+      Duration hedgeAfter) {
+    return new DelegateRace<>(delegates, mapper, fallback, ordered, executor, deadline, hedgeAfter)
+        .start();
+  }
+
+  private CompletableFuture<Answer<Y>> start() {
+    result.whenComplete((ans, t) -> cancelPending());
+    if (delegates.isEmpty()) {
+      lose();
+      return result;
+    }
+    if (deadline != null) {
+      schedule(this::expire, deadline);
+    }
+    if (hedgeAfter != null) {
+      launchNext();
+    } else {
+      while (launchNext()) {
+        // launch all
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Launches the next delegate, if any, and the race is still open. When hedging, also sets a timer
+   * to launch the following delegate, should this one not answer in time
+   *
+   * @return true if a delegate was launched
+   */
+  private boolean launchNext() {
+    final int idx;
+    final FutureTask<Void> task;
+    synchronized (this) {
+      if (result.isDone() || launched == delegates.size()) {
+        return false;
+      }
+      idx = launched++;
+      task = new FutureTask<>(() -> report(idx, apply(delegates.get(idx))), null);
+      tasks[idx] = task;
+    }
+    if (hedgeAfter != null && idx + 1 < delegates.size()) {
+      schedule(() -> hedge(idx), hedgeAfter);
+    }
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      report(idx, Answer.failed(e));
+    }
+    return true;
+  }
+
+  /**
+   * Hedging timer: launches the next delegate, unless it has been launched already (because the
+   * delegate at idx failed)
+   */
+  private void hedge(int idx) {
+    synchronized (this) {
+      if (launched != idx + 1) {
+        return;
+      }
+    }
+    launchNext();
+  }
+
+  private Answer<Y> apply(X delegate) {
+    try {
+      return Objects.requireNonNull(mapper.apply(delegate));
+    } catch (Exception e) {
+      return Answer.failed(e);
+    }
+  }
+
+  /**
+   * Records the Answer of the delegate at idx, and settles the race if possible. When hedging, a
+   * failure launches the next delegate, outside of the monitor, since the Executor may run the
+   * delegate on the calling thread
+   */
+  private void report(int idx, Answer<Y> ans) {
+    synchronized (this) {
+      if (result.isDone() || outcomes[idx] != null) {
+        return;
+      }
+      outcomes[idx] = ans;
+      reported++;
+      settle(ans);
+    }
+    if (hedgeAfter != null && !ans.isSuccess()) {
+      launchNext();
+    }
+  }
+
+  /* guarded by this */
+  private void settle(Answer<Y> ans) {
+    if (ordered) {
+      while (next < outcomes.length && outcomes[next] != null && !outcomes[next].isSuccess()) {
+        next++;
+      }
+      if (next < outcomes.length && outcomes[next] != null) {
+        result.complete(outcomes[next]);
+      } else if (next == outcomes.length) {
+        lose();
+      }
+    } else if (ans.isSuccess()) {
+      result.complete(ans);
+    } else if (reported == outcomes.length) {
+      lose();
+    }
+  }
+
+  /**
+   * Deadline timer: the delegates that have not answered yet are considered failed. The first
+   * success, if any, wins (in order, if the race is ordered), otherwise the fallback is used
+   */
+  private synchronized void expire() {
+    if (result.isDone()) {
+      return;
+    }
+    for (int j = 0; j < launched; j++) {
+      if (outcomes[j] == null) {
+        tasks[j].cancel(true);
+        outcomes[j] = Answer.failed(new TimeoutException(
+            "Delegate " + j + " did not answer within " + deadline));
+      } else if (outcomes[j].isSuccess()) {
+        result.complete(outcomes[j]);
+        return;
+      }
+    }
+    lose();
+  }
+
+  private synchronized void lose() {
+    try {
+      List<Answer<? super Y>> fails = new ArrayList<>();
+      for (Answer<Y> outcome : outcomes) {
+        if (outcome != null) {
+          fails.add(outcome);
+        }
+      }
+      result.complete(Answer.compensate(fallback, fails));
+    } catch (Exception e) {
+      result.complete(Answer.failed(e));
+    }
+  }
+
+  /**
+   * Interrupts the applications that have not reported yet. The ones that have, including the
+   * winner, are (about to be) done, and are not interrupted, not to leak the interrupt to the
+   * Executor's thread
+   */
+  private synchronized void cancelPending() {
+    for (int j = 0; j < tasks.length; j++) {
+      if (tasks[j] != null && outcomes[j] == null) {
+        tasks[j].cancel(true);
+      }
+    }
+    for (ScheduledFuture<?> timer : timers) {
+      timer.cancel(false);
+    }
+    timers.clear();
+  }
+
+  /**
+   * Schedules a timer, which is cancelled when the race is settled
+   */
+  private void schedule(Runnable action, Duration delay) {
+    ScheduledFuture<?> timer = TIMER.schedule(action, delay.toNanos(), TimeUnit.NANOSECONDS);
+    synchronized (this) {
+      if (result.isDone()) {
+        timer.cancel(false);
+      } else {
+        timers.add(timer);
+      }
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor newTimer() {
+    ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+      Thread t = new Thread(r, "DelegateRace-timer");
+      t.setDaemon(true);
+      return t;
+    });
+    // cancelled timers do not pile up in the queue
+    timer.setRemoveOnCancelPolicy(true);
+    return timer;
+  }
+}
@@ -0,0 +1,85 @@
+package org.omg.spec.api4kp._20200801;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Streams the bytes of a (possibly large) String, as encoded with a given Charset, without
+ * building the full byte array up front.
+ * <p>
+ * Malformed and unmappable characters are replaced, consistently with {@link
+ * String#getBytes(Charset)}.
+ */
+final class EncodingInputStream extends InputStream {
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private final CharBuffer source;
+  private final CharsetEncoder encoder;
+  private final ByteBuffer buffer;
+
+  private boolean encoded;
+  private boolean flushed;
+
+  EncodingInputStream(CharSequence text, Charset charset) {
+    this.source = CharBuffer.wrap(text);
+    this.encoder = charset.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    this.buffer.flip();
+  }
+
+  @Override
+  public int read() {
+    if (!fill()) {
+      return -1;
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    int n = Math.min(len, buffer.remaining());
+    buffer.get(b, off, n);
+    return n;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+
+  /**
+   * Encodes the next chunk of characters, if the buffered bytes have all been read
+   *
+   * @return false if there are no more bytes
+   */
+  private boolean fill() {
+    while (!buffer.hasRemaining()) {
+      if (flushed) {
+        return false;
+      }
+      buffer.clear();
+      if (!encoded) {
+        encoder.encode(source, buffer, true);
+        encoded = !source.hasRemaining();
+      }
+      if (encoded) {
+        flushed = !encoder.flush(buffer).isOverflow();
+      }
+      buffer.flip();
+    }
+    return true;
+  }
+}
@@ -34,15 +34,28 @@ import edu.mayo.kmdp.util.StreamUtil;
 import edu.mayo.kmdp.util.Util;
 import edu.mayo.ontology.taxonomies.ws.responsecodes.ResponseCode;
 import edu.mayo.ontology.taxonomies.ws.responsecodes.ResponseCodeSeries;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 import org.omg.spec.api4kp._20200801.id.SemanticIdentifier;
 import org.omg.spec.api4kp._20200801.services.CompositeKnowledgeCarrier;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
@@ -72,7 +85,7 @@ import org.zalando.problem.StatusType;
  * <p>
  * Explanations can be flattened, serialized and inlined in an Answer (Response) to the client, as a
  * header. Alternatively, the server can send a callback reference (URL) for the client to access
- * the explanation on demand. (11/21 TODO: this second modality is not supported, not yet needed)
+ * the explanation on demand, which is done when the inlined explanation would exceed a size budget.
  */
 public abstract class Explainer {
 
@@ -92,6 +105,27 @@ public abstract class Explainer {
   public static final String EXPL_HEADER = "X-Explanation";
   public static final String EXPL_KEY = "https://www.omg.org/spec/API4KP/api4kp-ops/Explanation";
 
+  /**
+   * Marks (version 1) compact Explanation headers: deflated, then Base64url-encoded. Unmarked
+   * headers are plain Base64-encoded
+   */
+  public static final String EXPL_COMPACT_PREFIX = "v1:";
+  /**
+   * The maximum size of an inflated compact Explanation header, in bytes. Larger headers are
+   * rejected
+   */
+  public static final int MAX_INFLATED_EXPL_SIZE = 1024 * 1024;
+  /**
+   * The default maximum size of an Explanation header, in bytes
+   */
+  public static final int DEFAULT_EXPL_HEADER_BUDGET = 4 * 1024;
+
+  private static volatile int explanationHeaderBudget = DEFAULT_EXPL_HEADER_BUDGET;
+
+  private static volatile boolean compactExplanationHeaders = false;
+
+  private static final String TRUNCATION_MARK = " [...]";
+
   // TODO add model/nl to the ontology
   private static final SyntacticRepresentation NL_MIME = rep(HTML, TXT);
   // TODO add model/problem to the ontology
@@ -102,8 +136,25 @@ public abstract class Explainer {
   protected static final ProblemModule PM =
       new ProblemModule();
 
+  /**
+   * @deprecated Explanations are buffered, and only materialized when read: use {@link
+   * #getExplanation()} and {@link #setExplanation(KnowledgeCarrier)} instead. This field holds
+   * the Explanation as of the last time it was read, while an Explanation assigned to this field
+   * replaces any buffered one
+   */
+  @Deprecated
   protected KnowledgeCarrier explanation;
 
+  /**
+   * The Explanation last assigned to {@link #explanation} by this class
+   */
+  private KnowledgeCarrier published;
+
+  /**
+   * The Explanations, materialized on demand
+   */
+  private ExplanationBuffer explanations;
+
 
   /**
    * Client-side method that extracts an explanation from the server's response headers
@@ -116,8 +167,12 @@ public abstract class Explainer {
       Map<String, List<String>> meta) {
     if (meta.containsKey(EXPL_HEADER)) {
       // explanation embedded
-      return Optional.of(meta.get(EXPL_HEADER))
-          .flatMap(l -> l.stream().findFirst())
+      Optional<String> header = Optional.of(meta.get(EXPL_HEADER))
+          .flatMap(l -> l.stream().findFirst());
+      if (header.isPresent() && header.get().startsWith(EXPL_COMPACT_PREFIX)) {
+        return decodeCompactExplanation(header.get());
+      }
+      return header
           .map(CharsetEncodingUtil::decodeFromBase64)
           .filter(Util::isNotEmpty)
           .flatMap(expl -> JSonUtil.parseJson(expl, PM, DefaultProblem.class).stream()
@@ -146,6 +201,118 @@ public abstract class Explainer {
     }
   }
 
+  /**
+   * Decodes a compact Explanation header, streaming the inflated content into the JSON parser
+   *
+   * @param header the (compact) header
+   * @return an Optional KnowledgeCarrier with the explanation, if any
+   * @see #EXPL_COMPACT_PREFIX
+   */
+  private static Optional<KnowledgeCarrier> decodeCompactExplanation(String header) {
+    try (InputStream in = new BufferedInputStream(inflate(header))) {
+      in.mark(1);
+      int first = in.read();
+      in.reset();
+      if (first == '{') {
+        Optional<KnowledgeCarrier> problem = JSonUtil.parseJson(in, PM, DefaultProblem.class)
+            .map(Explainer::ofProblem);
+        if (problem.isPresent()) {
+          return problem;
+        }
+      }
+      // not a Problem: a plain message
+      try (InputStream msg = inflate(header)) {
+        return Optional.of(new String(msg.readAllBytes(), StandardCharsets.UTF_8))
+            .filter(Util::isNotEmpty)
+            .map(Explainer::ofNaturalLanguageRep);
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * @return the inflated content of a compact header, which fails with an IOException when it
+   * exceeds {@link #MAX_INFLATED_EXPL_SIZE}
+   */
+  private static InputStream inflate(String header) {
+    byte[] encoded = header.substring(EXPL_COMPACT_PREFIX.length())
+        .getBytes(StandardCharsets.US_ASCII);
+    return new BoundedInputStream(new InflaterInputStream(
+        Base64.getUrlDecoder().wrap(new ByteArrayInputStream(encoded))), MAX_INFLATED_EXPL_SIZE);
+  }
+
+  /**
+   * Deflates and Base64url-encodes a String, prefixed by the compact header version marker
+   *
+   * @param str the String to encode
+   * @return the compact encoding of str
+   * @see #EXPL_COMPACT_PREFIX
+   */
+  private static String deflate(String str) {
+    var out = new ByteArrayOutputStream();
+    out.writeBytes(EXPL_COMPACT_PREFIX.getBytes(StandardCharsets.US_ASCII));
+    try (Writer writer = new OutputStreamWriter(
+        new DeflaterOutputStream(Base64.getUrlEncoder().withoutPadding().wrap(out)),
+        StandardCharsets.UTF_8)) {
+      writer.write(str);
+    } catch (IOException e) {
+      // in-memory streams do not fail
+      throw new IllegalStateException(e);
+    }
+    return out.toString(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * @return true if {@link #packExplanationIntoHeaders(Answer, Map)} uses the compact encoding
+   * (see {@link #EXPL_COMPACT_PREFIX}), false if it uses the plain Base64 encoding
+   */
+  public static boolean isCompactExplanationHeaders() {
+    return compactExplanationHeaders;
+  }
+
+  /**
+   * Enables the compact encoding of Explanation headers. Disabled by default, since clients that
+   * predate the compact encoding cannot decode it: servers should only enable it when all their
+   * clients can. Compact headers are always decoded, regardless of this setting.
+   *
+   * @param compact true to use the compact encoding (see {@link #EXPL_COMPACT_PREFIX}), false to
+   *                use the plain Base64 encoding
+   */
+  public static void setCompactExplanationHeaders(boolean compact) {
+    compactExplanationHeaders = compact;
+  }
+
+  /**
+   * @return the maximum size of an Explanation header, in bytes, used by {@link
+   * #packExplanationIntoHeaders(Answer, Map)}
+   */
+  public static int getExplanationHeaderBudget() {
+    return explanationHeaderBudget;
+  }
+
+  /**
+   * @param budget the maximum size of an Explanation header, in bytes, used by {@link
+   *               #packExplanationIntoHeaders(Answer, Map)}
+   */
+  public static void setExplanationHeaderBudget(int budget) {
+    if (budget <= 0) {
+      throw new IllegalArgumentException("Explanation header budget must be positive");
+    }
+    explanationHeaderBudget = budget;
+  }
+
+  /**
+   * Adds "Explanation" metadata to a response header, within the default size budget
+   *
+   * @param ans  the response to an API operation call
+   * @param meta the HTTP headers used to communicate the response on the web
+   * @see #packExplanationIntoHeaders(Answer, Map, int, Function)
+   */
+  public static void packExplanationIntoHeaders(Answer<?> ans, Map<String, List<String>> meta) {
+    packExplanationIntoHeaders(ans, meta, explanationHeaderBudget, null);
+  }
+
   /**
    * Adds "Explanation" metadata to a response header, so that the body can be used for the actual
    * response data. Necessary to preserve type safety when the datatypes are different.
@@ -156,13 +323,20 @@ public abstract class Explainer {
    * or binary format, it will be serialized as a String (more formats will be supported in the
    * future).
    * <p>
-   * If the server wants to communicate an explanation, but cannot embed it in the header, it should
-   * provide a callback URL, which will be embedded in a LINK header with type 'explanation'
+   * The explanation is Base64-encoded or, if enabled via {@link
+   * #setCompactExplanationHeaders(boolean)}, deflated and Base64url-encoded (see {@link
+   * #EXPL_COMPACT_PREFIX}). If the encoded explanation exceeds the budget, the server should
+   * provide a callback URL, which will be embedded in a LINK header with type 'explanation'. If
+   * no URL is available, a truncated explanation is embedded instead.
    *
-   * @param ans  the response to an API operation call
-   * @param meta the HTTP headers used to communicate the response on the web
-   */
-  public static void packExplanationIntoHeaders(Answer<?> ans, Map<String, List<String>> meta) {
+   * @param ans    the response to an API operation call
+   * @param meta   the HTTP headers used to communicate the response on the web
+   * @param budget the maximum size of the Explanation header, in bytes
+   * @param linker publishes an Explanation that exceeds the budget, returning the URL where the
+   *               client can access it (optional)
+   */
+  public static void packExplanationIntoHeaders(Answer<?> ans, Map<String, List<String>> meta,
+      int budget, Function<KnowledgeCarrier, URI> linker) {
     KnowledgeCarrier expl = ans.getExplanation();
     if (expl == null) {
       return;
@@ -170,14 +344,48 @@ public abstract class Explainer {
     if (expl.getExpression() != null) {
       SerializationFormat fmt = expl.getLevel().sameAs(Abstract_Knowledge_Expression)
           ? JSON : TXT;
-      String msg = ans.encodeExplanation(fmt, false);
+      boolean compact = compactExplanationHeaders;
+      String msg = compact
+          ? ans.encodeCompactExplanation(fmt, false)
+          : ans.encodeExplanation(fmt, false);
+      if (msg.length() > budget) {
+        URI ref = expl.getHref() != null ? expl.getHref()
+            : linker != null ? linker.apply(expl) : null;
+        if (ref != null) {
+          meta.put(Explainer.EXPL_LINK_HEADER, singletonList(toLinkHeader(ref)));
+          return;
+        }
+        msg = truncate(ans, budget, compact);
+      }
       meta.put(Explainer.EXPL_HEADER, singletonList(msg));
     } else if (expl.getHref() != null) {
-      meta.put(Explainer.EXPL_LINK_HEADER,
-          singletonList(String.format("<%s>;rel=\"%s\";", expl.getHref(), Explainer.EXPL_KEY)));
+      meta.put(Explainer.EXPL_LINK_HEADER, singletonList(toLinkHeader(expl.getHref())));
     }
   }
 
+  private static String toLinkHeader(URI ref) {
+    return String.format("<%s>;rel=\"%s\";", ref, Explainer.EXPL_KEY);
+  }
+
+  /**
+   * @return the (compact or plain) encoding of the beginning of the (plain text) Explanation of
+   * ans, within the budget
+   */
+  private static String truncate(Answer<?> ans, int budget, boolean compact) {
+    String txt = ans.printExplanation(TXT, false);
+    // Base64 takes 4 characters for every 3 bytes
+    int len = compact ? budget : budget * 3 / 4 - TRUNCATION_MARK.length();
+    String msg = encodeHeader(
+        txt.substring(0, Math.max(0, Math.min(txt.length(), len))) + TRUNCATION_MARK, compact);
+    return msg.length() <= budget
+        ? msg
+        : encodeHeader("[Explanation omitted: exceeds the header budget]", compact);
+  }
+
+  private static String encodeHeader(String str, boolean compact) {
+    return compact ? deflate(str) : CharsetEncodingUtil.recodeToBase64(str);
+  }
+
   /**
    * Builder that creates an Explanation from a plain, user-oriented message
    *
@@ -289,29 +497,88 @@ public abstract class Explainer {
   /**
    * Merges the other Explanation into this.
    * <p>
-   * If 'this' does not have an Explanation, simply uses the other
+   * If 'this' does not have an Explanation, simply uses the other. Explanations are appended to a
+   * buffer, and only merged into a CompositeKnowledgeCarrier when the Explanation is read
    * @param other
    */
   protected void mergeExplanation(KnowledgeCarrier other) {
-    if (explanation == null || explanation.components()
-        .map(KnowledgeCarrier::getExpression).filter(Objects::nonNull).findAny().isEmpty()) {
-      this.explanation = other;
+    ExplanationBuffer current = currentExplanations();
+    if (current == null || !current.hasContent()) {
+      this.explanations = other != null ? ExplanationBuffer.of(other) : null;
     } else if (other != null && other.components()
         .map(KnowledgeCarrier::getExpression).anyMatch(Objects::nonNull)) {
-      this.explanation = mergeInto(this.explanation, other);
+      writableExplanations().add(other);
     }
   }
 
   /**
-   * Merges two Explanations into a CompositeKnowledgeCarrier
+   * Merges the Explanation of another Explainer into this, without materializing either.
+   * <p>
+   * If 'this' does not have an Explanation, simply shares the other's
    * @param other
    */
-  private KnowledgeCarrier mergeInto(KnowledgeCarrier intoExplanation, KnowledgeCarrier other) {
-    // both intoExplanation and other are not-null
-    Stream<KnowledgeCarrier> intoExpl = intoExplanation.components();
-    Stream<KnowledgeCarrier> moreExpl = other.components();
-    return new CompositeKnowledgeCarrier()
-        .withComponent(Stream.concat(intoExpl, moreExpl).collect(Collectors.toList()));
+  protected void mergeExplanationOf(Explainer other) {
+    ExplanationBuffer more = other != null ? other.currentExplanations() : null;
+    ExplanationBuffer current = currentExplanations();
+    if (current == null || !current.hasContent()) {
+      this.explanations = more != null ? more.freeze() : null;
+    } else if (more != null && more.hasContent()) {
+      writableExplanations().add(more);
+    }
+  }
+
+  /**
+   * Adds an Explanation that is only built if and when the Explanation is read
+   * @param lazyExplanation
+   */
+  protected void mergeLazyExplanation(Supplier<KnowledgeCarrier> lazyExplanation) {
+    ExplanationBuffer current = currentExplanations();
+    if (current == null || !current.hasContent()) {
+      this.explanations = ExplanationBuffer.of(lazyExplanation);
+    } else {
+      writableExplanations().add(lazyExplanation);
+    }
+  }
+
+  /**
+   * @return the buffered Explanations, unless a (legacy) subclass has assigned the
+   * {@link #explanation} field directly, in which case the assigned Explanation replaces them
+   */
+  @SuppressWarnings("deprecation")
+  private ExplanationBuffer currentExplanations() {
+    if (explanation != published) {
+      this.explanations = explanation != null ? ExplanationBuffer.of(explanation) : null;
+      this.published = explanation;
+    }
+    return explanations;
+  }
+
+  /**
+   * Replaces the buffered Explanations, and any Explanation assigned to {@link #explanation}
+   */
+  @SuppressWarnings("deprecation")
+  private void replaceExplanations(ExplanationBuffer buffer) {
+    this.published = explanation;
+    this.explanations = buffer;
+  }
+
+  private ExplanationBuffer writableExplanations() {
+    if (explanations.isFrozen()) {
+      explanations = ExplanationBuffer.wrap(explanations);
+    }
+    return explanations;
+  }
+
+  /**
+   * @return the materialized Explanation, or null
+   */
+  @SuppressWarnings("deprecation")
+  private KnowledgeCarrier materializeExplanation() {
+    ExplanationBuffer current = currentExplanations();
+    KnowledgeCarrier kc = current != null ? current.toCarrier() : null;
+    this.explanation = kc;
+    this.published = kc;
+    return kc;
   }
 
 
@@ -319,7 +586,8 @@ public abstract class Explainer {
    * @return this Explanation, or an empty one
    */
   public KnowledgeCarrier getExplanation() {
-    return explanation != null ? explanation : emptyCarrier();
+    KnowledgeCarrier kc = materializeExplanation();
+    return kc != null ? kc : emptyCarrier();
   }
 
   /**
@@ -334,10 +602,11 @@ public abstract class Explainer {
    * Effectively equivalent to @code{this.getExplanation().as(klass).orElse(null)}
    */
   public <T> T getExplanationAs(Class<T> klass) {
-    if (explanation == null) {
+    KnowledgeCarrier kc = materializeExplanation();
+    if (kc == null) {
       return null;
     }
-    return explanation.as(klass).orElse(null);
+    return kc.as(klass).orElse(null);
   }
 
   /**
@@ -347,12 +616,13 @@ public abstract class Explainer {
    * Problem
    */
   public Problem getExplanationAsProblem() {
-    if (explanation == null) {
+    KnowledgeCarrier kc = materializeExplanation();
+    if (kc == null) {
       return null;
-    } else if (explanation.getExpression() instanceof Problem) {
-      return (Problem) explanation.getExpression();
-    } else if (explanation instanceof CompositeKnowledgeCarrier) {
-      return flattenAsProblem(explanation);
+    } else if (kc.getExpression() instanceof Problem) {
+      return (Problem) kc.getExpression();
+    } else if (kc instanceof CompositeKnowledgeCarrier) {
+      return flattenAsProblem(kc);
     } else {
       return null;
     }
@@ -364,7 +634,18 @@ public abstract class Explainer {
    */
   public void setExplanation(KnowledgeCarrier explanation) {
     if (isNotEmpty(explanation)) {
-      this.explanation = explanation;
+      replaceExplanations(ExplanationBuffer.of(explanation));
+    }
+  }
+
+  /**
+   * Assigns the Explanation of another Explainer, replacing any existing one
+   * @param other
+   */
+  protected void setExplanationOf(Explainer other) {
+    ExplanationBuffer more = other != null ? other.currentExplanations() : null;
+    if (more != null) {
+      replaceExplanations(more.freeze());
     }
   }
 
@@ -466,6 +747,15 @@ public abstract class Explainer {
     addFormalExplanation(ofNaturalLanguageRep(msg));
   }
 
+  /**
+   * Adds the given Explanation to an existing one. The message is only built if and when the
+   * Explanation is read
+   * @param msg
+   */
+  protected void addExplanationMessage(Supplier<String> msg) {
+    mergeLazyExplanation(() -> ofNaturalLanguageRep(msg.get()));
+  }
+
   /**
    * Adds the given Explanation to an existing one
    * @param issue
@@ -549,6 +839,19 @@ public abstract class Explainer {
     return CharsetEncodingUtil.recodeToBase64(this.printExplanation(fmt, withStackTraces));
   }
 
+  /**
+   * returns {@link #printExplanation(SerializationFormat)}, deflated and Base64url-encoded, with
+   * the {@link #EXPL_COMPACT_PREFIX} version marker
+   *
+   * @param fmt             the format
+   * @param withStackTraces include stack traces
+   * @return a compact, serialized Explanation
+   */
+  public String encodeCompactExplanation(SerializationFormat fmt, boolean withStackTraces) {
+    String msg = this.printExplanation(fmt, withStackTraces);
+    return Util.isEmpty(msg) ? "" : deflate(msg);
+  }
+
   /**
    * Flattens a Composite Explanation into a single one
    * @param kc
@@ -599,5 +902,51 @@ public abstract class Explainer {
         .collect(Collectors.joining("\n"));
   }
 
+  /**
+   * Fails with an IOException as soon as more than a given number of bytes is read, to guard
+   * against headers that inflate to excessive sizes
+   */
+  private static final class BoundedInputStream extends FilterInputStream {
+
+    private final long max;
+    private long count;
+
+    private BoundedInputStream(InputStream in, long max) {
+      super(in);
+      this.max = max;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        count(n);
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count(skipped);
+      return skipped;
+    }
+
+    private void count(long n) throws IOException {
+      count += n;
+      if (count > max) {
+        throw new IOException("Explanation exceeds " + max + " bytes");
+      }
+    }
+  }
 
 }
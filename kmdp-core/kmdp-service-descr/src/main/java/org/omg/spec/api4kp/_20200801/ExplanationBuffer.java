@@ -0,0 +1,223 @@
+package org.omg.spec.api4kp._20200801;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.omg.spec.api4kp._20200801.services.CompositeKnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+
+/**
+ * Append-only accumulator of the Explanations of an {@link Explainer}.
+ * <p>
+ * Explanations are buffered as they are added, and only materialized (as a single
+ * KnowledgeCarrier, or as a CompositeKnowledgeCarrier with the Explanations as components) when
+ * requested. Entries can be Explanations, Suppliers of Explanations (e.g. traces, which are only
+ * formatted if the Explanation is ever read), or the buffers of other Explainers (e.g. the Answer
+ * that precedes another in a chain), which are nested in O(1) rather than copied.
+ * <p>
+ * A buffer that has been nested into another is frozen: its owner will copy-on-write, wrapping the
+ * frozen buffer before appending to it. Nesting is bounded by {@link #MAX_DEPTH} (beyond which
+ * nested buffers are flattened) and the number of Explanations by {@link #MAX_SIZE} (beyond which
+ * Explanations are omitted, and only counted).
+ */
+final class ExplanationBuffer {
+
+  /**
+   * The maximum nesting of buffers
+   */
+  static final int MAX_DEPTH = 32;
+  /**
+   * The maximum number of Explanations retained in a buffer
+   */
+  static final int MAX_SIZE = 1024;
+
+  /* KnowledgeCarrier, Supplier<KnowledgeCarrier> or (frozen) ExplanationBuffer */
+  private final List<Object> entries = new ArrayList<>(2);
+  private int size;
+  private int depth = 1;
+  private int omitted;
+  private boolean hasContent;
+  private boolean frozen;
+
+  private volatile KnowledgeCarrier materialized;
+
+  private ExplanationBuffer() {
+    // use factories
+  }
+
+  /**
+   * @param expl an Explanation
+   * @return a buffer initialized with the Explanation
+   */
+  static ExplanationBuffer of(KnowledgeCarrier expl) {
+    var buffer = new ExplanationBuffer();
+    buffer.add(Objects.requireNonNull(expl));
+    return buffer;
+  }
+
+  /**
+   * @param lazyExpl the Supplier of an Explanation
+   * @return a buffer initialized with the Explanation
+   */
+  static ExplanationBuffer of(Supplier<KnowledgeCarrier> lazyExpl) {
+    var buffer = new ExplanationBuffer();
+    buffer.add(Objects.requireNonNull(lazyExpl));
+    return buffer;
+  }
+
+  /**
+   * @param frozen a frozen buffer
+   * @return a writable buffer, initialized with the content of the frozen one
+   */
+  static ExplanationBuffer wrap(ExplanationBuffer frozen) {
+    var buffer = new ExplanationBuffer();
+    buffer.add(frozen);
+    return buffer;
+  }
+
+  /**
+   * Freezes this buffer, so that it can be shared
+   *
+   * @return this
+   */
+  ExplanationBuffer freeze() {
+    this.frozen = true;
+    return this;
+  }
+
+  boolean isFrozen() {
+    return frozen;
+  }
+
+  /**
+   * @return true if at least one of the Explanations has an Expression
+   */
+  boolean hasContent() {
+    return hasContent;
+  }
+
+  void add(KnowledgeCarrier expl) {
+    if (expl != null && accept(1)) {
+      entries.add(expl);
+      hasContent |= hasContent(expl);
+    }
+  }
+
+  void add(Supplier<KnowledgeCarrier> lazyExpl) {
+    if (lazyExpl != null && accept(1)) {
+      entries.add(lazyExpl);
+      hasContent = true;
+    }
+  }
+
+  void add(ExplanationBuffer other) {
+    if (other == null || other == this) {
+      return;
+    }
+    other.freeze();
+    if (other.depth >= MAX_DEPTH || size + other.size > MAX_SIZE) {
+      omitted += other.omitted;
+      other.forEachEntry(this::addFlat);
+      return;
+    }
+    checkWritable();
+    entries.add(other);
+    size += other.size;
+    omitted += other.omitted;
+    depth = Math.max(depth, other.depth + 1);
+    hasContent |= other.hasContent;
+    materialized = null;
+  }
+
+  /**
+   * @return the Explanations, as a single Explanation, or null if there are none
+   */
+  KnowledgeCarrier toCarrier() {
+    KnowledgeCarrier kc = materialized;
+    if (kc == null) {
+      kc = materialize();
+      materialized = kc;
+    }
+    return kc;
+  }
+
+
+  private KnowledgeCarrier materialize() {
+    if (entries.isEmpty()) {
+      return null;
+    }
+    if (entries.size() == 1 && omitted == 0) {
+      Object entry = entries.get(0);
+      return entry instanceof ExplanationBuffer
+          ? ((ExplanationBuffer) entry).toCarrier()
+          : resolve(entry);
+    }
+    List<KnowledgeCarrier> components = new ArrayList<>(size + 1);
+    forEachEntry(entry -> {
+      KnowledgeCarrier kc = resolve(entry);
+      if (kc != null) {
+        kc.components().forEach(components::add);
+      }
+    });
+    if (omitted > 0) {
+      components.add(Explainer.ofNaturalLanguageRep(
+          "(" + omitted + " more explanations omitted)"));
+    }
+    return new CompositeKnowledgeCarrier()
+        .withComponent(components);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static KnowledgeCarrier resolve(Object entry) {
+    return entry instanceof KnowledgeCarrier
+        ? (KnowledgeCarrier) entry
+        : ((Supplier<KnowledgeCarrier>) entry).get();
+  }
+
+  /**
+   * Visits the (non-buffer) entries, in order, unnesting the nested buffers
+   */
+  private void forEachEntry(Consumer<Object> visitor) {
+    for (Object entry : entries) {
+      if (entry instanceof ExplanationBuffer) {
+        ((ExplanationBuffer) entry).forEachEntry(visitor);
+      } else {
+        visitor.accept(entry);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void addFlat(Object entry) {
+    if (entry instanceof KnowledgeCarrier) {
+      add((KnowledgeCarrier) entry);
+    } else {
+      add((Supplier<KnowledgeCarrier>) entry);
+    }
+  }
+
+  private boolean accept(int n) {
+    checkWritable();
+    materialized = null;
+    if (size + n > MAX_SIZE) {
+      omitted += n;
+      return false;
+    }
+    size += n;
+    return true;
+  }
+
+  private void checkWritable() {
+    if (frozen) {
+      throw new IllegalStateException("Frozen Explanation buffers cannot be modified");
+    }
+  }
+
+  private static boolean hasContent(KnowledgeCarrier expl) {
+    return expl.components()
+        .map(KnowledgeCarrier::getExpression)
+        .anyMatch(Objects::nonNull);
+  }
+}
@@ -0,0 +1,265 @@
+package org.omg.spec.api4kp._20200801;
+
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Encoded_Knowledge_Expression;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import edu.mayo.kmdp.util.JSonUtil;
+import edu.mayo.kmdp.util.XMLUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries;
+import org.w3c.dom.Document;
+
+/**
+ * String and binary views of the Expression of a Knowledge Carrier.
+ * <p>
+ * Bytes are decoded from (and Strings are encoded into) the Charset declared by the Carrier's
+ * representation, or the platform's default Charset if none is declared. Conversions between
+ * byte[] and String Expressions, including Base64 (de)coding, are computed once and cached:
+ * a view is bound to a specific Expression, Level and Charset (see {@link #isViewOf(Object,
+ * ParsingLevel, SyntacticRepresentation)}), and the Expression is not expected to be modified in
+ * place. Cached arrays are shared, and must not be modified either. Parse trees (e.g. DOM
+ * Documents and JSON nodes) are mutable, so their serializations are never cached. Neither is the
+ * content of {@link FileExpression}s, which is read on demand.
+ * <p>
+ * {@link #writeTo(OutputStream)} and {@link #asInputStream()} stream the Expression, without
+ * building an intermediate copy of (large) String or Base64-encoded Expressions.
+ */
+public final class ExpressionViews {
+
+  private final Object expression;
+  private final ParsingLevel level;
+  private final String charsetName;
+  private final Charset charset;
+
+  private volatile String string;
+  private volatile byte[] bytes;
+
+  private ExpressionViews(Object expression, ParsingLevel level, String charsetName) {
+    this.expression = expression;
+    this.level = level;
+    this.charsetName = charsetName;
+    this.charset = toCharset(charsetName);
+  }
+
+  /**
+   * @param expression the Expression of a Carrier
+   * @param level      the Parsing Level of the Expression
+   * @param rep        the Representation of the Expression
+   * @return views on the Expression
+   */
+  public static ExpressionViews of(
+      Object expression,
+      ParsingLevel level,
+      SyntacticRepresentation rep) {
+    return new ExpressionViews(expression, level, rep != null ? rep.getCharset() : null);
+  }
+
+  /**
+   * @param expression the (current) Expression of a Carrier
+   * @param level      the (current) Parsing Level of the Expression
+   * @param rep        the (current) Representation of the Expression
+   * @return true if these views were built on the same Expression, Level and Charset
+   */
+  public boolean isViewOf(
+      Object expression,
+      ParsingLevel level,
+      SyntacticRepresentation rep) {
+    return this.expression == expression
+        && this.level == level
+        && Objects.equals(this.charsetName, rep != null ? rep.getCharset() : null);
+  }
+
+  /**
+   * @return the Charset used to convert between Strings and bytes
+   */
+  public Charset getCharset() {
+    return charset;
+  }
+
+  /**
+   * @return the String representation of the Expression, if any
+   * @see AbstractCarrier#asString()
+   */
+  public Optional<String> asString() {
+    if (expression == null) {
+      return Optional.empty();
+    }
+    if (expression instanceof byte[]) {
+      String s = string;
+      if (s == null) {
+        s = new String((byte[]) expression, charset);
+        string = s;
+      }
+      return Optional.of(s);
+    }
+    if (expression instanceof Document) {
+      var dox = (Document) expression;
+      if (dox.getDocumentElement() == null) {
+        return Optional.of("");
+      }
+      var writer = new StringWriter();
+      XMLUtil.streamXMLNode(dox, writer);
+      return Optional.of(writer.toString());
+    }
+    if (expression instanceof JsonNode) {
+      return JSonUtil.writeJsonAsString(expression);
+    }
+    if (expression instanceof StructGraph) {
+      return Optional.of(((StructGraph) expression).toTurtle());
+    }
+    if (expression instanceof FileExpression) {
+      return ((FileExpression) expression).readString(charset);
+    }
+    if (expression instanceof String) {
+      if (isEncoded()) {
+        String s = string;
+        if (s == null) {
+          s = new String(decoded(), charset);
+          string = s;
+        }
+        return Optional.of(s);
+      }
+      return Optional.of((String) expression);
+    }
+    return Optional.of(expression.toString());
+  }
+
+  /**
+   * @return the binary representation of the Expression, if any
+   * @throws IllegalStateException if the Expression is not a byte[], nor a Serialized or Encoded
+   *                               String
+   * @see AbstractCarrier#asBinary()
+   */
+  public Optional<byte[]> asBinary() {
+    if (expression == null) {
+      return Optional.empty();
+    }
+    if (expression instanceof byte[]) {
+      return Optional.of((byte[]) expression);
+    }
+    if (expression instanceof StructGraph) {
+      return Optional.of(((StructGraph) expression).toTurtle().getBytes(charset));
+    }
+    if (expression instanceof FileExpression) {
+      return ((FileExpression) expression).readBytes();
+    }
+    if (expression instanceof String && level != null) {
+      switch (ParsingLevelSeries.asEnum(level)) {
+        case Encoded_Knowledge_Expression:
+          return Optional.of(decoded());
+        case Serialized_Knowledge_Expression:
+          byte[] b = bytes;
+          if (b == null) {
+            b = ((String) expression).getBytes(charset);
+            bytes = b;
+          }
+          return Optional.of(b);
+        default:
+      }
+    }
+    throw new IllegalStateException("Unexpected String Expression at level "
+        + (level != null ? level.getLabel() : null));
+  }
+
+  /**
+   * Streams the binary representation of the Expression
+   *
+   * @param out the stream to write to. The stream is flushed, but not closed
+   * @return false if there is no Expression to write
+   * @throws IOException if writing to the stream fails
+   */
+  public boolean writeTo(OutputStream out) throws IOException {
+    if (expression == null) {
+      return false;
+    }
+    byte[] b = expression instanceof byte[] ? (byte[]) expression : bytes;
+    if (b != null) {
+      out.write(b);
+    } else if (expression instanceof String && isEncoded()) {
+      try (InputStream in = decodingStream((String) expression)) {
+        in.transferTo(out);
+      }
+    } else if (expression instanceof FileExpression) {
+      ((FileExpression) expression).transferTo(out);
+    } else if (expression instanceof Document) {
+      var dox = (Document) expression;
+      if (dox.getDocumentElement() != null) {
+        XMLUtil.streamXMLNode(dox, out, charset);
+      }
+    } else {
+      Writer writer = new OutputStreamWriter(out, charset);
+      writer.write(asString().orElse(""));
+      writer.flush();
+    }
+    out.flush();
+    return true;
+  }
+
+  /**
+   * @return a stream of the binary representation of the Expression, if any
+   */
+  public Optional<InputStream> asInputStream() {
+    if (expression == null) {
+      return Optional.empty();
+    }
+    byte[] b = expression instanceof byte[] ? (byte[]) expression : bytes;
+    if (b != null) {
+      return Optional.of(new ByteArrayInputStream(b));
+    }
+    if (expression instanceof String) {
+      String s = (String) expression;
+      return Optional.of(isEncoded() ? decodingStream(s) : new EncodingInputStream(s, charset));
+    }
+    if (expression instanceof FileExpression) {
+      try {
+        return Optional.of(((FileExpression) expression).openStream());
+      } catch (IOException e) {
+        return Optional.empty();
+      }
+    }
+    return asString()
+        .map(s -> new EncodingInputStream(s, charset));
+  }
+
+
+  private boolean isEncoded() {
+    return level != null && Encoded_Knowledge_Expression.sameAs(level);
+  }
+
+  private byte[] decoded() {
+    byte[] b = bytes;
+    if (b == null) {
+      b = Base64.getDecoder().decode((String) expression);
+      bytes = b;
+    }
+    return b;
+  }
+
+  private static InputStream decodingStream(String base64) {
+    return Base64.getDecoder().wrap(new EncodingInputStream(base64, StandardCharsets.US_ASCII));
+  }
+
+  private static Charset toCharset(String charsetName) {
+    if (charsetName == null) {
+      return Charset.defaultCharset();
+    }
+    try {
+      return Charset.forName(charsetName);
+    } catch (IllegalArgumentException e) {
+      return Charset.defaultCharset();
+    }
+  }
+}
@@ -0,0 +1,246 @@
+package org.omg.spec.api4kp._20200801;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+import javax.activation.DataHandler;
+import javax.activation.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An Expression (binary artifact) backed by a file, rather than held in memory.
+ * <p>
+ * Used as the Expression of Carriers created with
+ * {@link AbstractCarrier#ofPath(Path, org.omg.spec.api4kp._20200801.services.SyntacticRepresentation)},
+ * so that (very) large artifacts, such as terminologies or models, are only read on demand.
+ * {@link AbstractCarrier#writeTo(OutputStream)} and {@link AbstractCarrier#asInputStream()} stream
+ * the content of the file, and {@link AbstractCarrier#asString()} decodes a read-only memory
+ * mapping of the file, so the heap does not need to accommodate a copy of the raw bytes. Only
+ * {@link AbstractCarrier#asBinary()}, and (un)marshalling the Carrier, load the whole file.
+ * Files that exceed the size of an array (2GB) can only be streamed.
+ * <p>
+ * A FileExpression is a {@link DataHandler}, which JAXB marshals as base64Binary, i.e. the same
+ * way as a byte[] Expression, reading the file through its {@link DataSource}.
+ * <p>
+ * The content is not cached: the file is assumed not to change while the Carrier is in use.
+ */
+public final class FileExpression extends DataHandler {
+
+  private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8L;
+
+  private static final Logger logger = LoggerFactory.getLogger(FileExpression.class);
+
+  private final Path path;
+
+  private FileExpression(Path path) {
+    super(new PathDataSource(Objects.requireNonNull(path)));
+    this.path = path;
+  }
+
+  /**
+   * @param path the path to a (readable) file
+   * @return an Expression backed by the file
+   */
+  public static FileExpression of(Path path) {
+    return new FileExpression(path);
+  }
+
+  /**
+   * @return the path to the file
+   */
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return the size of the file, in bytes, or -1 if it cannot be determined
+   */
+  public long size() {
+    try {
+      return Files.size(path);
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      return -1;
+    }
+  }
+
+  /**
+   * @return a new stream of the content of the file, to be closed by the client
+   * @throws IOException if the file cannot be opened
+   */
+  public InputStream openStream() throws IOException {
+    return Files.newInputStream(path);
+  }
+
+  /**
+   * Copies the content of the file to a stream, delegating to the platform where possible
+   *
+   * @param out the stream to write to. The stream is not closed
+   * @return the number of bytes written
+   * @throws IOException if the file cannot be read, or the stream written
+   */
+  public long transferTo(OutputStream out) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(out);
+      long size = channel.size();
+      long pos = 0;
+      while (pos < size) {
+        long n = channel.transferTo(pos, size - pos, target);
+        if (n <= 0) {
+          break;
+        }
+        pos += n;
+      }
+      return pos;
+    }
+  }
+
+  /**
+   * Maps the file into memory (read only). The mapping is released by the garbage collector
+   *
+   * @return a memory mapped view of the file, if the file can be mapped as a whole
+   */
+  public Optional<ByteBuffer> map() {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > MAX_ARRAY_SIZE) {
+        return Optional.empty();
+      }
+      return Optional.of(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * @param charset the Charset used to decode the file
+   * @return the content of the file, as a String, unless the file is too large to be held in
+   * memory
+   */
+  public Optional<String> readString(Charset charset) {
+    if (isTooLarge()) {
+      return Optional.empty();
+    }
+    Optional<ByteBuffer> mapped = map();
+    if (mapped.isPresent()) {
+      return Optional.of(charset.decode(mapped.get()).toString());
+    }
+    // the file could not be mapped, but can still be read
+    return readBytes().map(bytes -> new String(bytes, charset));
+  }
+
+  /**
+   * @return true if the file is too large to be held in an array, i.e. can only be streamed
+   */
+  private boolean isTooLarge() {
+    try {
+      return Files.size(path) > MAX_ARRAY_SIZE;
+    } catch (IOException e) {
+      // will fail (and be reported) on read
+      return false;
+    }
+  }
+
+  /**
+   * @return the content of the file, loaded in memory, unless the file is too large to be held
+   * in an array
+   */
+  public Optional<byte[]> readBytes() {
+    try {
+      return Optional.of(toBytes());
+    } catch (UncheckedIOException e) {
+      logger.error(e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * File based Expressions are serialized as their (binary) content
+   *
+   * @return the content of the file
+   * @throws UncheckedIOException if the file cannot be read, or is too large to be held in an
+   *                              array
+   */
+  @JsonValue
+  public byte[] toBytes() {
+    try {
+      long size = Files.size(path);
+      if (size > MAX_ARRAY_SIZE) {
+        throw new IOException("File " + path + " is too large (" + size + " bytes) "
+            + "to be loaded in memory, and can only be streamed");
+      }
+      return Files.readAllBytes(path);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof FileExpression)) {
+      return false;
+    }
+    return path.equals(((FileExpression) o).path);
+  }
+
+  @Override
+  public int hashCode() {
+    return path.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return path.toString();
+  }
+
+  /**
+   * Read-only access to the file
+   */
+  private static final class PathDataSource implements DataSource {
+
+    private static final String BINARY = "application/octet-stream";
+
+    private final Path path;
+
+    private PathDataSource(Path path) {
+      this.path = path;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return Files.newInputStream(path);
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+      throw new IOException("File Expressions are read only: " + path);
+    }
+
+    @Override
+    public String getContentType() {
+      return BINARY;
+    }
+
+    @Override
+    public String getName() {
+      return String.valueOf(path.getFileName());
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package org.omg.spec.api4kp._20200801;
+
+import static edu.mayo.kmdp.util.JenaUtil.objA;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import edu.mayo.kmdp.util.JenaUtil;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import org.apache.jena.rdf.model.Statement;
+
+/**
+ * The Structure of a Composite Knowledge Carrier, as a lightweight list of (subject, property,
+ * object) edges between resources.
+ * <p>
+ * Used as the Expression of a 'deferred' struct Carrier, which declares the same representation
+ * (OWL2, Turtle, TXT) as an eagerly serialized one. The Turtle serialization is only built when
+ * requested, e.g. by {@link AbstractCarrier#asString()}, {@link AbstractCarrier#asBinary()},
+ * or when the Carrier is marshalled, and is then cached. Instances are not meant to be modified
+ * once the Carrier has been constructed.
+ * <p>
+ * Deferred Struct Carriers are opt-in: see the 'deferred' variants of the inferStruct methods of
+ * {@link AbstractCompositeCarrier}. Graphs are marshalled as their Turtle serialization, via
+ * {@link Adapter}, which is bound to the Expression of a Knowledge Carrier, so that marshalling
+ * does not modify the Carrier.
+ */
+public final class StructGraph {
+
+  private final List<Edge> edges;
+
+  private volatile String turtle;
+
+  public StructGraph() {
+    this.edges = new ArrayList<>();
+  }
+
+  /**
+   * Adds an edge to the graph
+   *
+   * @param subj the subject
+   * @param prop the property
+   * @param obj  the object
+   * @return this graph
+   */
+  public StructGraph add(URI subj, URI prop, URI obj) {
+    edges.add(new Edge(subj.toString(), prop.toString(), obj.toString()));
+    turtle = null;
+    return this;
+  }
+
+  /**
+   * Adds an edge to the graph
+   *
+   * @param subj the subject
+   * @param prop the property
+   * @param obj  the object
+   * @return this graph
+   */
+  public StructGraph add(String subj, String prop, String obj) {
+    edges.add(new Edge(subj, prop, obj));
+    turtle = null;
+    return this;
+  }
+
+  /**
+   * @return the number of edges in the graph, including duplicates
+   */
+  public int size() {
+    return edges.size();
+  }
+
+  /**
+   * @return the edges of this graph, as RDF Statements
+   */
+  public List<Statement> toStatements() {
+    return edges.stream()
+        .map(e -> objA(e.subj, e.prop, e.obj))
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  /**
+   * @return the (cached) Turtle serialization of this graph
+   */
+  public String toTurtle() {
+    String ttl = turtle;
+    if (ttl == null) {
+      ttl = JenaUtil.fromStatementsToString(toStatements());
+      turtle = ttl;
+    }
+    return ttl;
+  }
+
+  /**
+   * @return true if the Turtle serialization of this graph has been built, and is cached
+   */
+  public boolean isSerialized() {
+    return turtle != null;
+  }
+
+  /**
+   * Graphs are serialized to Turtle, consistently with the declared representation
+   *
+   * @return the Turtle serialization of this graph
+   */
+  @JsonValue
+  @Override
+  public String toString() {
+    return toTurtle();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof StructGraph)) {
+      return false;
+    }
+    // graphs are sets of edges
+    return new HashSet<>(edges).equals(new HashSet<>(((StructGraph) o).edges));
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashSet<>(edges).hashCode();
+  }
+
+
+  /**
+   * JAXB adapter for the Expression of a Knowledge Carrier: graphs are marshalled as their
+   * (cached) Turtle serialization, and any other Expression as is
+   */
+  public static final class Adapter extends XmlAdapter<Object, Object> {
+
+    @Override
+    public Object unmarshal(Object v) {
+      return v;
+    }
+
+    @Override
+    public Object marshal(Object v) {
+      return v instanceof StructGraph ? ((StructGraph) v).toTurtle() : v;
+    }
+  }
+
+  private static final class Edge {
+
+    private final String subj;
+    private final String prop;
+    private final String obj;
+
+    private Edge(String subj, String prop, String obj) {
+      this.subj = subj;
+      this.prop = prop;
+      this.obj = obj;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Edge)) {
+        return false;
+      }
+      Edge other = (Edge) o;
+      return subj.equals(other.subj) && prop.equals(other.prop) && obj.equals(other.obj);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(subj, prop, obj);
+    }
+  }
+}
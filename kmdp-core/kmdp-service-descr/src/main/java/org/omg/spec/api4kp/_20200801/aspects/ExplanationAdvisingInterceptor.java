@@ -14,17 +14,22 @@ public class ExplanationAdvisingInterceptor {
   public Object logExecution(ProceedingJoinPoint joinPoint) throws Throwable {
     Object result = joinPoint.proceed();
     if (result instanceof Answer<?>) {
-      ((Answer<?>) result).withAddedExplanationMessage(toTrace(joinPoint));
+      // the arguments are captured as of the invocation, since they may be changed later,
+      // but the trace is only formatted if the Explanation is ever read
+      String name = joinPoint.getSignature().getName();
+      String args = Arrays.toString(joinPoint.getArgs());
+      long timestamp = Instant.now().getEpochSecond();
+      ((Answer<?>) result).withAddedExplanationMessage(() -> toTrace(name, args, timestamp));
     }
     return result;
   }
 
-  private String toTrace(ProceedingJoinPoint joinPoint) {
+  private static String toTrace(String name, String args, long timestamp) {
     return String.format(
         "%s / %s @%d",
-        joinPoint.getSignature().getName(),
-        Arrays.toString(joinPoint.getArgs()),
-        Instant.now().getEpochSecond());
+        name,
+        args,
+        timestamp);
   }
 
 
@@ -0,0 +1,210 @@
+package org.omg.spec.api4kp._20200801.contrastors;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.omg.spec.api4kp._20200801.id.Term;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormat;
+import org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguage;
+import org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfile;
+import org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerialization;
+import org.omg.spec.api4kp._20200801.taxonomy.languagerole.KnowledgeRepresentationLanguageRole;
+import org.omg.spec.api4kp._20200801.taxonomy.lexicon.Lexicon;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
+
+/**
+ * Canonical, immutable key of a {@link SyntacticRepresentation}, used by the {@link
+ * SyntacticRepresentationContrastor} to contrast Representations in constant time.
+ * <p>
+ * Two keys are equal if the Representations are equal, i.e. have equal language, profile,
+ * serialization, format, (ordered) lexicons, charset, encoding, role and sub-languages. In
+ * addition, the terms are mapped to dense ordinals, based on their UUIDs, so that the 'sameAs'
+ * comparisons are reduced to int comparisons, and the lexicons to a bitset. Keys are interned, so equal Representations
+ * usually share the same key instance. The interning table is bounded, and simply reset when full.
+ * <p>
+ * A key is bound to the state of a Representation at the time the key was created: see {@link
+ * #isKeyOf(SyntacticRepresentation)}.
+ */
+public final class RepresentationKey {
+
+  private static final int MAX_INTERNED_KEYS = 4 * 1024;
+
+  private static final Map<UUID, Integer> ordinals = new ConcurrentHashMap<>();
+  private static final AtomicInteger nextOrdinal = new AtomicInteger();
+
+  private static final Map<RepresentationKey, RepresentationKey> interned =
+      new ConcurrentHashMap<>();
+
+  private final KnowledgeRepresentationLanguage language;
+  private final KnowledgeRepresentationLanguageProfile profile;
+  private final KnowledgeRepresentationLanguageSerialization serialization;
+  private final SerializationFormat format;
+  private final Lexicon[] lexicon;
+  private final String charset;
+  private final String encoding;
+  private final KnowledgeRepresentationLanguageRole role;
+  private final RepresentationKey[] subLanguages;
+
+  private final int languageOrdinal;
+  private final int serializationOrdinal;
+  private final int formatOrdinal;
+  private final BitSet lexiconOrdinals;
+  private final ParsingLevel level;
+
+  private final int hash;
+
+  private RepresentationKey(SyntacticRepresentation rep) {
+    this.language = rep.getLanguage();
+    this.profile = rep.getProfile();
+    this.serialization = rep.getSerialization();
+    this.format = rep.getFormat();
+    this.lexicon = rep.getLexicon().toArray(new Lexicon[0]);
+    this.charset = rep.getCharset();
+    this.encoding = rep.getEncoding();
+    this.role = rep.getRole();
+    List<SyntacticRepresentation> subs = rep.getSubLanguage();
+    this.subLanguages = new RepresentationKey[subs.size()];
+    for (int j = 0; j < subLanguages.length; j++) {
+      subLanguages[j] = subs.get(j) != null ? subs.get(j).representationKey() : null;
+    }
+
+    this.languageOrdinal = ordinalOf(language);
+    this.serializationOrdinal = ordinalOf(serialization);
+    this.formatOrdinal = ordinalOf(format);
+    this.lexiconOrdinals = new BitSet();
+    for (Lexicon lex : lexicon) {
+      lexiconOrdinals.set(ordinalOf(lex));
+    }
+    this.level = ParsingLevelContrastor.detectLevel(rep);
+
+    this.hash = 31 * (31 * Objects.hash(language, profile, serialization, format,
+        charset, encoding, role) + Arrays.hashCode(lexicon)) + Arrays.hashCode(subLanguages);
+  }
+
+  /**
+   * @param rep a Representation
+   * @return the (interned) key of the Representation, or null if the Representation is null
+   */
+  public static RepresentationKey of(SyntacticRepresentation rep) {
+    if (rep == null) {
+      return null;
+    }
+    RepresentationKey key = new RepresentationKey(rep);
+    RepresentationKey canonical = interned.get(key);
+    if (canonical != null) {
+      return canonical;
+    }
+    if (interned.size() >= MAX_INTERNED_KEYS) {
+      interned.clear();
+    }
+    canonical = interned.putIfAbsent(key, key);
+    return canonical != null ? canonical : key;
+  }
+
+  /**
+   * @param rep the (current) state of a Representation
+   * @return true if this key was built on a Representation with the same terms (instances),
+   * charset, encoding and sub-languages
+   */
+  public boolean isKeyOf(SyntacticRepresentation rep) {
+    if (rep == null
+        || language != rep.getLanguage()
+        || profile != rep.getProfile()
+        || serialization != rep.getSerialization()
+        || format != rep.getFormat()
+        || !Objects.equals(charset, rep.getCharset())
+        || !Objects.equals(encoding, rep.getEncoding())
+        || role != rep.getRole()) {
+      return false;
+    }
+    List<Lexicon> lexs = rep.getLexicon();
+    if (lexs.size() != lexicon.length) {
+      return false;
+    }
+    for (int j = 0; j < lexicon.length; j++) {
+      if (lexicon[j] != lexs.get(j)) {
+        return false;
+      }
+    }
+    List<SyntacticRepresentation> subs = rep.getSubLanguage();
+    if (subs.size() != subLanguages.length) {
+      return false;
+    }
+    for (int j = 0; j < subLanguages.length; j++) {
+      SyntacticRepresentation sub = subs.get(j);
+      if (sub == null
+          ? subLanguages[j] != null
+          : !Objects.equals(subLanguages[j], sub.representationKey())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param other another key
+   * @return true if the Representations use the same language (or none), the same profile (or
+   * either has none), the same serialization and format (or either has none), and the same
+   * lexicons (or either has none)
+   */
+  boolean isComparableWith(RepresentationKey other) {
+    return languageOrdinal == other.languageOrdinal
+        && (profile == null || other.profile == null || profile.equals(other.profile))
+        && (serializationOrdinal == 0 || other.serializationOrdinal == 0
+        || serializationOrdinal == other.serializationOrdinal)
+        && (formatOrdinal == 0 || other.formatOrdinal == 0
+        || formatOrdinal == other.formatOrdinal)
+        && (lexiconOrdinals.isEmpty() || other.lexiconOrdinals.isEmpty()
+        || lexiconOrdinals.equals(other.lexiconOrdinals));
+  }
+
+  /**
+   * @return the Parsing Level implied by the Representation
+   */
+  ParsingLevel getLevel() {
+    return level;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof RepresentationKey)) {
+      return false;
+    }
+    RepresentationKey other = (RepresentationKey) o;
+    return hash == other.hash
+        && Objects.equals(language, other.language)
+        && Objects.equals(profile, other.profile)
+        && Objects.equals(serialization, other.serialization)
+        && Objects.equals(format, other.format)
+        && Arrays.equals(lexicon, other.lexicon)
+        && Objects.equals(charset, other.charset)
+        && Objects.equals(encoding, other.encoding)
+        && Objects.equals(role, other.role)
+        && Arrays.equals(subLanguages, other.subLanguages);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  /**
+   * Maps a term to a dense ordinal, such that terms have the same ordinal iff they have the same
+   * UUID. Ordinals start from 1, while 0 denotes the absence of a term
+   */
+  private static int ordinalOf(Term term) {
+    if (term == null) {
+      return 0;
+    }
+    return ordinals.computeIfAbsent(term.getUuid(), uuid -> nextOrdinal.incrementAndGet());
+  }
+}
@@ -16,10 +16,7 @@
 package org.omg.spec.api4kp._20200801.contrastors;
 
 import edu.mayo.kmdp.comparator.Contrastor;
-import edu.mayo.kmdp.util.StreamUtil;
 import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
-import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
-import org.omg.spec.api4kp._20200801.terms.ConceptTerm;
 
 public class SyntacticRepresentationContrastor extends Contrastor<SyntacticRepresentation> {
 
@@ -28,39 +25,54 @@ public class SyntacticRepresentationContrastor extends Contrastor<SyntacticRepre
   protected SyntacticRepresentationContrastor() {
   }
 
+  /**
+   * Contrasts two Representations, based on their {@link RepresentationKey}s, in constant time
+   */
   @Override
-  public boolean comparable(SyntacticRepresentation sr1, SyntacticRepresentation sr2) {
-    boolean sameLanguage = (sr1.getLanguage() == null && sr2.getLanguage() == null)
-        || (sr1.getLanguage() != null && sr1.getLanguage().sameAs(sr2.getLanguage()));
-    if (! sameLanguage) {
-      return false;
+  public Comparison contrast(SyntacticRepresentation sr1, SyntacticRepresentation sr2) {
+    if (sr1 == null || sr2 == null) {
+      return Comparison.UNKNOWN;
+    }
+    if (sr1 == sr2) {
+      return Comparison.IDENTICAL;
+    }
+    return contrast(sr1.representationKey(), sr2.representationKey());
+  }
+
+  /**
+   * @param k1 the key of a Representation
+   * @param k2 the key of another Representation
+   * @return the comparison between the Representations
+   */
+  public Comparison contrast(RepresentationKey k1, RepresentationKey k2) {
+    if (k1 == null || k2 == null) {
+      return Comparison.UNKNOWN;
     }
-    Comparison profileComparison = ProfileContrastor.theProfileContrastor
-        .contrast(sr1.getProfile(), sr2.getProfile());
-    if (profileComparison == Comparison.DISTINCT || profileComparison == Comparison.INCOMPARABLE) {
-      return false;
+    if (k1.equals(k2)) {
+      return Comparison.EQUAL;
     }
-    if (sr1.getSerialization() != null && sr2.getSerialization() != null
-        && ! sr1.getSerialization().sameAs(sr2.getSerialization())) {
-      return false;
+    if (!k1.isComparableWith(k2)) {
+      return Comparison.INCOMPARABLE;
     }
-    if (sr1.getFormat() != null && sr2.getFormat() != null
-        && ! sr1.getFormat().sameAs(sr2.getFormat())) {
-      return false;
+    int comp = ParsingLevelContrastor.theLevelContrastor.compare(k1.getLevel(), k2.getLevel());
+    if (comp == 0) {
+      return Comparison.EQUIVALENT;
     }
-    return sr1.getLexicon().isEmpty()
-        || sr2.getLexicon().isEmpty()
-        || StreamUtil.mapToSet(sr1.getLexicon(), ConceptTerm::getUuid)
-        .equals(StreamUtil.mapToSet(sr2.getLexicon(), ConceptTerm::getUuid));
+    return comp > 0 ? Comparison.BROADER : Comparison.NARROWER;
+  }
+
+  @Override
+  public boolean comparable(SyntacticRepresentation sr1, SyntacticRepresentation sr2) {
+    return sr1.representationKey().isComparableWith(sr2.representationKey());
   }
 
   public int compare(SyntacticRepresentation sr1, SyntacticRepresentation sr2) {
-    if (sr1.equals(sr2)) {
+    RepresentationKey k1 = sr1.representationKey();
+    RepresentationKey k2 = sr2.representationKey();
+    if (k1.equals(k2)) {
       return 0;
     }
-    ParsingLevel p1 = ParsingLevelContrastor.detectLevel(sr1);
-    ParsingLevel p2 = ParsingLevelContrastor.detectLevel(sr2);
-    return ParsingLevelContrastor.theLevelContrastor.compare(p1,p2);
+    return ParsingLevelContrastor.theLevelContrastor.compare(k1.getLevel(), k2.getLevel());
   }
 
   public boolean isBroaderOrEqual(SyntacticRepresentation r1, SyntacticRepresentation r2) {
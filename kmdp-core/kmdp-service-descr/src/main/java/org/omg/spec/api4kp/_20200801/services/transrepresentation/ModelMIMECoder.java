@@ -27,18 +27,24 @@ import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeReprese
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.Turtle;
 
 import edu.mayo.kmdp.util.FileUtil;
+import edu.mayo.kmdp.util.LRUCache;
 import edu.mayo.kmdp.util.Util;
 import edu.mayo.ontology.taxonomies.ws.mimetype.MIMEType;
 import edu.mayo.ontology.taxonomies.ws.mimetype.MIMETypeSeries;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.StringTokenizer;
-import java.util.regex.Matcher;
+import java.util.UUID;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.omg.spec.api4kp._20200801.id.Term;
 import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
 import org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormat;
 import org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries;
@@ -60,15 +66,39 @@ public class ModelMIMECoder {
 
   public static final String UNKNOWN = TYPE + "/unknown";
 
-  private static final String WEIGHT_REGEXP = "(.+);q=([01].\\d+)(;.+)*";
+  private static final String TYPE_PREFIX = TYPE + "/";
 
   private static final Pattern RX_PATTERN = Pattern.compile(REGEXP);
 
-  private static final Pattern WX_PATTERN = Pattern.compile(WEIGHT_REGEXP);
-
   public static final Float WEIGHT_UNSPECIFIED = 0.01f;
   public static final Float WEIGHT_DEFAULT = 1.0f;
 
+  /**
+   * The maximum number of distinct (Accept) headers, and MIME codes, whose decoding is cached
+   */
+  private static final int MAX_CACHE_SIZE = 1024;
+  /**
+   * Headers, and MIME codes, longer than this are decoded, but not cached
+   */
+  private static final int MAX_CACHED_HEADER_LENGTH = 2 * 1024;
+
+  private static final LRUCache<HeaderKey, List<WeightedRepresentation>> decodedHeaders =
+      new LRUCache<>(MAX_CACHE_SIZE);
+  private static final LRUCache<String, Optional<SyntacticRepresentation>> decodedCodes =
+      new LRUCache<>(MAX_CACHE_SIZE);
+  private static final LRUCache<EncodingKey, String> encodedReps =
+      new LRUCache<>(MAX_CACHE_SIZE);
+
+  private static final ThreadLocal<DecimalFormat> weightFormat =
+      ThreadLocal.withInitial(() -> new DecimalFormat("#.###"));
+
+  /**
+   * If true, encoded MIME codes are validated against the 'model.mime.regexp' grammar. Enabled by
+   * default if assertions are enabled.
+   */
+  private static volatile boolean strictEncoding =
+      ModelMIMECoder.class.desiredAssertionStatus();
+
   public static List<WeightedRepresentation> decodeAll(String xAccept) {
     return decodeAll(xAccept, null, WEIGHT_DEFAULT);
   }
@@ -87,13 +117,70 @@ public class ModelMIMECoder {
     if (Util.isEmpty(xAccept)) {
       return Collections.emptyList();
     }
-    return Arrays.stream(xAccept.split(","))
+    String header = xAccept.trim();
+    if (header.length() > MAX_CACHED_HEADER_LENGTH) {
+      return new ArrayList<>(decodeHeader(header, fallbackRepresentation, defaultWeight));
+    }
+    KnowledgeRepresentationLanguage fallbackLanguage =
+        fallbackRepresentation != null ? fallbackRepresentation.getLanguage() : null;
+    return copyOf(decodedHeaders.computeIfAbsent(
+        new HeaderKey(header, fallbackLanguage, defaultWeight),
+        k -> decodeHeader(header, fallbackRepresentation, defaultWeight)));
+  }
+
+  /**
+   * Evicts all the cached (Accept) headers, MIME codes and encoded representations. Mostly
+   * intended for testing purposes.
+   */
+  public static void clearCache() {
+    decodedHeaders.clear();
+    decodedCodes.clear();
+    encodedReps.clear();
+  }
+
+  /**
+   * @return true if encoded MIME codes are validated against the grammar
+   */
+  public static boolean isStrictEncoding() {
+    return strictEncoding;
+  }
+
+  /**
+   * @param strict if true, encoded MIME codes are validated against the grammar, and an {@link
+   *               IllegalStateException} is thrown if invalid. Meant for testing and debugging.
+   */
+  public static void setStrictEncoding(boolean strict) {
+    strictEncoding = strict;
+    encodedReps.clear();
+  }
+
+  /**
+   * @return the decoded representations, sorted by weight, as an immutable list
+   */
+  private static List<WeightedRepresentation> decodeHeader(
+      String header, SyntacticRepresentation fallbackRepresentation, Float defaultWeight) {
+    return Arrays.stream(header.split(","))
         .map(String::trim)
         .map(code -> ModelMIMECoder.decodeWeighted(code, fallbackRepresentation, defaultWeight))
-        .filter(code -> code.tryGetRep().isPresent())
         .filter(wr -> wr.rep != null)
         .sorted()
-        .collect(Collectors.toList());
+        .collect(Collectors.toUnmodifiableList());
+  }
+
+  /**
+   * Cached representations are shared: clients receive (mutable) copies, which they are free to
+   * modify
+   */
+  private static List<WeightedRepresentation> copyOf(List<WeightedRepresentation> reps) {
+    List<WeightedRepresentation> copies = new ArrayList<>(reps.size());
+    for (WeightedRepresentation wr : reps) {
+      copies.add(wr.copy());
+    }
+    return copies;
+  }
+
+  private static SyntacticRepresentation copyOf(SyntacticRepresentation rep) {
+    return rep != null ? (SyntacticRepresentation) rep.clone() : null;
   }
 
   public static String encodeAll(List<WeightedRepresentation> reps) {
@@ -103,7 +190,7 @@ public class ModelMIMECoder {
   }
 
   private static String encode(WeightedRepresentation wrep) {
-    String w = new DecimalFormat("#.###").format(wrep.weight);
+    String w = weightFormat.get().format(wrep.weight);
     return encode(wrep.rep) + ";q=" + w;
   }
 
@@ -123,6 +210,12 @@ public class ModelMIMECoder {
     if (rep == null) {
       return UNKNOWN;
     }
+    return encodedReps.computeIfAbsent(
+        new EncodingKey(rep, withVersions),
+        k -> encodeTags(rep, withVersions));
+  }
+
+  private static String encodeTags(SyntacticRepresentation rep, boolean withVersions) {
     StringBuilder sb = new StringBuilder(TYPE + "/");
     if (rep.getLanguage() != null) {
       String langTag = withVersions
@@ -155,11 +248,12 @@ public class ModelMIMECoder {
       sb.append(";enc=").append(rep.getEncoding());
     }
 
-    if (!RX_PATTERN.matcher(sb.toString()).matches()) {
-      throw new IllegalStateException("Invalid constructed MIME code " + sb.toString());
+    String code = sb.toString();
+    if (strictEncoding && !RX_PATTERN.matcher(code).matches()) {
+      throw new IllegalStateException("Invalid constructed MIME code " + code);
     }
 
-    return sb.toString();
+    return code;
   }
 
   public static Optional<SyntacticRepresentation> decode(final String mime,
@@ -174,9 +268,17 @@ public class ModelMIMECoder {
   }
 
   public static Optional<SyntacticRepresentation> decode(String mime) {
-    String formalMime = ensureFormalized(mime);
-    return decompose(formalMime)
-        .map(ModelMIMECoder::decodeTags);
+    if (Util.isEmpty(mime)) {
+      return Optional.empty();
+    }
+    if (mime.length() > MAX_CACHED_HEADER_LENGTH) {
+      return decompose(ensureFormalized(mime))
+          .map(ModelMIMECoder::decodeTags);
+    }
+    return decodedCodes.computeIfAbsent(mime,
+        m -> decompose(ensureFormalized(m))
+            .map(ModelMIMECoder::decodeTags))
+        .map(ModelMIMECoder::copyOf);
   }
 
   protected static SyntacticRepresentation decodeTags(LangTags t) {
@@ -187,13 +289,8 @@ public class ModelMIMECoder {
       KnowledgeRepresentationLanguageSeries.resolve(t.versionedLangTag)
           .ifPresent(rep::setLanguage);
     } else {
-      String tag = t.langTag + "-";
-      Optional<KnowledgeRepresentationLanguage> lang = Arrays
-          .stream(KnowledgeRepresentationLanguageSeries.values())
-          .map(KnowledgeRepresentationLanguage::getTag)
-          .filter(x -> x.startsWith(tag))
-          .findFirst()
-          .flatMap(KnowledgeRepresentationLanguageSeries::resolve);
+      Optional<KnowledgeRepresentationLanguage> lang =
+          Optional.ofNullable(UnversionedLanguages.INDEX.get(t.langTag));
       lang.ifPresent(rep::setLanguage);
       if (!lang.isPresent()) {
         SerializationFormatSeries.resolve(t.langTag)
@@ -314,60 +411,307 @@ public class ModelMIMECoder {
 
   private static class LangTags {
 
-    String langTag;
-    String langVerTag;
-    String versionedLangTag;
-    String profTag;
-    String serialTag;
-    String formatTag;
-    String lexTags;
-    String charsetTag;
-    String encodingTag;
-    Float w;
+    String langTag = "";
+    String langVerTag = "";
+    String versionedLangTag = "";
+    String profTag = "";
+    String serialTag = "";
+    String formatTag = "";
+    String lexTags = "";
+    String charsetTag = "";
+    String encodingTag = "";
+    Float w = 1.0f;
+  }
+
+  /**
+   * Maps unversioned language tags (e.g. 'dmn') to the first language whose tag starts with
+   * the unversioned tag, followed by a '-' (e.g. 'dmn-v11')
+   */
+  private static final class UnversionedLanguages {
+
+    private static final Map<String, KnowledgeRepresentationLanguage> INDEX = index();
+
+    private UnversionedLanguages() {
+      // static index only
+    }
+
+    private static Map<String, KnowledgeRepresentationLanguage> index() {
+      Map<String, Optional<KnowledgeRepresentationLanguage>> firstMatch = new HashMap<>();
+      for (KnowledgeRepresentationLanguageSeries lang : KnowledgeRepresentationLanguageSeries
+          .values()) {
+        String tag = lang.getTag();
+        int idx = tag.indexOf('-');
+        if (idx >= 0) {
+          firstMatch.computeIfAbsent(tag.substring(0, idx),
+              k -> KnowledgeRepresentationLanguageSeries.resolve(tag));
+        }
+      }
+      Map<String, KnowledgeRepresentationLanguage> index = new HashMap<>();
+      firstMatch.forEach((k, v) -> v.ifPresent(l -> index.put(k, l)));
+      return Collections.unmodifiableMap(index);
+    }
+  }
+
+  /**
+   * The key of an encoded representation: the UUIDs of its terms, charset and encoding
+   */
+  private static final class EncodingKey {
+
+    private final UUID language;
+    private final UUID profile;
+    private final UUID serialization;
+    private final UUID format;
+    private final UUID[] lexicon;
+    private final String charset;
+    private final String encoding;
+    private final boolean withVersions;
+    private final int hash;
+
+    private EncodingKey(SyntacticRepresentation rep, boolean withVersions) {
+      this.language = uuidOf(rep.getLanguage());
+      this.profile = uuidOf(rep.getProfile());
+      this.serialization = uuidOf(rep.getSerialization());
+      this.format = uuidOf(rep.getFormat());
+      this.lexicon = new UUID[rep.getLexicon().size()];
+      for (int j = 0; j < lexicon.length; j++) {
+        lexicon[j] = uuidOf(rep.getLexicon().get(j));
+      }
+      this.charset = rep.getCharset();
+      this.encoding = rep.getEncoding();
+      this.withVersions = withVersions;
+      this.hash = 31 * Objects.hash(language, profile, serialization, format,
+          charset, encoding, withVersions) + Arrays.hashCode(lexicon);
+    }
+
+    private static UUID uuidOf(Term term) {
+      return term != null ? term.getUuid() : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof EncodingKey)) {
+        return false;
+      }
+      EncodingKey other = (EncodingKey) o;
+      return withVersions == other.withVersions
+          && Objects.equals(language, other.language)
+          && Objects.equals(profile, other.profile)
+          && Objects.equals(serialization, other.serialization)
+          && Objects.equals(format, other.format)
+          && Arrays.equals(lexicon, other.lexicon)
+          && Objects.equals(charset, other.charset)
+          && Objects.equals(encoding, other.encoding);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * The key of a decoded (Accept) header
+   */
+  private static final class HeaderKey {
+
+    private final String header;
+    private final KnowledgeRepresentationLanguage fallbackLanguage;
+    private final Float defaultWeight;
+    private final int hash;
+
+    private HeaderKey(String header, KnowledgeRepresentationLanguage fallbackLanguage,
+        Float defaultWeight) {
+      this.header = header;
+      this.fallbackLanguage = fallbackLanguage;
+      this.defaultWeight = defaultWeight;
+      this.hash = Objects.hash(header, fallbackLanguage, defaultWeight);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof HeaderKey)) {
+        return false;
+      }
+      HeaderKey other = (HeaderKey) o;
+      return header.equals(other.header)
+          && Objects.equals(fallbackLanguage, other.fallbackLanguage)
+          && Objects.equals(defaultWeight, other.defaultWeight);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
   }
 
+  /**
+   * Decomposes a formal MIME code into its tags, in a single pass.
+   * <p>
+   * Accepts the same language as the 'model.mime.regexp' grammar:
+   * <pre>
+   *   model/(lang|*)(-ver)?([profile])?(+serialization)?
+   *      (;lex={lex;..}|;q=weight|;charset=charset|;enc=encoding)*
+   * </pre>
+   * where, as with the grammar, repeated parameters override the previous ones.
+   *
+   * @param mime a formal MIME code
+   * @return the tags, or empty if the code does not conform to the grammar
+   */
   private static Optional<LangTags> decompose(String mime) {
-    if (Util.isEmpty(mime)) {
+    if (Util.isEmpty(mime) || !mime.startsWith(TYPE_PREFIX)) {
       return Optional.empty();
     }
-    Matcher matcher = RX_PATTERN.matcher(mime);
-    if (!matcher.matches()) {
+    final int n = mime.length();
+    int i = TYPE_PREFIX.length();
+    LangTags tags = new LangTags();
+
+    int end = i < n && mime.charAt(i) == '*' ? i + 1 : scanWord(mime, i);
+    if (end == i) {
       return Optional.empty();
     }
+    tags.langTag = mime.substring(i, end);
+    i = end;
 
-    LangTags tags = new LangTags();
-    tags.langTag = isEmpty(matcher.group(1)) ? "" : matcher.group(1).trim();
-    tags.langVerTag = isEmpty(matcher.group(2)) ? "" : matcher.group(2).trim()
-        .replace("-", "");
+    if (i < n && mime.charAt(i) == '-') {
+      end = scanWord(mime, i + 1);
+      if (end == i + 1) {
+        return Optional.empty();
+      }
+      tags.langVerTag = mime.substring(i + 1, end);
+      i = end;
+    }
     tags.versionedLangTag =
         tags.langTag + (isEmpty(tags.langVerTag) ? "" : ("-" + tags.langVerTag));
 
-    tags.profTag = isEmpty(matcher.group(3)) ? "" : matcher.group(3).trim()
-        .replace("]", "")
-        .replace("[", "");
+    if (i < n && mime.charAt(i) == '[') {
+      end = i + 1;
+      while (end < n && (isWordChar(mime.charAt(end)) || mime.charAt(end) == '-')) {
+        end++;
+      }
+      if (end == i + 1 || end == n || mime.charAt(end) != ']') {
+        return Optional.empty();
+      }
+      tags.profTag = mime.substring(i + 1, end);
+      i = end + 1;
+    }
+
+    if (i < n && mime.charAt(i) == '+') {
+      end = i + 1;
+      while (end < n && (isWordChar(mime.charAt(end)) || mime.charAt(end) == '/')) {
+        end++;
+      }
+      if (end == i + 1) {
+        return Optional.empty();
+      }
+      tags.serialTag = mime.substring(i + 1, end);
+      tags.formatTag = tags.serialTag;
+      i = end;
+    }
 
-    tags.serialTag = isEmpty(matcher.group(4)) ? "" : matcher.group(4).trim()
-        .replaceAll("\\+", "");
+    while (i < n) {
+      if (mime.startsWith(";lex={", i)) {
+        int from = i + 6;
+        end = from;
+        while (end < n && (isWordChar(mime.charAt(end)) || mime.charAt(end) == ';')) {
+          end++;
+        }
+        if (end == from || end == n || mime.charAt(end) != '}') {
+          return Optional.empty();
+        }
+        tags.lexTags = mime.substring(from, end);
+        i = end + 1;
+      } else if (mime.startsWith(";q=", i)) {
+        int from = i + 3;
+        end = scanWeight(mime, from);
+        if (end == from) {
+          return Optional.empty();
+        }
+        tags.w = Float.parseFloat(mime.substring(from, end));
+        i = end;
+      } else if (mime.startsWith(";charset=", i)) {
+        int from = i + 9;
+        end = from;
+        while (end < n && (isWordChar(mime.charAt(end)) || mime.charAt(end) == '-')) {
+          end++;
+        }
+        if (end == from) {
+          return Optional.empty();
+        }
+        tags.charsetTag = mime.substring(from, end);
+        i = end;
+      } else if (mime.startsWith(";enc=", i)) {
+        int from = i + 5;
+        end = scanWord(mime, from);
+        if (end == from) {
+          return Optional.empty();
+        }
+        tags.encodingTag = mime.substring(from, end);
+        i = end;
+      } else {
+        return Optional.empty();
+      }
+    }
 
-    tags.formatTag = Util.isEmpty(matcher.group(4)) ? "" : matcher.group(4)
-        .trim().replaceAll("\\+", "");
+    return Optional.of(tags);
+  }
 
-    tags.lexTags = isEmpty(matcher.group(6)) ? "" : matcher.group(6).trim()
-        .replace("}", "")
-        .replace("{", "")
-        .replace(";lex=", "");
+  /**
+   * @param code a MIME code
+   * @return true if the code is a formal MIME code, with an explicit language version
+   */
+  static boolean hasLanguageVersion(String code) {
+    return decompose(code)
+        .map(t -> !isEmpty(t.langVerTag))
+        .orElse(false);
+  }
 
-    tags.w = isEmpty(matcher.group(7))
-        ? 1.0f
-        : Float.parseFloat(matcher.group(7).replace(";q=",""));
+  /**
+   * @return the index of the first non-word character at, or after, from
+   */
+  private static int scanWord(String s, int from) {
+    int i = from;
+    while (i < s.length() && isWordChar(s.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
 
-    tags.charsetTag = isEmpty(matcher.group(8)) ? "" : matcher.group(8).trim()
-        .replace(";charset=", "");
+  /**
+   * Scans a weight, either '1' or '0.' followed by one or more digits
+   *
+   * @return the index following the weight, or from if there is no weight at from
+   */
+  private static int scanWeight(String s, int from) {
+    int n = s.length();
+    if (from < n && s.charAt(from) == '1') {
+      return from + 1;
+    }
+    if (from + 2 < n && s.charAt(from) == '0' && s.charAt(from + 1) == '.'
+        && isDigit(s.charAt(from + 2))) {
+      int i = from + 3;
+      while (i < n && isDigit(s.charAt(i))) {
+        i++;
+      }
+      return i;
+    }
+    return from;
+  }
 
-    tags.encodingTag = isEmpty(matcher.group(9)) ? "" : matcher.group(9).trim()
-        .replace(";enc=", "");
+  /**
+   * As in the regex class \\w
+   */
+  private static boolean isWordChar(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '_';
+  }
 
-    return Optional.of(tags);
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
   }
 
 
@@ -404,14 +748,36 @@ public class ModelMIMECoder {
     }
   }
 
+  /**
+   * Detects the weight of a (non formal) MIME code, i.e. the last ';q=' parameter whose value
+   * is in the form [01].d+, followed by other parameters, if any
+   */
   private static Optional<Float> detectWeight(String code) {
-    Matcher m = WX_PATTERN.matcher(code);
-    if (m.matches()) {
-      return Optional.of(Float.parseFloat(m.group(2)));
+    for (int j = 0; j < code.length(); j++) {
+      if (isLineTerminator(code.charAt(j))) {
+        return Optional.empty();
+      }
+    }
+    int idx = code.lastIndexOf(";q=");
+    while (idx > 0) {
+      int from = idx + 3;
+      int end = from + 2;
+      while (end < code.length() && isDigit(code.charAt(end))) {
+        end++;
+      }
+      if (end > from + 2 && (code.charAt(from) == '0' || code.charAt(from) == '1')
+          && (end == code.length() || (code.charAt(end) == ';' && end + 1 < code.length()))) {
+        return Optional.of(Float.parseFloat(code.substring(from, end)));
+      }
+      idx = code.lastIndexOf(";q=", idx - 1);
     }
     return Optional.empty();
   }
 
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
   public static class WeightedRepresentation implements Comparable<WeightedRepresentation> {
 
     String code;
@@ -430,6 +796,10 @@ public class ModelMIMECoder {
       this.weight = w;
     }
 
+    private WeightedRepresentation copy() {
+      return new WeightedRepresentation(code, copyOf(rep), weight);
+    }
+
     @Override
     public int compareTo(WeightedRepresentation other) {
       return Float.compare(other.weight,this.weight);
@@ -0,0 +1,273 @@
+package org.omg.spec.api4kp._20200801.services.transrepresentation;
+
+import edu.mayo.kmdp.util.LRUCache;
+import edu.mayo.kmdp.util.Util;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.omg.spec.api4kp._20200801.id.Term;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.ModelMIMECoder.WeightedRepresentation;
+import org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguage;
+import org.omg.spec.api4kp._20200801.taxonomy.lexicon.Lexicon;
+
+/**
+ * Content negotiation: selects, among the Representations supported by a server, the one that
+ * best matches the (weighted) Representations accepted by a client, e.g. as per an Accept header.
+ * <p>
+ * The supported Representations are listed in order of preference, and indexed by language when
+ * the negotiator is created, so that each accepted Representation is only matched against the
+ * supported Representations in the same language. The accepted Representations are processed in
+ * a single pass: the best match is the supported Representation (first, in order of preference)
+ * that matches the accepted Representation with the highest weight (first, in order of
+ * acceptance). Representations with a zero weight are not acceptable.
+ * <p>
+ * A supported Representation matches an accepted one if:
+ * <ul>
+ *   <li>the accepted Representation has no language (e.g. 'model/*'), or the languages are the
+ *   same. If the accepted MIME code does not specify a language version (e.g. 'model/dmn',
+ *   or a non-formal code such as 'text/html'), any version of the language is a match</li>
+ *   <li>the accepted Representation has no profile, or the profiles are the same</li>
+ *   <li>the serializations, formats, charsets and encodings are the same, unless either side
+ *   does not specify them</li>
+ *   <li>the accepted Representation has no lexicons, or the supported Representation only uses
+ *   lexicons that are accepted</li>
+ * </ul>
+ * The outcome of the negotiation of an Accept header is cached, so a negotiator is meant to be
+ * created once per supported set, and reused across requests.
+ */
+public final class RepresentationNegotiator {
+
+  private static final int MAX_CACHE_SIZE = 256;
+
+  private static final int[] NONE = new int[0];
+
+  private static final String ANY_MODEL = ModelMIMECoder.TYPE + "/*";
+
+  private final Candidate[] candidates;
+  private final int[] all;
+  private final Map<UUID, int[]> byLanguage;
+  private final Map<String, int[]> byUnversionedLanguage;
+
+  private final LRUCache<String, Optional<SyntacticRepresentation>> negotiated =
+      new LRUCache<>(MAX_CACHE_SIZE);
+
+  /**
+   * A supported Representation, with its terms pre-resolved to UUIDs
+   */
+  private static final class Candidate {
+
+    private final SyntacticRepresentation rep;
+    private final UUID profile;
+    private final UUID serialization;
+    private final UUID format;
+    private final Set<UUID> lexicons;
+
+    private Candidate(SyntacticRepresentation rep) {
+      this.rep = rep;
+      this.profile = uuidOf(rep.getProfile());
+      this.serialization = uuidOf(rep.getSerialization());
+      this.format = uuidOf(rep.getFormat());
+      this.lexicons = lexiconsOf(rep);
+    }
+  }
+
+  private RepresentationNegotiator(List<SyntacticRepresentation> supported) {
+    this.candidates = new Candidate[supported.size()];
+    Map<UUID, List<Integer>> langIndex = new HashMap<>();
+    Map<String, List<Integer>> unversionedIndex = new HashMap<>();
+    for (int j = 0; j < candidates.length; j++) {
+      SyntacticRepresentation rep = Objects.requireNonNull(supported.get(j));
+      candidates[j] = new Candidate(rep);
+      KnowledgeRepresentationLanguage lang = rep.getLanguage();
+      if (lang != null) {
+        langIndex.computeIfAbsent(lang.getUuid(), k -> new ArrayList<>()).add(j);
+        unversionedIndex.computeIfAbsent(unversionedTag(lang), k -> new ArrayList<>()).add(j);
+      }
+    }
+    this.all = new int[candidates.length];
+    Arrays.setAll(all, j -> j);
+    this.byLanguage = toIndex(langIndex);
+    this.byUnversionedLanguage = toIndex(unversionedIndex);
+  }
+
+  /**
+   * @param supported the supported Representations, in order of preference
+   * @return a negotiator for the supported Representations
+   */
+  public static RepresentationNegotiator of(SyntacticRepresentation... supported) {
+    return of(Arrays.asList(supported));
+  }
+
+  /**
+   * @param supported the supported Representations, in order of preference
+   * @return a negotiator for the supported Representations
+   */
+  public static RepresentationNegotiator of(Collection<SyntacticRepresentation> supported) {
+    return new RepresentationNegotiator(new ArrayList<>(supported));
+  }
+
+  /**
+   * @return the supported Representations, in order of preference
+   */
+  public List<SyntacticRepresentation> getSupportedRepresentations() {
+    List<SyntacticRepresentation> reps = new ArrayList<>(candidates.length);
+    for (Candidate c : candidates) {
+      reps.add(c.rep);
+    }
+    return Collections.unmodifiableList(reps);
+  }
+
+  /**
+   * Negotiates the Representation of a response, given the Accept header of a request. '*&#47;*'
+   * is interpreted as 'model/*'. If the header is empty, any Representation is acceptable.
+   * Entries that cannot be decoded (e.g. malformed formal MIME codes) are not acceptable, and are
+   * skipped.
+   *
+   * @param acceptHeader the (X-)Accept header, as a comma-separated list of MIME codes
+   * @return the best supported Representation (as provided to this negotiator), if any
+   */
+  public Optional<SyntacticRepresentation> negotiate(String acceptHeader) {
+    if (Util.isEmpty(acceptHeader)) {
+      return candidates.length > 0 ? Optional.of(candidates[0].rep) : Optional.empty();
+    }
+    return negotiated.computeIfAbsent(acceptHeader.trim(),
+        header -> negotiate(decodeEntries(header.replace("*/*", ANY_MODEL))));
+  }
+
+  /**
+   * Decodes the entries of an Accept header one by one, skipping the ones that cannot be decoded.
+   * Unlike {@link ModelMIMECoder#decodeAll(String)}, the entries are not sorted by weight: since
+   * the negotiation only considers higher weights, and ties go to the first entry, the outcome is
+   * the same.
+   *
+   * @param header the Accept header
+   * @return the decoded entries, in order of acceptance
+   */
+  private static List<WeightedRepresentation> decodeEntries(String header) {
+    String[] codes = header.split(",");
+    List<WeightedRepresentation> accepted = new ArrayList<>(codes.length);
+    for (String code : codes) {
+      try {
+        accepted.add(ModelMIMECoder.decodeWeighted(code.trim()));
+      } catch (IllegalArgumentException e) {
+        // not acceptable
+      }
+    }
+    return accepted;
+  }
+
+  /**
+   * Negotiates the Representation of a response, given the (decoded) accepted Representations
+   *
+   * @param accepted the accepted Representations
+   * @return the best supported Representation (as provided to this negotiator), if any
+   * @see ModelMIMECoder#decodeAll(String)
+   */
+  public Optional<SyntacticRepresentation> negotiate(List<WeightedRepresentation> accepted) {
+    Candidate best = null;
+    float bestWeight = 0.0f;
+    for (WeightedRepresentation wr : accepted) {
+      SyntacticRepresentation acc = wr.getRep();
+      if (acc == null || wr.getWeight() <= bestWeight) {
+        continue;
+      }
+      Candidate match = firstMatch(acc, ModelMIMECoder.hasLanguageVersion(wr.getCode()));
+      if (match != null) {
+        best = match;
+        bestWeight = wr.getWeight();
+      }
+    }
+    return best != null ? Optional.of(best.rep) : Optional.empty();
+  }
+
+
+  private Candidate firstMatch(SyntacticRepresentation acc, boolean versioned) {
+    int[] pool = poolOf(acc.getLanguage(), versioned);
+    if (pool.length == 0) {
+      return null;
+    }
+    UUID profile = uuidOf(acc.getProfile());
+    UUID serialization = uuidOf(acc.getSerialization());
+    UUID format = uuidOf(acc.getFormat());
+    Set<UUID> lexicons = lexiconsOf(acc);
+    for (int j : pool) {
+      Candidate c = candidates[j];
+      if ((profile == null || profile.equals(c.profile))
+          && compatible(serialization, c.serialization)
+          && compatible(format, c.format)
+          && (lexicons.isEmpty() || lexicons.containsAll(c.lexicons))
+          && compatibleIgnoreCase(acc.getCharset(), c.rep.getCharset())
+          && compatibleIgnoreCase(acc.getEncoding(), c.rep.getEncoding())) {
+        return c;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the (indexes of the) supported Representations in the given language, in order of
+   * preference
+   */
+  private int[] poolOf(KnowledgeRepresentationLanguage lang, boolean versioned) {
+    if (lang == null) {
+      return all;
+    }
+    int[] pool = versioned
+        ? byLanguage.get(lang.getUuid())
+        : byUnversionedLanguage.get(unversionedTag(lang));
+    return pool != null ? pool : NONE;
+  }
+
+  private static boolean compatible(UUID accepted, UUID supported) {
+    return accepted == null || supported == null || accepted.equals(supported);
+  }
+
+  private static boolean compatibleIgnoreCase(String accepted, String supported) {
+    return accepted == null || supported == null || accepted.equalsIgnoreCase(supported);
+  }
+
+  /**
+   * @return the tag of the language, without the version, e.g. 'dmn' for 'dmn-v12'
+   */
+  private static String unversionedTag(KnowledgeRepresentationLanguage lang) {
+    String tag = lang.getTag();
+    int idx = tag.indexOf('-');
+    return idx < 0 ? tag : tag.substring(0, idx);
+  }
+
+  private static UUID uuidOf(Term term) {
+    return term != null ? term.getUuid() : null;
+  }
+
+  private static Set<UUID> lexiconsOf(SyntacticRepresentation rep) {
+    List<Lexicon> lexs = rep.getLexicon();
+    if (lexs.isEmpty()) {
+      return Collections.emptySet();
+    }
+    Set<UUID> uuids = new HashSet<>(lexs.size());
+    for (Lexicon lex : lexs) {
+      uuids.add(lex.getUuid());
+    }
+    return uuids;
+  }
+
+  private static <K> Map<K, int[]> toIndex(Map<K, List<Integer>> index) {
+    Map<K, int[]> result = new HashMap<>(index.size());
+    index.forEach((k, v) -> result.put(k, toArray(v)));
+    return result;
+  }
+
+  private static int[] toArray(List<Integer> list) {
+    return list.stream().mapToInt(Integer::intValue).toArray();
+  }
+}
@@ -21,6 +21,7 @@ import static org.omg.spec.api4kp._20200801.Answer.merge;
 import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
 
 import edu.mayo.ontology.taxonomies.ws.responsecodes.ResponseCodeSeries;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,11 +29,21 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.omg.spec.api4kp._20200801.AbstractCarrier;
 import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.AsyncAnswer;
+import org.omg.spec.api4kp._20200801.Explainer;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
 
 class AnswerTest {
@@ -198,6 +209,53 @@ class AnswerTest {
     assertEquals(Arrays.asList(1, 2), ans.orElse(Collections.emptyList()));
   }
 
+  @Test
+  void testCollectToStream() {
+    Answer<Stream<Integer>> ans = Stream.of(Answer.of(1), Answer.of(2), Answer.of(3))
+        .collect(Answer.toStream(x -> x > 1));
+    assertEquals(Arrays.asList(2, 3),
+        ans.map(s -> s.collect(Collectors.toList())).orElse(Collections.emptyList()));
+  }
+
+  @Test
+  void testCollectWithFailurePolicy() {
+    List<Answer<Integer>> list = Arrays.asList(
+        Answer.of(1),
+        Answer.<Integer>failed().withExplanationMessage("Failed 2"),
+        Answer.of(3)
+    );
+
+    Answer<List<Integer>> skip = list.stream()
+        .collect(Answer.toList(Answer.FailurePolicy.SKIP));
+    assertEquals(Arrays.asList(1, 3), skip.get());
+
+    Answer<List<Integer>> failFast = list.stream()
+        .collect(Answer.toList(Answer.FailurePolicy.FAIL_FAST));
+    assertTrue(failFast.isFailure());
+    assertTrue(failFast.printExplanation().contains("Failed 2"));
+
+    Answer<List<Integer>> collect = list.stream()
+        .collect(Answer.toList(Answer.FailurePolicy.COLLECT));
+    assertEquals(Arrays.asList(1, 3), collect.get());
+    assertTrue(collect.printExplanation().contains("Failed 2"));
+  }
+
+  @Test
+  void testCollectParallel() {
+    List<Integer> expected = IntStream.range(0, 10_000).boxed()
+        .collect(Collectors.toList());
+
+    Answer<List<Integer>> ans = expected.parallelStream()
+        .map(Answer::of)
+        .collect(Answer.toList());
+    assertEquals(expected, ans.get());
+
+    Answer<Set<Integer>> set = expected.parallelStream()
+        .map(j -> j % 100 == 0 ? Answer.<Integer>failed() : Answer.of(j))
+        .collect(Answer.toSet(Answer.FailurePolicy.COLLECT));
+    assertEquals(9_900, set.get().size());
+  }
+
   @Test
   void testMergeWithExplanation() {
     String xpl = "X";
@@ -364,4 +422,284 @@ class AnswerTest {
     assertEquals(List.of("k"), j);
   }
 
+  @Test
+  void testAsyncChaining() {
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      Answer<Integer> ans = Answer.of("foo")
+          .withAddedExplanationMessage("Did foo")
+          .async(pool)
+          .map(String::toUpperCase)
+          .flatMapAsync(s -> AsyncAnswer.supply(() -> Answer.of(s.length()), pool))
+          .join();
+      assertEquals(3, ans.get());
+      assertTrue(ans.printExplanation().contains("Did foo"));
+
+      Answer<Integer> fail = Answer.<String>failed(new IllegalStateException("Bad foo"))
+          .async(pool)
+          .map(String::length)
+          .join(Duration.ofSeconds(5));
+      assertTrue(fail.isFailure());
+      assertTrue(fail.printExplanation().contains("Bad foo"));
+
+      Answer<String> alt = AsyncAnswer.<String>supply(() -> {
+            throw new IllegalStateException();
+          }, pool)
+          .or(() -> Answer.of("bar"))
+          .join();
+      assertEquals("bar", alt.get());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void testAnyDoAsync() throws InterruptedException {
+    ExecutorService pool = Executors.newCachedThreadPool();
+    CountDownLatch interrupted = new CountDownLatch(1);
+    try {
+      Answer<String> ans = Answer.anyDoAsync(
+          Arrays.asList("slow", "fast"),
+          x -> {
+            if ("slow".equals(x)) {
+              try {
+                Thread.sleep(60_000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+              }
+            }
+            return Answer.of(x);
+          },
+          pool).join(Duration.ofSeconds(30));
+
+      assertEquals("fast", ans.get());
+      assertTrue(interrupted.await(30, TimeUnit.SECONDS));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void testFirstDoAsync() {
+    ExecutorService pool = Executors.newCachedThreadPool();
+    try {
+      Answer<String> ans = Answer.firstDoAsync(
+          Arrays.asList("a", "b", "c"),
+          x -> {
+            if ("a".equals(x)) {
+              return Answer.failed();
+            }
+            if ("b".equals(x)) {
+              try {
+                Thread.sleep(100);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            }
+            return Answer.of(x);
+          },
+          pool).join(Duration.ofSeconds(30));
+      assertEquals("b", ans.get());
+
+      Answer<String> none = Answer.firstDoAsync(
+          Arrays.asList("a", "b"),
+          x -> Answer.<String>failed().withExplanationMessage("Unable to do " + x),
+          () -> Answer.of("x").withExplanation("Compensation!"),
+          pool).join(Duration.ofSeconds(30));
+      assertEquals("x", none.get());
+      assertTrue(none.printExplanation().contains("Unable to do a"));
+      assertTrue(none.printExplanation().contains("Unable to do b"));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void testAnyDoWithDeadline() {
+    ExecutorService pool = Executors.newCachedThreadPool();
+    try {
+      Answer<String> ans = Answer.anyDo(
+          Arrays.asList("a", "b"),
+          x -> {
+            try {
+              Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return Answer.of(x);
+          },
+          () -> Answer.of("x").withExplanation("Compensation!"),
+          pool,
+          Duration.ofMillis(200));
+
+      assertEquals("x", ans.get());
+      assertTrue(ans.printExplanation().contains("did not answer"));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void testFirstDoWithHedging() {
+    ExecutorService pool = Executors.newCachedThreadPool();
+    List<String> launched = Collections.synchronizedList(new ArrayList<>());
+    try {
+      Answer<String> ans = Answer.firstDo(
+          Arrays.asList("a", "b", "c"),
+          x -> {
+            launched.add(x);
+            if ("a".equals(x)) {
+              return Answer.failed();
+            }
+            return Answer.of(x);
+          },
+          () -> Answer.of("x"),
+          pool,
+          Duration.ofSeconds(30),
+          Duration.ofSeconds(10));
+
+      assertEquals("b", ans.get());
+      assertEquals(Arrays.asList("a", "b"), launched);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void testAnyDoWithLatencyHedging() {
+    ExecutorService pool = Executors.newCachedThreadPool();
+    List<String> launched = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      Answer<String> ans = Answer.anyDo(
+          Arrays.asList("a", "b"),
+          x -> {
+            launched.add(x);
+            if ("a".equals(x)) {
+              // slow: only answers when released (or interrupted)
+              try {
+                release.await(10, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Answer.failed(e);
+              }
+            }
+            return Answer.of(x);
+          },
+          () -> Answer.of("x"),
+          pool,
+          Duration.ofSeconds(30),
+          Duration.ofMillis(50));
+
+      // 'b' is launched because 'a' is slow, not because 'a' has failed
+      assertEquals("b", ans.get());
+      assertEquals(Arrays.asList("a", "b"), launched);
+    } finally {
+      release.countDown();
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void testFirstDoWithLatencyHedging() {
+    ExecutorService pool = Executors.newCachedThreadPool();
+    List<String> launched = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch hedged = new CountDownLatch(1);
+    try {
+      Answer<String> ans = Answer.firstDo(
+          Arrays.asList("a", "b", "c"),
+          x -> {
+            launched.add(x);
+            if ("a".equals(x)) {
+              // slow: succeeds once 'b' has been launched, fails if it never is
+              try {
+                return hedged.await(10, TimeUnit.SECONDS)
+                    ? Answer.of(x) : Answer.failed();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Answer.failed(e);
+              }
+            }
+            hedged.countDown();
+            return Answer.of(x);
+          },
+          () -> Answer.of("x"),
+          pool,
+          Duration.ofSeconds(30),
+          Duration.ofMillis(50));
+
+      // 'b' succeeds first, but 'a' precedes it
+      assertEquals("a", ans.get());
+      assertTrue(launched.containsAll(Arrays.asList("a", "b")));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void testLazyExplanation() {
+    AtomicInteger traces = new AtomicInteger();
+    Answer<Integer> ans = Answer.of(1)
+        .withAddedExplanationMessage(() -> "Trace " + traces.incrementAndGet())
+        .map(x -> x + 1)
+        .flatMap(x -> Answer.of(x + 1).withAddedExplanationMessage("Did B"));
+
+    assertEquals(0, traces.get());
+    assertTrue(ans.printExplanation().contains("Trace 1"));
+    assertTrue(ans.printExplanation().contains("Did B"));
+    assertEquals(1, traces.get());
+  }
+
+  @Test
+  void testLongExplanationChain() {
+    Answer<Integer> ans = Answer.of(0);
+    for (int j = 0; j < 5_000; j++) {
+      final int step = j;
+      ans = ans.flatMap(x -> Answer.of(x + 1).withAddedExplanationMessage("Step " + step));
+    }
+
+    assertEquals(5_000, ans.get());
+    List<KnowledgeCarrier> steps = ans.getExplanation().componentList();
+    assertTrue(steps.size() < 5_000);
+    String expl = ans.printExplanation();
+    assertTrue(expl.contains("Step 4999"));
+    assertTrue(expl.contains("omitted"));
+  }
+
+  @Test
+  void testLegacyExplanationField() {
+    LegacyExplainer ex = new LegacyExplainer();
+    ex.explain("Did A");
+    // the field reflects the Explanation once read
+    assertTrue(ex.printExplanation().contains("Did A"));
+    assertTrue(ex.legacyExplanation().contains("Did A"));
+
+    // an Explanation assigned to the field replaces the buffered ones
+    ex.assign(Explainer.ofNaturalLanguageRep("Did B"));
+    ex.explain("Did C");
+    String expl = ex.printExplanation();
+    assertFalse(expl.contains("Did A"));
+    assertTrue(expl.contains("Did B"));
+    assertTrue(expl.contains("Did C"));
+  }
+
+  @SuppressWarnings("deprecation")
+  private static class LegacyExplainer extends Explainer {
+
+    void explain(String msg) {
+      addExplanationMessage(msg);
+    }
+
+    void assign(KnowledgeCarrier kc) {
+      this.explanation = kc;
+    }
+
+    String legacyExplanation() {
+      return explanation.componentList().stream()
+          .map(kc -> kc.asString().orElse(""))
+          .collect(Collectors.joining());
+    }
+  }
+
 }
@@ -1,22 +1,41 @@
 package edu.mayo.kmdp;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
 import static org.omg.spec.api4kp._20200801.AbstractCompositeCarrier.ofUniformAggregate;
 import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.HTML;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Encoded_Knowledge_Expression;
 
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import edu.mayo.kmdp.util.JaxbUtil;
 import edu.mayo.kmdp.util.XMLUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.omg.spec.api4kp._20200801.AbstractCarrier;
+import org.omg.spec.api4kp._20200801.FileExpression;
 import org.omg.spec.api4kp._20200801.services.CompositeKnowledgeCarrier;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
 import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
@@ -69,6 +88,97 @@ class CarrierTest {
     assertEquals("bar", kc.asString().orElse("FAILED"));
   }
 
+  @Test
+  void testCarrierViewsWithCharset() throws IOException {
+    String text = "caf\u00e9 \u00fcber";
+    KnowledgeCarrier kc = AbstractCarrier.of(text, rep(HTML, TXT, UTF_16));
+
+    var baos = new ByteArrayOutputStream();
+    assertTrue(kc.writeTo(baos));
+    assertArrayEquals(text.getBytes(UTF_16), baos.toByteArray());
+    assertArrayEquals(text.getBytes(UTF_16),
+        kc.asInputStream().orElseGet(Assertions::fail).readAllBytes());
+
+    byte[] bytes = kc.asBinary().orElseGet(Assertions::fail);
+    assertArrayEquals(text.getBytes(UTF_16), bytes);
+    assertSame(bytes, kc.asBinary().orElse(null));
+
+    KnowledgeCarrier bin = AbstractCarrier.of(bytes, rep(HTML, TXT, UTF_16));
+    String str = bin.asString().orElseGet(Assertions::fail);
+    assertEquals(text, str);
+    assertSame(str, bin.asString().orElse(null));
+
+    kc.setExpression("bar");
+    assertArrayEquals("bar".getBytes(UTF_16), kc.asBinary().orElseGet(Assertions::fail));
+    kc.getRepresentation().setCharset(ISO_8859_1.name());
+    assertArrayEquals("bar".getBytes(ISO_8859_1), kc.asBinary().orElseGet(Assertions::fail));
+  }
+
+  @Test
+  void testEncodedCarrierViews() throws IOException {
+    String text = "caf\u00e9 ".repeat(5000);
+    KnowledgeCarrier kc = new KnowledgeCarrier()
+        .withExpression(Base64.getEncoder().encodeToString(text.getBytes(UTF_8)))
+        .withLevel(Encoded_Knowledge_Expression)
+        .withRepresentation(rep(HTML, TXT, UTF_8));
+
+    assertArrayEquals(text.getBytes(UTF_8),
+        kc.asInputStream().orElseGet(Assertions::fail).readAllBytes());
+    var baos = new ByteArrayOutputStream();
+    assertTrue(kc.writeTo(baos));
+    assertArrayEquals(text.getBytes(UTF_8), baos.toByteArray());
+
+    assertEquals(text, kc.asString().orElse(""));
+    assertArrayEquals(text.getBytes(UTF_8), kc.asBinary().orElseGet(Assertions::fail));
+
+    assertFalse(new KnowledgeCarrier().writeTo(new ByteArrayOutputStream()));
+    assertFalse(new KnowledgeCarrier().asInputStream().isPresent());
+  }
+
+  @Test
+  void testFileCarrier(@TempDir Path tmp) throws IOException {
+    String text = "caf\u00e9 ".repeat(5000);
+    Path file = tmp.resolve("expr.txt");
+    Files.write(file, text.getBytes(UTF_16));
+
+    KnowledgeCarrier kc = AbstractCarrier.ofPath(file, rep(HTML, TXT, UTF_16));
+    assertTrue(kc.is(FileExpression.class));
+    assertEquals(text, kc.asString().orElse(""));
+    assertArrayEquals(text.getBytes(UTF_16), kc.asBinary().orElseGet(Assertions::fail));
+
+    var baos = new ByteArrayOutputStream();
+    assertTrue(kc.writeTo(baos));
+    assertArrayEquals(text.getBytes(UTF_16), baos.toByteArray());
+    try (InputStream in = kc.asInputStream().orElseGet(Assertions::fail)) {
+      assertArrayEquals(text.getBytes(UTF_16), in.readAllBytes());
+    }
+  }
+
+  @Test
+  void testFileCarrierMarshalling(@TempDir Path tmp) throws IOException {
+    byte[] content = "<p>Hello</p>".getBytes(UTF_8);
+    Path file = tmp.resolve("expr.html");
+    Files.write(file, content);
+
+    KnowledgeCarrier kc = AbstractCarrier.ofPath(file, rep(HTML, TXT, UTF_8));
+    KnowledgeCarrier bin = AbstractCarrier.of(content, rep(HTML, TXT, UTF_8))
+        .withAssetId(kc.getAssetId());
+
+    String xml = JaxbUtil.marshallToString(Collections.singleton(KnowledgeCarrier.class),
+        kc, this::asRoot, JaxbUtil.defaultProperties());
+    // marshalled as the content, the same way as a binary Expression, leaving the Carrier as is
+    assertTrue(xml.contains(Base64.getEncoder().encodeToString(content)));
+    assertEquals(
+        JaxbUtil.marshallToString(Collections.singleton(KnowledgeCarrier.class),
+            bin, this::asRoot, JaxbUtil.defaultProperties()),
+        xml);
+    assertTrue(kc.is(FileExpression.class));
+  }
+
+  private JAXBElement<? super KnowledgeCarrier> asRoot(KnowledgeCarrier kc) {
+    return new JAXBElement<>(new QName("urn:test", "carrier"), KnowledgeCarrier.class, kc);
+  }
+
 
   @Test
   void testSetOrientedAggregateCarrrier() {
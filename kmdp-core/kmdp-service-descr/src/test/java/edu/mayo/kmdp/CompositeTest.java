@@ -4,14 +4,17 @@ import static edu.mayo.kmdp.registry.Registry.KNOWLEDGE_ASSET_URI;
 import static edu.mayo.kmdp.util.JenaUtil.objA;
 import static edu.mayo.kmdp.util.Util.uuid;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.AbstractCompositeCarrier.hashComponentIds;
 import static org.omg.spec.api4kp._20200801.AbstractCompositeCarrier.inferSetStruct;
 import static org.omg.spec.api4kp._20200801.AbstractCompositeCarrier.inferStruct;
 import static org.omg.spec.api4kp._20200801.AbstractCompositeCarrier.ofMixedAggregate;
@@ -19,6 +22,7 @@ import static org.omg.spec.api4kp._20200801.AbstractCompositeCarrier.ofMixedAnon
 import static org.omg.spec.api4kp._20200801.AbstractCompositeCarrier.ofUniformAggregate;
 import static org.omg.spec.api4kp._20200801.AbstractCompositeCarrier.ofUniformAnonymousComposite;
 import static org.omg.spec.api4kp._20200801.AbstractCompositeCarrier.ofUniformNamedComposite;
+import static org.omg.spec.api4kp._20200801.contrastors.SyntacticRepresentationContrastor.theRepContrastor;
 import static org.omg.spec.api4kp._20200801.id.IdentifierConstants.VERSION_LATEST;
 import static org.omg.spec.api4kp._20200801.id.IdentifierConstants.VERSION_ZERO;
 import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.hashIdentifiers;
@@ -37,11 +41,14 @@ import static org.omg.spec.api4kp._20200801.taxonomy.structuralreltype.Structura
 import static org.omg.spec.api4kp._20200801.taxonomy.structuralreltype.StructuralPartTypeSeries.Has_Structuring_Component;
 
 import edu.mayo.kmdp.terms.TermsHelper;
+import edu.mayo.kmdp.util.JSonUtil;
+import edu.mayo.kmdp.util.JaxbUtil;
 import edu.mayo.kmdp.util.StreamUtil;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,8 +56,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
 import org.apache.commons.io.IOUtils;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
@@ -60,6 +72,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.omg.spec.api4kp._20200801.AbstractCarrier;
 import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.ComponentIndex;
+import org.omg.spec.api4kp._20200801.StructGraph;
 import org.omg.spec.api4kp._20200801.id.Link;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
 import org.omg.spec.api4kp._20200801.id.SemanticIdentifier;
@@ -263,6 +277,159 @@ class CompositeTest {
     assertEquals(3, ckc.getComponent().size());
   }
 
+  @Test
+  void testComponentIndex() {
+    KnowledgeCarrier kc1 = mockCarrier("AAA");
+    KnowledgeCarrier kc2 = mockCarrier("BBB");
+    KnowledgeCarrier kc3 = mockCarrier("CCC");
+
+    CompositeKnowledgeCarrier ckc = ofUniformAggregate(Arrays.asList(kc1, kc2));
+
+    assertSame(kc2, ckc.componentById(kc2.getAssetId(), ckc).orElse(null));
+    assertTrue(ckc.componentById(kc3.getAssetId(), ckc).isEmpty());
+    assertSame(ckc.componentIndex(), ckc.componentIndex());
+    assertEquals(2, ckc.componentIndex().size());
+
+    // additions are detected
+    ckc.getComponent().add(kc3);
+    assertSame(kc3, ckc.componentById(kc3.getAssetId(), ckc).orElse(null));
+    assertEquals(3, ckc.componentIndex().size());
+
+    // replacements are detected
+    ckc.getComponent().set(0, mockCarrier("DDD"));
+    assertTrue(ckc.componentById(kc1.getAssetId(), ckc).isEmpty());
+    assertEquals("<p>DDD<p>",
+        ckc.componentAs(newId(uuid("DDD"), VERSION_ZERO), String.class).orElse(null));
+
+    // re-identification is detected
+    ResourceIdentifier eeeId = newId(uuid("EEE"), VERSION_ZERO);
+    kc2.withAssetId(eeeId);
+    assertTrue(ckc.componentById(newId(uuid("BBB"), VERSION_ZERO), ckc).isEmpty());
+    assertSame(kc2, ckc.componentById(eeeId, ckc).orElse(null));
+  }
+
+  @Test
+  void testComponentIndexNewIdsLookedUpFirst() {
+    KnowledgeCarrier kc1 = mockCarrier("AAA");
+    KnowledgeCarrier kc2 = mockCarrier("BBB");
+
+    CompositeKnowledgeCarrier ckc = ofUniformAggregate(Arrays.asList(kc1, kc2));
+    ComponentIndex index = ckc.componentIndex();
+
+    // a replacement with a new Asset Id is found by the first lookup
+    KnowledgeCarrier kc3 = mockCarrier("CCC");
+    ckc.getComponent().set(0, kc3);
+    assertSame(kc3, index.get(kc3.getAssetId().asKey()).orElse(null));
+    assertFalse(index.isIndexOf(ckc.getComponent()));
+
+    // a component re-identified in place is found by the first lookup
+    ComponentIndex rebuilt = ckc.componentIndex();
+    assertNotSame(index, rebuilt);
+    ResourceIdentifier dddId = newId(uuid("DDD"), VERSION_ZERO);
+    kc2.withAssetId(dddId);
+    assertSame(kc2, rebuilt.get(dddId.asKey()).orElse(null));
+    assertFalse(rebuilt.isIndexOf(ckc.getComponent()));
+
+    // misses are trusted while nothing changes
+    ComponentIndex current = ckc.componentIndex();
+    assertTrue(current.get(newId(uuid("EEE"), VERSION_ZERO).asKey()).isEmpty());
+    assertTrue(current.isIndexOf(ckc.getComponent()));
+  }
+
+  @Test
+  void testComponentIndexWithIdsChangedInPlace() {
+    KnowledgeCarrier kc1 = mockCarrier("AAA");
+    KnowledgeCarrier kc2 = mockCarrier("BBB");
+
+    CompositeKnowledgeCarrier ckc = ofUniformAggregate(Arrays.asList(kc1, kc2));
+    ComponentIndex index = ckc.componentIndex();
+    assertSame(kc2, ckc.componentById(kc2.getAssetId(), ckc).orElse(null));
+
+    // the new version is found by a lookup that misses the index
+    kc2.getAssetId().setVersionTag("2.0.0");
+    assertSame(kc2, ckc.componentById(newId(uuid("BBB"), "2.0.0"), ckc).orElse(null));
+    assertTrue(ckc.componentById(newId(uuid("BBB"), VERSION_ZERO), ckc).isEmpty());
+    assertFalse(index.isIndexOf(ckc.getComponent()));
+
+    // the rebuilt index is current
+    assertNotSame(index, ckc.componentIndex());
+    assertSame(kc2, ckc.componentIndex().get(kc2.getAssetId().asKey()).orElse(null));
+    assertTrue(ckc.componentIndex().isIndexOf(ckc.getComponent()));
+  }
+
+  @Test
+  void testDeferredStruct() {
+    KnowledgeCarrier kc1 = mockCarrier("AAA");
+    KnowledgeCarrier kc2 = mockCarrier("BBB");
+    List<KnowledgeCarrier> comps = Arrays.asList(kc1, kc2);
+    ResourceIdentifier compositeId = randomId();
+    ResourceIdentifier structId = randomId();
+
+    KnowledgeCarrier eager =
+        inferSetStruct(compositeId, structId, KnowledgeCarrier::getAssetId, comps);
+    KnowledgeCarrier deferred =
+        inferSetStruct(compositeId, structId, KnowledgeCarrier::getAssetId, comps, true);
+
+    assertTrue(eager.is(String.class));
+    assertTrue(deferred.is(StructGraph.class));
+    assertFalse(deferred.as(StructGraph.class).orElseThrow().isSerialized());
+    assertEquals(eager.getLevel(), deferred.getLevel());
+    assertTrue(theRepContrastor.isEqual(eager.getRepresentation(), deferred.getRepresentation()));
+
+    String ttl = deferred.asString().orElseThrow();
+    assertSame(ttl, deferred.asString().orElseThrow());
+    assertTrue(readTurtle(eager.asString().orElseThrow())
+        .isIsomorphicWith(readTurtle(ttl)));
+    assertEquals(ttl, new String(deferred.asBinary().orElseThrow()));
+
+    assertEquals(ttl,
+        JSonUtil.readJson(JSonUtil.writeJsonAsString(deferred).orElseThrow())
+            .flatMap(jn -> JSonUtil.jString("expression", jn))
+            .orElse(null));
+  }
+
+  @Test
+  void testCompositeStructSerializedByDefault() {
+    CompositeKnowledgeCarrier ckc = ofUniformAnonymousComposite(
+        Arrays.asList(mockCarrier("AAA"), mockCarrier("BBB")));
+
+    assertTrue(ckc.getStruct().getExpression() instanceof String);
+    assertTrue(ckc.getStruct().as(String.class).isPresent());
+  }
+
+  @Test
+  void testDeferredStructMarshalling() {
+    List<KnowledgeCarrier> comps = Arrays.asList(mockCarrier("AAA"), mockCarrier("BBB"));
+    ResourceIdentifier compositeId = randomId();
+    ResourceIdentifier structId = randomId();
+    KnowledgeCarrier deferred =
+        inferSetStruct(compositeId, structId, KnowledgeCarrier::getAssetId, comps, true);
+    KnowledgeCarrier eager = new KnowledgeCarrier()
+        .withExpression(deferred.asString().orElseThrow())
+        .withLevel(deferred.getLevel())
+        .withAssetId(deferred.getAssetId())
+        .withArtifactId(deferred.getArtifactId())
+        .withRepresentation(deferred.getRepresentation());
+
+    String xml = JaxbUtil.marshallToString(Collections.singleton(KnowledgeCarrier.class),
+        deferred, this::asRoot, JaxbUtil.defaultProperties());
+    // marshalled as the Turtle serialization, leaving the Carrier as is
+    assertEquals(
+        JaxbUtil.marshallToString(Collections.singleton(KnowledgeCarrier.class),
+            eager, this::asRoot, JaxbUtil.defaultProperties()),
+        xml);
+    assertTrue(deferred.is(StructGraph.class));
+  }
+
+  private JAXBElement<? super KnowledgeCarrier> asRoot(KnowledgeCarrier kc) {
+    return new JAXBElement<>(new QName("urn:test", "carrier"), KnowledgeCarrier.class, kc);
+  }
+
+  private Model readTurtle(String ttl) {
+    return ModelFactory.createDefaultModel()
+        .read(new ByteArrayInputStream(ttl.getBytes()), null, "TURTLE");
+  }
+
   @Test
   void testMixedAggregate() {
     KnowledgeCarrier kc1 = mockCarrier("AAA");
@@ -499,6 +666,52 @@ class CompositeTest {
   }
 
 
+  @Test
+  void testParallelAssembly() {
+    List<String> exprs = IntStream.range(0, 2000)
+        .mapToObj(j -> "<p>" + j + "<p>")
+        .collect(Collectors.toList());
+    Function<String, ResourceIdentifier> assetIdentificator =
+        x -> newId(uuid(x), VERSION_ZERO);
+    Function<String, ResourceIdentifier> artifactIdentificator =
+        x -> newId(uuid(x + "X"), VERSION_ZERO);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      CompositeKnowledgeCarrier seq = ofUniformAggregate(
+          exprs, rep(HTML, TXT), assetIdentificator, artifactIdentificator, x -> x);
+      CompositeKnowledgeCarrier par = ofUniformAggregate(
+          exprs, rep(HTML, TXT), assetIdentificator, artifactIdentificator, x -> x, pool);
+
+      assertEquals(seq.getComponent().size(), par.getComponent().size());
+      for (int j = 0; j < exprs.size(); j++) {
+        KnowledgeCarrier kc1 = seq.getComponent().get(j);
+        KnowledgeCarrier kc2 = par.getComponent().get(j);
+        assertEquals(kc1.getExpression(), kc2.getExpression());
+        assertEquals(kc1.getAssetId().asKey(), kc2.getAssetId().asKey());
+        assertEquals(kc1.getArtifactId().asKey(), kc2.getArtifactId().asKey());
+        assertEquals(kc1.getLabel(), kc2.getLabel());
+      }
+      assertTrue(theRepContrastor.isEqual(seq.getRepresentation(), par.getRepresentation()));
+      assertEquals(seq.getLevel(), par.getLevel());
+
+      List<KnowledgeCarrier> mixed = new ArrayList<>(seq.getComponent());
+      mixed.add(mockFormalCarrier("DDD"));
+      assertThrows(IllegalArgumentException.class,
+          () -> ofUniformAggregate(mixed, pool));
+
+      ResourceIdentifier hash = hashComponentIds(exprs, assetIdentificator);
+      List<String> reversed = new ArrayList<>(exprs);
+      Collections.reverse(reversed);
+      assertEquals(hash.asKey(), hashComponentIds(exprs, assetIdentificator, pool).asKey());
+      assertEquals(hash.asKey(), hashComponentIds(reversed, assetIdentificator, pool).asKey());
+      assertNotEquals(hash.asKey(),
+          hashComponentIds(exprs.subList(1, exprs.size()), assetIdentificator).asKey());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+
   private Model structAsModel(CompositeKnowledgeCarrier ckc) {
     Model m = ModelFactory.createDefaultModel();
     return ckc.getStruct().asString()
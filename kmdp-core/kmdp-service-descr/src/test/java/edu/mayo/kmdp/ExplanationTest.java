@@ -16,6 +16,7 @@ import static org.omg.spec.api4kp._20200801.Severity.INF;
 import static org.omg.spec.api4kp._20200801.Severity.WRN;
 import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeresourceoutcome.KnowledgeResourceOutcomeSeries.Syntactic_Profile_Conformance;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.JSON;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -284,6 +285,84 @@ class ExplanationTest {
     assertTrue(cli.printExplanation().contains(msg));
   }
 
+  @Test
+  void testCompactExplanationHeader() {
+    String detail = "Something went wrong. ".repeat(200);
+    Answer<Void> ans = Answer.<Void>failed()
+        .withExplanationDetail(
+            Explainer.newOutcomeProblem(GENERIC_ERROR_TYPE, ERR)
+                .withDetail(detail)
+                .build());
+
+    Map<String, List<String>> meta = new HashMap<>();
+    Explainer.setCompactExplanationHeaders(true);
+    try {
+      Explainer.packExplanationIntoHeaders(ans, meta);
+    } finally {
+      Explainer.setCompactExplanationHeaders(false);
+    }
+
+    String header = meta.get(Explainer.EXPL_HEADER).get(0);
+    assertTrue(header.startsWith(Explainer.EXPL_COMPACT_PREFIX));
+    assertTrue(header.length() < ans.encodeExplanation(JSON, false).length());
+
+    Answer<Void> rec = Answer.of(ans.getOutcomeType(), null, meta);
+    assertEquals(GENERIC_ERROR_TYPE, rec.getExplanationAsProblem().getType());
+    assertEquals(detail, rec.getExplanationAsProblem().getDetail());
+  }
+
+  @Test
+  void testLegacyExplanationHeader() {
+    Answer<Void> ans = Answer.<Void>failed()
+        .withExplanationMessage("Legacy message");
+
+    Map<String, List<String>> packed = new HashMap<>();
+    Explainer.packExplanationIntoHeaders(ans, packed);
+    assertFalse(Explainer.isCompactExplanationHeaders());
+    assertFalse(packed.get(Explainer.EXPL_HEADER).get(0)
+        .startsWith(Explainer.EXPL_COMPACT_PREFIX));
+    assertTrue(Answer.of(ans.getOutcomeType(), null, packed).printExplanation()
+        .contains("Legacy message"));
+
+    Map<String, List<String>> meta = new HashMap<>();
+    meta.put(Explainer.EXPL_HEADER,
+        Collections.singletonList(ans.encodeExplanation(JSON, false)));
+
+    Answer<Void> rec = Answer.of(ans.getOutcomeType(), null, meta);
+    assertTrue(rec.printExplanation().contains("Legacy message"));
+  }
+
+  @Test
+  void testCompactExplanationHeaderInflationCap() {
+    String bomb = Answer.<Void>failed()
+        .withExplanationMessage(" ".repeat(2 * Explainer.MAX_INFLATED_EXPL_SIZE))
+        .encodeCompactExplanation(TXT, false);
+    assertTrue(bomb.length() < Explainer.DEFAULT_EXPL_HEADER_BUDGET);
+
+    Map<String, List<String>> meta = new HashMap<>();
+    meta.put(Explainer.EXPL_HEADER, Collections.singletonList(bomb));
+    assertFalse(Explainer.extractExplanationFromHeaders(meta).isPresent());
+  }
+
+  @Test
+  void testExplanationHeaderBudget() {
+    Answer<Void> ans = Answer.<Void>failed()
+        .withExplanationMessage(SemanticIdentifier.randomId().toString().repeat(100));
+    URI ref = URI.create("http://my.server/explanations/42");
+
+    Map<String, List<String>> linked = new HashMap<>();
+    Explainer.packExplanationIntoHeaders(ans, linked, 64, expl -> ref);
+    assertFalse(linked.containsKey(Explainer.EXPL_HEADER));
+    KnowledgeCarrier expl = Explainer.extractExplanationFromHeaders(linked).orElseThrow();
+    assertEquals(ref, expl.getHref());
+
+    Map<String, List<String>> truncated = new HashMap<>();
+    Explainer.packExplanationIntoHeaders(ans, truncated, 256, null);
+    String header = truncated.get(Explainer.EXPL_HEADER).get(0);
+    assertTrue(header.length() <= 256);
+    assertTrue(Explainer.extractExplanationFromHeaders(truncated).isPresent());
+  }
+
   private String format(URI type, int code, String title, String msg, Severity severity) {
     return type
         + "{" + code
@@ -18,8 +18,10 @@ package edu.mayo.kmdp;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
@@ -46,8 +48,11 @@ import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.LOINC
 import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.RxNORM;
 import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.SNOMED_CT;
 
+import edu.mayo.kmdp.util.FileUtil;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
@@ -91,6 +96,52 @@ public class MimeCoderTest {
   }
 
 
+  @Test
+  void testEncodeMemoized() {
+    ModelMIMECoder.clearCache();
+    String code = encode(rep(OWL_2, OWL2_RL, RDF_XML_Syntax, XML_1_1)
+        .withLexicon(SNOMED_CT, LOINC));
+    assertEquals("model/owl2-v20121211[RL]+rdf/xml;lex={sct;lnc}", code);
+    assertSame(code, encode(rep(OWL_2, OWL2_RL, RDF_XML_Syntax, XML_1_1)
+        .withLexicon(SNOMED_CT, LOINC)));
+
+    assertEquals("model/owl2-v20121211[RL]+rdf/xml;lex={lnc;sct}",
+        encode(rep(OWL_2, OWL2_RL, RDF_XML_Syntax, XML_1_1).withLexicon(LOINC, SNOMED_CT)));
+    assertEquals("model/owl2[RL]+rdf/xml;lex={sct;lnc}",
+        encode(rep(OWL_2, OWL2_RL, RDF_XML_Syntax, XML_1_1).withLexicon(SNOMED_CT, LOINC),
+            false));
+    assertEquals("model/owl2-v20121211[RL]+rdf/xml;lex={sct;lnc};charset=UTF-8",
+        encode(rep(OWL_2, OWL2_RL, RDF_XML_Syntax, XML_1_1).withLexicon(SNOMED_CT, LOINC)
+            .withCharset("UTF-8")));
+  }
+
+  @Test
+  void testStrictEncoding() {
+    boolean strict = ModelMIMECoder.isStrictEncoding();
+    try {
+      SyntacticRepresentation invalid = rep(HTML, TXT).withCharset("UTF 8");
+
+      ModelMIMECoder.setStrictEncoding(false);
+      assertEquals("model/html-v52+text;charset=UTF 8", encode(invalid));
+
+      ModelMIMECoder.setStrictEncoding(true);
+      assertThrows(IllegalStateException.class, () -> encode(invalid));
+    } finally {
+      ModelMIMECoder.setStrictEncoding(strict);
+    }
+  }
+
+  @Test
+  void testEncodeWeights() {
+    List<WeightedRepresentation> reps = List.of(
+        new WeightedRepresentation(null, rep(BPMN_2_0, XML_1_1), 0.3333f),
+        new WeightedRepresentation(null, rep(HTML, TXT), 1.0f));
+    String expected = "model/bpmn-v2+xml;q=0.333,model/html-v52+text;q=1";
+    assertTrue(IntStream.range(0, 100).parallel()
+        .mapToObj(j -> ModelMIMECoder.encodeAll(reps))
+        .allMatch(expected::equals));
+  }
+
   @Test
   void testDecode1() {
     String mime = "model/owl2[QL]+ttl;lex={sct;rxnorm}";
@@ -261,6 +312,91 @@ public class MimeCoderTest {
     assertTrue(ODM_BAL_8_10_X.sameAs(rep.getRep().getLanguage()));
   }
 
+  @Test
+  void testDecodeAllSortedAndCached() {
+    ModelMIMECoder.clearCache();
+    String header = "model/dmn+xml;q=0.2, text/html;q=0.5, model/bpmn+xml, application/pdf";
+
+    List<WeightedRepresentation> reps = ModelMIMECoder.decodeAll(header);
+    assertEquals(3, reps.size());
+    assertSame(BPMN_2_0, reps.get(0).getRep().getLanguage());
+    assertSame(HTML, reps.get(1).getRep().getLanguage());
+    assertEquals(0.5f, reps.get(1).getWeight());
+    assertTrue(DMN_1_2.sameAs(reps.get(2).getRep().getLanguage()));
+
+    // clients can modify the decoded representations, without affecting the cache
+    reps.get(0).getRep().setLanguage(OWL_2);
+
+    List<WeightedRepresentation> reps2 = ModelMIMECoder.decodeAll(" " + header + " ");
+    assertEquals(3, reps2.size());
+    assertNotSame(reps.get(0).getRep(), reps2.get(0).getRep());
+    assertSame(BPMN_2_0, reps2.get(0).getRep().getLanguage());
+
+    // ... and the decoded lists
+    reps2.remove(0);
+    reps2.add(reps.get(0));
+    List<WeightedRepresentation> reps3 = ModelMIMECoder.decodeAll(header);
+    assertEquals(3, reps3.size());
+    assertSame(BPMN_2_0, reps3.get(0).getRep().getLanguage());
+
+    assertSame(BPMN_2_0, decode("model/bpmn+xml").map(SyntacticRepresentation::getLanguage)
+        .orElseGet(Assertions::fail));
+    decode("model/bpmn+xml", OWL_2).ifPresent(r -> r.setLanguage(OWL_2));
+    assertSame(BPMN_2_0, decode("model/bpmn+xml").map(SyntacticRepresentation::getLanguage)
+        .orElseGet(Assertions::fail));
+  }
+
+  @Test
+  void testDecodeLongCodes() {
+    // decoded, but not cached
+    String code = "model/owl2+ttl;lex={" + "sct;".repeat(1024) + "lnc}";
+
+    SyntacticRepresentation rep = decode(code).orElseGet(Assertions::fail);
+    assertSame(OWL_2, rep.getLanguage());
+    assertEquals(rep, decode(code).orElseGet(Assertions::fail));
+  }
+
+  @Test
+  void testDecodeAllWithFallbackLanguage() {
+    String header = "model/*+xml";
+    assertTrue(DMN_1_2.sameAs(ModelMIMECoder.decodeAll(header, rep(DMN_1_2))
+        .get(0).getRep().getLanguage()));
+    assertTrue(BPMN_2_0.sameAs(ModelMIMECoder.decodeAll(header, rep(BPMN_2_0))
+        .get(0).getRep().getLanguage()));
+    assertNull(ModelMIMECoder.decodeAll(header)
+        .get(0).getRep().getLanguage());
+  }
+
+  @Test
+  void testDecodeAgreesWithGrammar() {
+    Pattern grammar = Pattern.compile(
+        FileUtil.readStatic("/model.mime.regexp", ModelMIMECoder.class));
+    List<String> codes = List.of(
+        "model/owl2[QL]+ttl;lex={sct;rxnorm}",
+        "model/dmn-v11+xml;q=0.21",
+        "model/html-v52+text;charset=UTF-8;enc=default",
+        "model/*+json",
+        "model/odm_bal-v8_10_x",
+        "model/WSDL-v2+wsdl/xml",
+        "model/bpmn+xml;q=1;q=0.5",
+        "model/bpmn+xml;q=1.0",
+        "model/bpmn+xml;q=0.",
+        "model/bpmn-+xml",
+        "model/owl2[]+ttl",
+        "model/owl2[QL+ttl",
+        "model/owl2+",
+        "model/owl2;lex={}",
+        "model/owl2;lex={sct",
+        "model/owl2;foo=bar",
+        "model/owl2;",
+        "model/",
+        "model/dmn.xml");
+    for (String code : codes) {
+      assertEquals(grammar.matcher(code).matches(), decode(code).isPresent(), code);
+    }
+    assertEquals(0.5f, ModelMIMECoder.decodeWeighted("model/bpmn+xml;q=1;q=0.5").getWeight());
+  }
+
   @Test
   void testDecodeWSDL() {
     String c1 = "model/WSDL-v2+wsdl/xml";
@@ -16,17 +16,24 @@
 package edu.mayo.kmdp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
 import static org.omg.spec.api4kp._20200801.contrastors.LexiconContrastor.theLexiconContrastor;
 import static org.omg.spec.api4kp._20200801.contrastors.SyntacticRepresentationContrastor.theRepContrastor;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.JSON;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIRPath_STU1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_Functional_Syntax;
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.RDF_XML_Syntax;
+import static org.omg.spec.api4kp._20200801.taxonomy.languagerole.KnowledgeRepresentationLanguageRoleSeries.Schema_Language;
+import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.LOINC;
+import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.SNOMED_CT;
 
 import edu.mayo.kmdp.comparator.Contrastor.Comparison;
 import org.junit.jupiter.api.Assertions;
@@ -122,4 +129,47 @@ class RepresentationComparisonTest {
         theLexiconContrastor.contrast(r2.getLexicon(), r4.getLexicon()));
   }
 
+  @Test
+  void representationKeys() {
+    SyntacticRepresentation r1 = rep(OWL_2, RDF_XML_Syntax, XML_1_1)
+        .withLexicon(SNOMED_CT, LOINC);
+    SyntacticRepresentation r2 = rep(OWL_2, RDF_XML_Syntax, XML_1_1)
+        .withLexicon(SNOMED_CT, LOINC);
+    SyntacticRepresentation r3 = rep(OWL_2, RDF_XML_Syntax, XML_1_1)
+        .withLexicon(LOINC, SNOMED_CT);
+
+    assertSame(r1.representationKey(), r2.representationKey());
+    assertSame(r1.representationKey(), r1.representationKey());
+    assertNotEquals(r1.representationKey(), r3.representationKey());
+
+    assertEquals(Comparison.EQUAL, theRepContrastor.contrast(r1, r2));
+    assertEquals(Comparison.EQUIVALENT, theRepContrastor.contrast(r1, r3));
+
+    // keys are rebuilt when the Representation changes
+    r2.withCharset("UTF-8");
+    assertNotEquals(r1.representationKey(), r2.representationKey());
+    assertEquals(Comparison.BROADER, theRepContrastor.contrast(r1, r2));
+    r2.setCharset(null);
+    assertEquals(Comparison.EQUAL, theRepContrastor.contrast(r1, r2));
+    r2.getLexicon().remove(LOINC);
+    assertEquals(Comparison.INCOMPARABLE, theRepContrastor.contrast(r1, r2));
+  }
+
+  @Test
+  void representationKeysWithSubLanguages() {
+    SyntacticRepresentation r1 = rep(FHIRPath_STU1, TXT)
+        .withSubLanguage(rep(FHIR_STU3).withRole(Schema_Language));
+    SyntacticRepresentation r2 = rep(FHIRPath_STU1, TXT)
+        .withSubLanguage(rep(FHIR_STU3).withRole(Schema_Language));
+    SyntacticRepresentation r3 = rep(FHIRPath_STU1, TXT)
+        .withSubLanguage(rep(DMN_1_1).withRole(Schema_Language));
+
+    assertEquals(Comparison.EQUAL, theRepContrastor.contrast(r1, r2));
+    assertEquals(Comparison.EQUIVALENT, theRepContrastor.contrast(r1, r3));
+
+    r2.getSubLanguage().get(0).setLanguage(DMN_1_1);
+    assertEquals(Comparison.EQUIVALENT, theRepContrastor.contrast(r1, r2));
+    assertEquals(Comparison.EQUAL, theRepContrastor.contrast(r2, r3));
+  }
+
 }
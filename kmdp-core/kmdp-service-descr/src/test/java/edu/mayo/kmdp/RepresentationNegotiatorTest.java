@@ -0,0 +1,134 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package edu.mayo.kmdp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.services.transrepresentation.ModelMIMECoder.decodeAll;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.BPMN_2_0;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.HTML;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.Turtle;
+import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.LOINC;
+import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.SNOMED_CT;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.RepresentationNegotiator;
+
+class RepresentationNegotiatorTest {
+
+  private final SyntacticRepresentation dmn = rep(DMN_1_2, XML_1_1);
+  private final SyntacticRepresentation bpmn = rep(BPMN_2_0, XML_1_1);
+  private final SyntacticRepresentation html = rep(HTML, TXT);
+
+  @Test
+  void testNegotiateByWeight() {
+    RepresentationNegotiator negotiator = RepresentationNegotiator.of(dmn, bpmn, html);
+
+    assertSame(bpmn, negotiator
+        .negotiate("model/dmn-v12+xml;q=0.5,model/bpmn-v2+xml;q=0.9").orElseThrow());
+    assertSame(dmn, negotiator
+        .negotiate("model/dmn-v12+xml;q=0.9,model/bpmn-v2+xml;q=0.5").orElseThrow());
+    // ties go to the first acceptable Representation
+    assertSame(bpmn, negotiator
+        .negotiate("model/owl2+ttl,model/bpmn-v2+xml,model/dmn-v12+xml").orElseThrow());
+    // the order of the accepted Representations does not matter, beyond ties
+    assertSame(bpmn, negotiator.negotiate(Arrays.asList(
+        decodeAll("model/dmn-v12+xml;q=0.2").get(0),
+        decodeAll("model/bpmn-v2+xml;q=0.7").get(0))).orElseThrow());
+  }
+
+  @Test
+  void testNegotiateNotAcceptable() {
+    RepresentationNegotiator negotiator = RepresentationNegotiator.of(dmn, bpmn);
+
+    assertFalse(negotiator.negotiate("model/owl2+ttl").isPresent());
+    assertFalse(negotiator.negotiate("model/bpmn-v2+xml;q=0").isPresent());
+    assertFalse(RepresentationNegotiator.of().negotiate("model/*").isPresent());
+  }
+
+  @Test
+  void testNegotiateWildcards() {
+    RepresentationNegotiator negotiator = RepresentationNegotiator.of(dmn, bpmn);
+
+    assertSame(dmn, negotiator.negotiate("model/*").orElseThrow());
+    assertSame(dmn, negotiator.negotiate("*/*").orElseThrow());
+    assertSame(dmn, negotiator.negotiate("").orElseThrow());
+    assertSame(bpmn, negotiator
+        .negotiate("model/bpmn-v2+xml;q=0.8,model/*;q=0.1").orElseThrow());
+    assertSame(dmn, negotiator
+        .negotiate("model/bpmn-v2+xml;q=0,model/*;q=0.1").orElseThrow());
+  }
+
+  @Test
+  void testNegotiateLanguageVersions() {
+    RepresentationNegotiator negotiator = RepresentationNegotiator.of(bpmn, dmn);
+
+    assertSame(dmn, negotiator.negotiate("model/dmn+xml").orElseThrow());
+    assertSame(dmn, negotiator.negotiate("model/dmn-v12+xml").orElseThrow());
+    assertFalse(negotiator.negotiate("model/dmn-v11+xml").isPresent());
+  }
+
+  @Test
+  void testNegotiateLexicons() {
+    SyntacticRepresentation owlSct = rep(OWL_2, Turtle, TXT).withLexicon(SNOMED_CT);
+    SyntacticRepresentation owlSctLnc = rep(OWL_2, Turtle, TXT).withLexicon(SNOMED_CT, LOINC);
+    RepresentationNegotiator negotiator = RepresentationNegotiator.of(owlSctLnc, owlSct);
+
+    assertSame(owlSctLnc, negotiator.negotiate("model/owl2+ttl").orElseThrow());
+    assertSame(owlSct, negotiator.negotiate("model/owl2+ttl;lex={sct}").orElseThrow());
+    assertSame(owlSctLnc, negotiator.negotiate("model/owl2+ttl;lex={lnc;sct}").orElseThrow());
+    assertFalse(negotiator.negotiate("model/owl2+ttl;lex={lnc}").isPresent());
+  }
+
+  @Test
+  void testNegotiateNonFormalCodes() {
+    RepresentationNegotiator negotiator = RepresentationNegotiator.of(dmn, html);
+
+    assertSame(html, negotiator.negotiate("text/html").orElseThrow());
+    assertSame(html, negotiator.negotiate("model/dmn-v12+xml;q=0.5,text/html").orElseThrow());
+  }
+
+  @Test
+  void testNegotiateSkipsMalformedCodes() {
+    RepresentationNegotiator negotiator = RepresentationNegotiator.of(dmn, bpmn);
+
+    assertSame(bpmn, negotiator
+        .negotiate("model/dmn-v12+xml;q=0.5,model/+;q=0.9,model/bpmn-v2+xml;q=0.7")
+        .orElseThrow());
+    assertSame(dmn, negotiator.negotiate("model/+,model/dmn-v12+xml").orElseThrow());
+    assertFalse(negotiator.negotiate("model/+").isPresent());
+  }
+
+  @Test
+  void testNegotiationCached() {
+    RepresentationNegotiator negotiator = RepresentationNegotiator.of(dmn, bpmn);
+    String header = "model/dmn-v12+xml;q=0.5,model/bpmn-v2+xml;q=0.9";
+
+    assertSame(negotiator.negotiate(header).orElseThrow(),
+        negotiator.negotiate(header).orElseThrow());
+    assertEquals(Arrays.asList(dmn, bpmn), negotiator.getSupportedRepresentations());
+    assertTrue(negotiator.negotiate(" " + header).isPresent());
+  }
+}
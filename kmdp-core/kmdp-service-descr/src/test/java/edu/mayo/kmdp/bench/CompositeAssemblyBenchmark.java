@@ -0,0 +1,137 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.bench;
+
+import static edu.mayo.kmdp.util.Util.uuid;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.id.IdentifierConstants.VERSION_ZERO;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newId;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.HTML;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.omg.spec.api4kp._20200801.AbstractCompositeCarrier;
+import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the sequential and parallel assembly of uniform Composites, with a growing number of
+ * components.
+ * <p>
+ * Not a unit test: run via {@link #main(String[])}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositeAssemblyBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  public int size;
+
+  private List<String> expressions;
+  private SyntacticRepresentation rep;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    expressions = IntStream.range(0, size)
+        .mapToObj(j -> "<p>" + j + "</p>")
+        .collect(Collectors.toList());
+    rep = rep(HTML, TXT);
+    pool = new ForkJoinPool();
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public KnowledgeCarrier uniformAggregateSequential() {
+    return AbstractCompositeCarrier.ofUniformAggregate(
+        expressions, rep, CompositeAssemblyBenchmark::assetId,
+        CompositeAssemblyBenchmark::artifactId, x -> x);
+  }
+
+  @Benchmark
+  public KnowledgeCarrier uniformAggregateParallel() {
+    return AbstractCompositeCarrier.ofUniformAggregate(
+        expressions, rep, CompositeAssemblyBenchmark::assetId,
+        CompositeAssemblyBenchmark::artifactId, x -> x, pool);
+  }
+
+  @Benchmark
+  public KnowledgeCarrier uniformAnonymousSequential() {
+    return AbstractCompositeCarrier.ofUniformAnonymousComposite(
+        null, expressions, rep, null, null, CompositeAssemblyBenchmark::assetId,
+        CompositeAssemblyBenchmark::artifactId, x -> x);
+  }
+
+  @Benchmark
+  public KnowledgeCarrier uniformAnonymousParallel() {
+    return AbstractCompositeCarrier.ofUniformAnonymousComposite(
+        null, expressions, rep, null, null, CompositeAssemblyBenchmark::assetId,
+        CompositeAssemblyBenchmark::artifactId, x -> x, pool);
+  }
+
+  @Benchmark
+  public ResourceIdentifier hashComponentIdsSequential() {
+    return AbstractCompositeCarrier.hashComponentIds(
+        expressions, CompositeAssemblyBenchmark::assetId);
+  }
+
+  @Benchmark
+  public ResourceIdentifier hashComponentIdsParallel() {
+    return AbstractCompositeCarrier.hashComponentIds(
+        expressions, CompositeAssemblyBenchmark::assetId, pool);
+  }
+
+  private static ResourceIdentifier assetId(String expr) {
+    return newId(uuid(expr), VERSION_ZERO);
+  }
+
+  private static ResourceIdentifier artifactId(String expr) {
+    return newId(uuid(expr + "X"), VERSION_ZERO);
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(CompositeAssemblyBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+}
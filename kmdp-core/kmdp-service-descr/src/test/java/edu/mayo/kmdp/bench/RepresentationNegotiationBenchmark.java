@@ -0,0 +1,132 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.bench;
+
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.contrastors.SyntacticRepresentationContrastor.theRepContrastor;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.JSON;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.BPMN_2_0;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.CMMN_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.HTML;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.Knowledge_Asset_Surrogate_2_0;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.RDF_XML_Syntax;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.Turtle;
+
+import edu.mayo.kmdp.comparator.Contrastor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.ModelMIMECoder;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.ModelMIMECoder.WeightedRepresentation;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.RepresentationNegotiator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the negotiation of a Representation, given an Accept header, by means of nested loops
+ * over the accepted and supported Representations, with the {@link RepresentationNegotiator},
+ * with and without its cache of negotiated headers.
+ * <p>
+ * Not a unit test: run via {@link #main(String[])}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepresentationNegotiationBenchmark {
+
+  @Param({
+      "model/dmn-v12+xml",
+      "model/owl2+ttl;q=0.3,model/cmmn-v11+xml;q=0.6,model/bpmn-v2+xml;q=0.9",
+      "model/bpmn-v2+json;q=0.9,model/dmn-v11+xml;q=0.5,text/html;q=0.2,model/*;q=0.1"})
+  public String header;
+
+  private List<SyntacticRepresentation> supported;
+  private List<WeightedRepresentation> accepted;
+  private RepresentationNegotiator negotiator;
+
+  @Setup
+  public void setup() {
+    supported = Arrays.asList(
+        rep(Knowledge_Asset_Surrogate_2_0, JSON),
+        rep(Knowledge_Asset_Surrogate_2_0, XML_1_1),
+        rep(OWL_2, RDF_XML_Syntax, XML_1_1),
+        rep(OWL_2, Turtle, TXT),
+        rep(CMMN_1_1, XML_1_1),
+        rep(DMN_1_1, XML_1_1),
+        rep(DMN_1_2, XML_1_1),
+        rep(BPMN_2_0, XML_1_1),
+        rep(HTML, TXT));
+    accepted = ModelMIMECoder.decodeAll(header);
+    negotiator = RepresentationNegotiator.of(supported);
+  }
+
+  @Benchmark
+  public Optional<SyntacticRepresentation> nestedLoops() {
+    for (WeightedRepresentation wr : ModelMIMECoder.decodeAll(header)) {
+      if (wr.getWeight() <= 0) {
+        continue;
+      }
+      for (SyntacticRepresentation rep : supported) {
+        if (Contrastor.isBroaderOrEqual(theRepContrastor.contrast(wr.getRep(), rep))) {
+          return Optional.of(rep);
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Benchmark
+  public Optional<SyntacticRepresentation> negotiateDecoded() {
+    return negotiator.negotiate(accepted);
+  }
+
+  @Benchmark
+  public Optional<SyntacticRepresentation> negotiateHeader() {
+    return negotiator.negotiate(header);
+  }
+
+  @Benchmark
+  public Optional<SyntacticRepresentation> negotiateFreshNegotiator() {
+    return RepresentationNegotiator.of(supported).negotiate(header);
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(RepresentationNegotiationBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+}
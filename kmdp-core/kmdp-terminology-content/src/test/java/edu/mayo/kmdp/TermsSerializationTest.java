@@ -16,6 +16,7 @@ package edu.mayo.kmdp;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
@@ -25,6 +26,7 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import edu.mayo.kmdp.terms.adapters.json.AbstractTermsJsonAdapter;
 import edu.mayo.kmdp.terms.adapters.json.URITermsJsonAdapter;
 import edu.mayo.kmdp.terms.adapters.json.UUIDTermsJsonAdapter;
+import edu.mayo.kmdp.terms.adapters.xml.TermsXMLAdapter;
 import edu.mayo.kmdp.util.JSonUtil;
 import edu.mayo.kmdp.util.JaxbUtil;
 import edu.mayo.kmdp.util.Util;
@@ -34,6 +36,7 @@ import java.util.Optional;
 import java.util.UUID;
 import javax.xml.bind.annotation.XmlRootElement;
 import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.id.ConceptIdentifier;
 import org.omg.spec.api4kp._20200801.id.Term;
 import org.omg.spec.api4kp._20200801.taxonomy.knowledgeassettype.KnowledgeAssetType;
 import org.omg.spec.api4kp._20200801.taxonomy.knowledgeassettype.KnowledgeAssetTypeSeries;
@@ -67,6 +70,29 @@ public class TermsSerializationTest {
     assertSame(KnowledgeRepresentationLanguageSeries.OWL_2.getLatest(), f2.get().getLang());
   }
 
+  @Test
+  public void testXMLAdapterVersionedResolution() {
+    TermsXMLAdapter adapter = KnowledgeRepresentationLanguageSeries.Adapter.instance;
+    UUID uuid = KnowledgeRepresentationLanguageSeries.OWL_2.getUuid();
+    String versionTag = KnowledgeRepresentationLanguageSeries.OWL_2.getLatest()
+        .getVersionIdentifier().getVersionTag();
+
+    assertSame(KnowledgeRepresentationLanguageSeries.OWL_2,
+        adapter.unmarshal(new ConceptIdentifier().withUuid(uuid)));
+    assertSame(KnowledgeRepresentationLanguageSeries.OWL_2.getLatest(),
+        adapter.unmarshal(new ConceptIdentifier().withUuid(uuid).withVersionTag(versionTag)));
+    // memoized
+    assertSame(KnowledgeRepresentationLanguageSeries.OWL_2.getLatest(),
+        adapter.unmarshal(new ConceptIdentifier().withUuid(uuid).withVersionTag(versionTag)));
+
+    assertSame(KnowledgeRepresentationLanguageSeries.OWL_2.getLatest(),
+        adapter.unmarshal(new ConceptIdentifier().withUuid(uuid)
+            .withVersionTag("999.0.0-SNAPSHOT")));
+    assertNull(adapter.unmarshal(new ConceptIdentifier().withUuid(uuid)
+        .withVersionTag("999.0.0")));
+    assertNull(adapter.unmarshal(new ConceptIdentifier().withUuid(UUID.randomUUID())));
+  }
+
   @Test
   public void testJSON() {
     Foo f = new Foo(KnowledgeAssetTypeSeries.Cognitive_Process_Model,
@@ -17,14 +17,20 @@ package edu.mayo.kmdp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import edu.mayo.kmdp.terms.TermsHelper;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.omg.spec.api4kp._20200801.id.ConceptIdentifier;
+import org.omg.spec.api4kp._20200801.id.Term;
 import org.omg.spec.api4kp._20200801.taxonomy.derivationreltype.DerivationType;
 import org.omg.spec.api4kp._20200801.taxonomy.derivationreltype.DerivationTypeSeries;
+import org.omg.spec.api4kp._20200801.taxonomy.clinicalknowledgeassettype.ClinicalKnowledgeAssetTypeSeries;
+import org.omg.spec.api4kp._20200801.terms.ConceptTerm;
 
 class TermsTest {
 
@@ -58,4 +64,45 @@ class TermsTest {
     assertTrue(earlyRule.asConceptIdentifier().sameAs(lateRule.asConceptIdentifier()));
   }
 
+  @Test
+  void testIndexedResolution() {
+    DerivationTypeSeries s = DerivationTypeSeries.Is_Derived_From;
+    DerivationType latest = s.getLatest();
+
+    assertSame(s, DerivationTypeSeries.resolveTag(s.getTag()).orElse(null));
+    assertSame(s, DerivationTypeSeries.resolveId(s.getConceptId()).orElse(null));
+    assertSame(s, DerivationTypeSeries.resolveRef(s.getReferentId()).orElse(null));
+    assertSame(s, DerivationTypeSeries.resolveUUID(s.getUuid()).orElse(null));
+    assertSame(s, DerivationTypeSeries.resolveVersionId(latest.getVersionId()).orElse(null));
+
+    assertFalse(DerivationTypeSeries.resolveTag("not-a-tag").isPresent());
+    assertFalse(DerivationTypeSeries.resolveTag(null).isPresent());
+    assertFalse(DerivationTypeSeries.resolveVersionId((String) null).isPresent());
+  }
+
+  @Test
+  void testClosureBitset() {
+    ConceptTerm[] values = (ConceptTerm[]) ((Enum<?>) ClinicalKnowledgeAssetTypeSeries.Clinical_Rule
+        .getLatest()).getDeclaringClass().getEnumConstants();
+
+    for (ConceptTerm t : values) {
+      assertNotNull(t.getClosureMask());
+      assertTrue(t.isA(t));
+      for (ConceptTerm candidate : values) {
+        boolean expected = Arrays.stream(t.getClosure())
+            .anyMatch(anc -> anc.getConceptId().equals(candidate.getConceptId()));
+        assertEquals(expected, t.hasAncestor(candidate));
+        assertEquals(t == candidate || expected, t.isA(candidate));
+      }
+    }
+
+    // series terms are compared by URI
+    ClinicalKnowledgeAssetTypeSeries rule = ClinicalKnowledgeAssetTypeSeries.Clinical_Rule;
+    assertTrue(rule.isA(rule));
+    for (Term anc : rule.getClosure()) {
+      assertTrue(rule.hasAncestor(anc));
+      ClinicalKnowledgeAssetTypeSeries.resolveId(anc.getConceptId())
+          .ifPresent(ancSeries -> assertTrue(rule.hasAncestor(ancSeries)));
+    }
+  }
 }
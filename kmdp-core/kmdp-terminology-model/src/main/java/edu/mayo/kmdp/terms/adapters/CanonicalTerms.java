@@ -0,0 +1,81 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.terms.adapters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.omg.spec.api4kp._20200801.id.ConceptIdentifier;
+import org.omg.spec.api4kp._20200801.id.Term;
+
+/**
+ * Process-wide cache of the canonical {@link ConceptIdentifier} of each enumerated Term.
+ * <p>
+ * Enumerated Terms (i.e. the constants of the generated vocabulary enums) are immutable, so their
+ * {@link Term#asConceptIdentifier()} form can be computed once. ConceptIdentifiers are mutable,
+ * though, so the canonical instances are never exposed: clients get a copy. Serializers that need
+ * to avoid the copy altogether should cache the serialized form of the identifier instead.
+ * <p>
+ * Other Terms are not cached, since they may be mutable.
+ */
+public final class CanonicalTerms {
+
+  private static final Map<Term, ConceptIdentifier> identifiers = new ConcurrentHashMap<>();
+
+  private CanonicalTerms() {
+    // static functions only
+  }
+
+  /**
+   * @param term a Term
+   * @return true if the Term is an enumerated, immutable Term
+   */
+  public static boolean isCanonical(Term term) {
+    return term instanceof Enum<?>;
+  }
+
+  /**
+   * @param term a Term
+   * @return a copy of the canonical ConceptIdentifier for an enumerated Term, or a new one
+   * otherwise. In either case, the caller owns the returned instance.
+   */
+  public static ConceptIdentifier asConceptIdentifier(Term term) {
+    if (!isCanonical(term)) {
+      return term.asConceptIdentifier();
+    }
+    return (ConceptIdentifier) canonical(term).clone();
+  }
+
+  /**
+   * Evicts all the cached identifiers. Mostly intended for testing purposes.
+   */
+  public static void clear() {
+    identifiers.clear();
+  }
+
+  /**
+   * @return the number of identifiers currently cached
+   */
+  public static int size() {
+    return identifiers.size();
+  }
+
+  private static ConceptIdentifier canonical(Term term) {
+    ConceptIdentifier cid = identifiers.get(term);
+    if (cid == null) {
+      cid = identifiers.computeIfAbsent(term, Term::asConceptIdentifier);
+    }
+    return cid;
+  }
+
+}
@@ -1,26 +1,38 @@
 package edu.mayo.kmdp.terms.adapters.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import org.omg.spec.api4kp._20200801.series.Series;
+import edu.mayo.kmdp.terms.adapters.CanonicalTerms;
 import edu.mayo.kmdp.util.JSonUtil;
-import edu.mayo.kmdp.util.URIUtil;
 import edu.mayo.kmdp.util.Util;
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import org.omg.spec.api4kp._20200801.id.Term;
 import org.omg.spec.api4kp._20200801.id.ConceptIdentifier;
 import org.slf4j.Logger;
@@ -31,10 +43,55 @@ public interface AbstractTermsJsonAdapter {
   Logger logger = LoggerFactory.getLogger(AbstractTermsJsonAdapter.class);
 
   class AbstractSerializer<T extends Term> extends JsonSerializer<T> {
+    private static final JsonFactory RAW_FACTORY = new JsonFactory();
+
+    /**
+     * Pre-serialized forms of the enumerated Terms, by the configuration they were rendered with,
+     * then by the (output) features of the generator they were rendered for
+     */
+    private static final Map<Term, Map<SerializationConfig, Map<Long, SerializableString>>>
+        rawForms = new ConcurrentHashMap<>();
+
     @Override
     public void serialize(T v, JsonGenerator gen, SerializerProvider serializers)
         throws IOException {
-      gen.writeObject(v.asConceptIdentifier());
+      if (CanonicalTerms.isCanonical(v) && canWriteRaw(gen)) {
+        gen.writeRawValue(getRawForm(v, gen, serializers));
+      } else {
+        gen.writeObject(CanonicalTerms.asConceptIdentifier(v));
+      }
+    }
+
+    /**
+     * Raw values can only be embedded in compact, textual JSON, with the standard escapes.
+     * Pretty printed documents, buffers, other formats (e.g. YAML) and custom escapes use the
+     * ConceptIdentifier.
+     */
+    private boolean canWriteRaw(JsonGenerator gen) {
+      return gen instanceof JsonGeneratorImpl
+          && gen.getPrettyPrinter() == null
+          && gen.getCharacterEscapes() == null;
+    }
+
+    private SerializableString getRawForm(T v, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+      Map<Long, SerializableString> forms = rawForms
+          .computeIfAbsent(v, k -> Collections.synchronizedMap(new WeakHashMap<>()))
+          .computeIfAbsent(serializers.getConfig(), k -> new ConcurrentHashMap<>());
+      // e.g. quoted field names, escaped non-ASCII characters
+      long features = ((long) gen.getFeatureMask() << 32) | gen.getHighestEscapedChar();
+      SerializableString raw = forms.get(features);
+      if (raw == null) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator rawGen = RAW_FACTORY.createGenerator(writer)) {
+          rawGen.overrideStdFeatures(gen.getFeatureMask(), ~0);
+          rawGen.setHighestNonEscapedChar(gen.getHighestEscapedChar());
+          serializers.defaultSerializeValue(CanonicalTerms.asConceptIdentifier(v), rawGen);
+        }
+        raw = new SerializedString(writer.toString());
+        forms.put(features, raw);
+      }
+      return raw;
     }
 
     @Override
@@ -63,10 +120,22 @@ public interface AbstractTermsJsonAdapter {
 
   abstract class AbstractDeserializer<T extends Term> extends JsonDeserializer<T> {
     private static final String DEFAULT_KEY = "tag";
+    private static final String UUID_KEY = "uuid";
+    private static final String VERSION_KEY = "versionTag";
+    private static final String NAMESPACE_KEY = "namespace";
+    private static final String NAMESPACE_VERSION_KEY = "version";
+
+    /**
+     * Lookup indexes, built once per (concrete) deserializer class
+     */
+    private static final Map<Class<?>, TermIndex> indexes = new ConcurrentHashMap<>();
 
     @Override
     public T deserialize(JsonParser jp, DeserializationContext ctxt)
         throws IOException {
+      if (jp.currentToken() == JsonToken.START_OBJECT && supportsStreaming()) {
+        return parseStreaming(jp);
+      }
       TreeNode t = jp.readValueAsTree();
       return parse(t);
     }
@@ -91,9 +160,89 @@ public interface AbstractTermsJsonAdapter {
 
       return tagNode
           .flatMap(tag -> this.resolveAsKnownTerm(t,tag))
+          .or(() -> getUUIDNode(t)
+              .flatMap(uuid -> this.resolveAsKnownTerm(t, uuid)))
           .orElseGet(() -> this.resolveGeneric(t));
     }
 
+    /**
+     * @return the (textual) uuid field of a serialized ConceptIdentifier, used as a fallback
+     * when the tag is missing or unknown
+     */
+    private Optional<String> getUUIDNode(TreeNode t) {
+      if (!t.isObject()) {
+        return Optional.empty();
+      }
+      JsonNode node = ((ObjectNode) t).get(UUID_KEY);
+      return node != null && node.isTextual()
+          ? Optional.of(node.asText())
+          : Optional.empty();
+    }
+
+    /**
+     * Determines whether JSON objects can be parsed by {@link #parseStreaming(JsonParser)},
+     * which only looks at the fields needed to resolve a Term (key/tag, uuid and version tag).
+     * Subclasses that rely on other fields of the {@link TreeNode}, e.g. in an overridden
+     * {@link #getTag(TreeNode)} or {@link #resolveGeneric(TreeNode)}, should disable streaming.
+     *
+     * @return true if streaming is supported
+     */
+    protected boolean supportsStreaming() {
+      return true;
+    }
+
+    /**
+     * Parses a serialized ConceptIdentifier, reading the identifying fields as they are
+     * encountered, and skipping any other field, without materializing the whole tree.
+     * The identifying fields are then resolved by {@link #parse(TreeNode)}, as a node that
+     * contains those fields only, so that the same hooks ({@link #getTag(TreeNode)}, {@link
+     * #resolveAsKnownTerm(TreeNode, String)}, {@link #getVersionNode(TreeNode)} and {@link
+     * #resolveGeneric(TreeNode)}) apply to both the streaming and the tree-based parsing.
+     *
+     * @param jp the parser, positioned at the start of the object
+     * @return the resolved Term
+     * @throws IOException if the content cannot be read
+     */
+    protected T parseStreaming(JsonParser jp) throws IOException {
+      String key = getKey();
+      ObjectNode node = JsonNodeFactory.instance.objectNode();
+
+      String field;
+      while ((field = jp.nextFieldName()) != null) {
+        JsonToken value = jp.nextToken();
+        if (value == JsonToken.VALUE_STRING) {
+          if (key.equals(field) || UUID_KEY.equals(field) || VERSION_KEY.equals(field)) {
+            node.put(field, jp.getText());
+          }
+        } else if (value == JsonToken.START_OBJECT && NAMESPACE_KEY.equals(field)) {
+          // legacy serializations used a structured 'namespace' sub-object
+          ObjectNode ns = node.putObject(NAMESPACE_KEY);
+          String nsVersion = readNamespaceVersion(jp);
+          if (nsVersion != null) {
+            ns.put(NAMESPACE_VERSION_KEY, nsVersion);
+          }
+        } else {
+          jp.skipChildren();
+        }
+      }
+
+      return parse(node);
+    }
+
+    private String readNamespaceVersion(JsonParser jp) throws IOException {
+      String version = null;
+      String field;
+      while ((field = jp.nextFieldName()) != null) {
+        JsonToken value = jp.nextToken();
+        if (value == JsonToken.VALUE_STRING && NAMESPACE_VERSION_KEY.equals(field)) {
+          version = jp.getText();
+        } else {
+          jp.skipChildren();
+        }
+      }
+      return version;
+    }
+
 
     protected abstract T[] getValues();
 
@@ -106,11 +255,15 @@ public interface AbstractTermsJsonAdapter {
           .flatMap(resTerm -> resolveVersion(resTerm, t));
     }
 
-    @SuppressWarnings("unchecked")
     protected Optional<T> resolveVersion(T resolvedTerm, TreeNode t) {
-      if (resolvedTerm instanceof Series<?,?>) {
-        Optional<T> versionedTerm = (Optional<T>) getVersionNode(t)
-            .flatMap(((Series<?,?>) resolvedTerm)::getVersion);
+      return resolveVersion(resolvedTerm, getVersionNode(t).orElse(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Optional<T> resolveVersion(T resolvedTerm, String versionTag) {
+      if (versionTag != null && resolvedTerm instanceof Series<?,?>) {
+        Optional<T> versionedTerm = (Optional<T>) ((Series<?,?>) resolvedTerm)
+            .getVersion(versionTag);
         if (versionedTerm.isPresent()) {
           return versionedTerm;
         }
@@ -143,9 +296,9 @@ public interface AbstractTermsJsonAdapter {
     protected Optional<String> getVersionNode(TreeNode t) {
       if (t.isObject()) {
         // legacy serializations used a structured 'namespace' sub-object
-        TreeNode nsNode = t.get("namespace");
+        TreeNode nsNode = t.get(NAMESPACE_KEY);
         if (nsNode != null) {
-          TextNode versionNode = (TextNode) nsNode.get("version");
+          TextNode versionNode = (TextNode) nsNode.get(NAMESPACE_VERSION_KEY);
           if (versionNode == null) {
             return Optional.empty();
           }
@@ -153,7 +306,7 @@ public interface AbstractTermsJsonAdapter {
               .map(TextNode::asText);
         } else {
           // later serializations are flat
-          TextNode versionNode = (TextNode) t.get("versionTag");
+          TextNode versionNode = (TextNode) t.get(VERSION_KEY);
           return Optional.ofNullable(versionNode)
               .map(TextNode::asText);
         }
@@ -163,27 +316,85 @@ public interface AbstractTermsJsonAdapter {
     }
 
     protected Optional<T> resolveUUID(UUID uuid) {
-      return resolve(uuid.toString());
+      return lookupUUID(uuid);
     }
 
+    /**
+     * Resolves a code against the values of this deserializer, matching (in order of
+     * precedence) the tag, the UUID or the resource URI of each value.
+     *
+     * @param tag the code to resolve
+     * @return the first value that matches the code, if any
+     */
     protected Optional<T> resolve(String tag) {
       if (Util.isEmpty(tag)) {
         return Optional.empty();
       }
-      return Arrays.stream(getValues())
-          .filter(trm -> matches(trm,tag))
-          .findAny();
+      TermIndex index = getIndex();
+      Term trm = index.byCode.get(tag);
+      if (trm == null && Util.isUUID(tag)) {
+        trm = Util.ensureUUID(tag)
+            .map(index.byUUID::get)
+            .orElse(null);
+      }
+      return Optional.ofNullable(cast(trm));
+    }
+
+    /**
+     * @param uuid the UUID of the value to resolve
+     * @return the first value with the given UUID, if any
+     */
+    protected final Optional<T> lookupUUID(UUID uuid) {
+      if (uuid == null) {
+        return Optional.empty();
+      }
+      return Optional.ofNullable(cast(getIndex().byUUID.get(uuid)));
     }
 
-    private boolean matches(Term trm, String code) {
-      if (code == null) {
-        return false;
+    @SuppressWarnings("unchecked")
+    private T cast(Term trm) {
+      return (T) trm;
+    }
+
+    private TermIndex getIndex() {
+      TermIndex index = indexes.get(getClass());
+      if (index == null) {
+        index = indexes.computeIfAbsent(getClass(), k -> new TermIndex(getValues()));
+      }
+      return index;
+    }
+
+    /**
+     * Lookup tables for the values of an enumeration.
+     * Consistently with a linear scan of the values, the first value to declare a given code
+     * (as a tag, UUID or resource URI) is the one that is indexed under that code.
+     */
+    private static final class TermIndex {
+
+      private final Map<String, Term> byCode;
+      private final Map<UUID, Term> byUUID;
+
+      private TermIndex(Term[] values) {
+        Map<String, Term> codes = new HashMap<>(values.length * 4);
+        Map<UUID, Term> uuids = new HashMap<>(values.length * 2);
+        for (Term trm : values) {
+          if (trm == null) {
+            continue;
+          }
+          if (trm.getTag() != null) {
+            codes.putIfAbsent(trm.getTag(), trm);
+          }
+          if (trm.getUuid() != null) {
+            codes.putIfAbsent(trm.getUuid().toString(), trm);
+            uuids.putIfAbsent(trm.getUuid(), trm);
+          }
+          if (trm.getResourceId() != null) {
+            codes.putIfAbsent(trm.getResourceId().toString(), trm);
+          }
+        }
+        this.byCode = Collections.unmodifiableMap(codes);
+        this.byUUID = Collections.unmodifiableMap(uuids);
       }
-      return
-          trm.getTag().equals(code)
-              || (Util.isUUID(code) && trm.getUuid().equals(Util.toUUID(code)))
-              || (URIUtil.isUri(code) && trm.getResourceId().toString().equals(code))
-          ;
     }
 
   }
@@ -7,7 +7,6 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
 import org.omg.spec.api4kp._20200801.id.Term;
@@ -44,9 +43,7 @@ public interface UUIDTermsJsonAdapter {
 
     @Override
     protected Optional<T> resolveUUID(UUID uuid) {
-      return Arrays.stream(getValues())
-          .filter(x -> uuid.equals(x.getUuid()))
-          .findFirst();
+      return lookupUUID(uuid);
     }
 
   }
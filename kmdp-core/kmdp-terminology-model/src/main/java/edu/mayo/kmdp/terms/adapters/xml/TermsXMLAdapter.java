@@ -16,33 +16,51 @@
 package edu.mayo.kmdp.terms.adapters.xml;
 
 import edu.mayo.kmdp.id.helper.DatatypeHelper;
+import edu.mayo.kmdp.terms.adapters.CanonicalTerms;
 import edu.mayo.kmdp.util.StreamUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.omg.spec.api4kp._20200801.id.Term;
 import org.omg.spec.api4kp._20200801.series.Series;
 
 public abstract class TermsXMLAdapter extends
     javax.xml.bind.annotation.adapters.XmlAdapter<org.omg.spec.api4kp._20200801.id.ConceptIdentifier, Term> {
 
+  /**
+   * Lookup indexes, built lazily once per (concrete) adapter class
+   */
+  private static final Map<Class<?>, TermIndex> indexes = new ConcurrentHashMap<>();
+
   @Override
   public Term unmarshal(org.omg.spec.api4kp._20200801.id.ConceptIdentifier v) {
-    return DatatypeHelper.resolveTerm(
-        v.getUuid(),
-        v.getVersionTag() != null ? getValuesForVersion(v.getVersionTag()) : getValues(),
-        Term::getUuid)
-        .orElse(null);
+    if (v == null || v.getUuid() == null) {
+      return null;
+    }
+    TermIndex index = getIndex();
+    return v.getVersionTag() != null
+        ? index.resolveVersion(v.getUuid(), v.getVersionTag())
+        : index.resolve(v.getUuid());
   }
 
   @Override
   public org.omg.spec.api4kp._20200801.id.ConceptIdentifier marshal(Term v) {
-    return v != null ? v.asConceptIdentifier() : null;
+    return v != null ? CanonicalTerms.asConceptIdentifier(v) : null;
   }
 
   protected abstract Term[] getValues();
 
+  /**
+   * @deprecated terms are resolved by (UUID, version tag) through an index
+   */
   @Deprecated
-  // Need performance improvement
   protected Term[] getValuesForVersion( final String versionTag ) {
     return Arrays.stream(getValues())
         .map(x -> getVersion(x,versionTag))
@@ -50,7 +68,15 @@ public abstract class TermsXMLAdapter extends
         .toArray(Term[]::new);
   }
 
-  private Optional<? extends Term> getVersion(Term x, String versionTag) {
+  private TermIndex getIndex() {
+    TermIndex index = indexes.get(getClass());
+    if (index == null) {
+      index = indexes.computeIfAbsent(getClass(), k -> new TermIndex(getValues()));
+    }
+    return index;
+  }
+
+  private static Optional<? extends Term> getVersion(Term x, String versionTag) {
     if (x instanceof Series) {
       @SuppressWarnings("unchecked")
       Series<? extends Term,?> series = ((Series<? extends Term,?>) x);
@@ -66,8 +92,111 @@ public abstract class TermsXMLAdapter extends
     }
   }
 
-  private boolean isSnapshot(String versionTag) {
+  private static boolean isSnapshot(String versionTag) {
     return versionTag.contains("-");
   }
 
-}
\ No newline at end of file
+  /**
+   * Resolves Terms by UUID, and by (UUID, version tag).
+   * <p>
+   * Consistently with a linear scan of the values, the first value with a given UUID wins.
+   * Versioned lookups only consider the (few) values that may yield a Term with the requested
+   * UUID, i.e. the values whose own UUID, or the UUID of one of their versions, is the requested
+   * one. Versioned lookups are memoized when the version tag is the one of the resolved Term:
+   * values that are not Series, and snapshot tags resolved to the latest version, resolve any
+   * number of version tags, which are not retained.
+   */
+  private static final class TermIndex {
+
+    private final Map<UUID, Term> byUUID;
+    private final Map<UUID, List<Term>> candidates;
+    private final Map<VersionKey, Term> byVersion = new ConcurrentHashMap<>();
+
+    private TermIndex(Term[] values) {
+      this.byUUID = DatatypeHelper.indexBy(values, Term::getUuid);
+
+      Map<UUID, List<Term>> map = new HashMap<>(2 * values.length);
+      for (Term x : values) {
+        if (x.getUuid() != null) {
+          addCandidate(map, x.getUuid(), x);
+        }
+        if (x instanceof Series) {
+          ((Series<?,?>) x).getVersions().stream()
+              .flatMap(StreamUtil.filterAs(Term.class))
+              .map(Term::getUuid)
+              .filter(Objects::nonNull)
+              .forEach(uuid -> addCandidate(map, uuid, x));
+        }
+      }
+      this.candidates = Collections.unmodifiableMap(map);
+    }
+
+    private static void addCandidate(Map<UUID, List<Term>> map, UUID uuid, Term x) {
+      List<Term> list = map.computeIfAbsent(uuid, k -> new ArrayList<>(1));
+      if (!list.contains(x)) {
+        list.add(x);
+      }
+    }
+
+    private Term resolve(UUID uuid) {
+      return byUUID.get(uuid);
+    }
+
+    private Term resolveVersion(UUID uuid, String versionTag) {
+      VersionKey key = new VersionKey(uuid, versionTag);
+      Term trm = byVersion.get(key);
+      if (trm == null) {
+        trm = lookupVersion(uuid, versionTag);
+        // only memoize exact matches, so that the index is bounded by the known versions,
+        // while arbitrary (e.g. snapshot) version tags are looked up every time
+        if (trm != null && versionTag.equals(trm.getVersionTag())) {
+          byVersion.putIfAbsent(key, trm);
+        }
+      }
+      return trm;
+    }
+
+    private Term lookupVersion(UUID uuid, String versionTag) {
+      for (Term x : candidates.getOrDefault(uuid, Collections.emptyList())) {
+        Optional<? extends Term> version = getVersion(x, versionTag);
+        if (version.isPresent() && uuid.equals(version.get().getUuid())) {
+          return version.get();
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final class VersionKey {
+
+    private final UUID uuid;
+    private final String versionTag;
+    private final int hash;
+
+    private VersionKey(UUID uuid, String versionTag) {
+      this.uuid = uuid;
+      this.versionTag = versionTag;
+      this.hash = 31 * uuid.hashCode() + versionTag.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof VersionKey)) {
+        return false;
+      }
+      VersionKey other = (VersionKey) o;
+      return hash == other.hash
+          && uuid.equals(other.uuid)
+          && versionTag.equals(other.versionTag);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+}
@@ -80,6 +80,35 @@ public interface ConceptTerm extends Term, Taxonomic {
     return getDescription().getAncestors();
   }
 
+  @Override
+  default long[] getClosureMask() {
+    return getDescription().getClosureMask();
+  }
+
+  @Override
+  default Class<?> getClosureScheme() {
+    return getDescription().getClosureScheme();
+  }
+
+  /**
+   * @param candidate a Term
+   * @return true if this Term is the candidate Term, or one of its descendants
+   */
+  default boolean isA(Term candidate) {
+    if (candidate == null) {
+      return false;
+    }
+    if (this == candidate) {
+      return true;
+    }
+    if (getClass() == candidate.getClass() && getClass() == getClosureScheme()) {
+      // distinct constants of the same enumeration denote distinct concepts
+      return hasAncestor(candidate);
+    }
+    return getConceptId().equals(candidate.getConceptId())
+        || hasAncestor(candidate);
+  }
+
   @Override
   default ConceptIdentifier asConceptIdentifier() {
     return (ConceptIdentifier) Term
@@ -15,8 +15,8 @@
  */
 package org.omg.spec.api4kp._20200801.terms;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.Arrays;
-import java.util.Optional;
 import org.omg.spec.api4kp._20200801.id.Term;
 
 public interface Taxonomic {
@@ -25,7 +25,39 @@ public interface Taxonomic {
 
   Term[] getClosure();
 
+  /**
+   * The closure, as a bitset over the ordinals of the enumerated Terms of a given scheme
+   * (see {@link #getClosureScheme()}): the bit at position i is set if the i-th Term of that
+   * scheme is an ancestor.
+   *
+   * @return the closure bitset, or null if not available
+   */
+  @JsonIgnore
+  default long[] getClosureMask() {
+    return null;
+  }
+
+  /**
+   * @return the enumeration whose ordinals index the {@link #getClosureMask()}, if any
+   */
+  @JsonIgnore
+  default Class<?> getClosureScheme() {
+    return null;
+  }
+
   default boolean hasAncestor(Term candidateAncestor) {
+    if (candidateAncestor == null) {
+      return false;
+    }
+    long[] mask = getClosureMask();
+    if (mask != null
+        && candidateAncestor instanceof Enum<?>
+        && candidateAncestor.getClass() == getClosureScheme()) {
+      int ordinal = ((Enum<?>) candidateAncestor).ordinal();
+      int word = ordinal >>> 6;
+      return word < mask.length && (mask[word] & (1L << ordinal)) != 0;
+    }
+    // cross-scheme terms
     return Arrays.stream(this.getClosure())
         .anyMatch(anc -> anc.getConceptId().equals(candidateAncestor.getConceptId()));
   }
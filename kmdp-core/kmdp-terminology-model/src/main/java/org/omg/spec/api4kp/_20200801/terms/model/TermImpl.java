@@ -18,6 +18,9 @@ public class TermImpl extends ConceptIdentifier implements TermDescription {
   private Term[] ancestors;
   private Term[] ancestorsClosure;
 
+  private long[] closureMask;
+  private Class<?> closureScheme;
+
   public TermImpl() {
 
   }
@@ -42,6 +45,33 @@ public class TermImpl extends ConceptIdentifier implements TermDescription {
     this.establishedOn = publicationDate;
   }
 
+  /**
+   * @param closureScheme the enumeration of Terms that the closure bitset is indexed by
+   * @param closureMask   the closure bitset, encoded as comma-separated, hexadecimal 64-bit words
+   *                      (least significant word first), as emitted by the terms generator
+   */
+  public TermImpl(final String conceptId, final String conceptUUID, final String versionTag, final String code,
+      final List<String> additionalCodes, final String displayName, final String referent,
+      final Term[] ancestors, final Term[] closure, Date publicationDate,
+      Class<?> closureScheme, final String closureMask) {
+    this(conceptId, conceptUUID, versionTag, code, additionalCodes, displayName, referent,
+        ancestors, closure, publicationDate);
+    this.closureScheme = closureScheme;
+    this.closureMask = decodeMask(closureMask);
+  }
+
+  private static long[] decodeMask(String encoded) {
+    if (Util.isEmpty(encoded)) {
+      return new long[0];
+    }
+    String[] words = encoded.split(",");
+    long[] mask = new long[words.length];
+    for (int j = 0; j < words.length; j++) {
+      mask[j] = Long.parseUnsignedLong(words[j].trim(), 16);
+    }
+    return mask;
+  }
+
   public List<String> getTags() {
     return tags;
   }
@@ -55,6 +85,16 @@ public class TermImpl extends ConceptIdentifier implements TermDescription {
     return ancestors;
   }
 
+  @Override
+  public long[] getClosureMask() {
+    return closureMask;
+  }
+
+  @Override
+  public Class<?> getClosureScheme() {
+    return closureScheme;
+  }
+
   @Override
   public String getLabel() {
     return getName();
@@ -1,15 +1,22 @@
 package edu.mayo.kmdp.terms.adapters;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import edu.mayo.kmdp.registry.Registry;
 import edu.mayo.kmdp.terms.adapters.json.GenericURITermsJsonAdapter;
+import edu.mayo.kmdp.util.JSonMapperRegistry;
 import edu.mayo.kmdp.util.JSonUtil;
+import java.io.IOException;
 import java.net.URI;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -43,6 +50,73 @@ public class JsonAdaptersTest {
 
 
 
+  @Test
+  public void testStreamingTermLookup() {
+    String json = "{ \"col1\" : { "
+        + "\"name\" : \"blue\", "
+        + "\"namespaceUri\" : \"http://colors.test\", "
+        + "\"extra\" : { \"nested\" : [ 1, { \"tag\" : \"red\" } ] }, "
+        + "\"versionTag\" : \"0.0.0\", "
+        + "\"tag\" : \"" + ColorsSeries.BLUE.getTag() + "\" } }";
+    Bean b = JSonUtil.parseJson(json, Bean.class).orElse(null);
+    assertNotNull(b);
+    assertSame(ColorsSeries.BLUE, b.col1);
+
+    String byUUID = "{ \"col1\" : { "
+        + "\"uuid\" : \"" + ColorsSeries.GREEN.getUuid() + "\" } }";
+    Bean b2 = JSonUtil.parseJson(byUUID, Bean.class).orElse(null);
+    assertNotNull(b2);
+    assertSame(ColorsSeries.GREEN, b2.col1);
+  }
+
+  @Test
+  public void testStreamingHonorsHooks() {
+    String json = "{ \"streamed\" : { \"tag\" : \"azure\", \"extra\" : [ 1 ] }, "
+        + "\"tree\" : { \"tag\" : \"azure\", \"extra\" : [ 1 ] } }";
+    AliasBean b = JSonUtil.parseJson(json, AliasBean.class).orElse(null);
+    assertNotNull(b);
+    assertSame(ColorsSeries.BLUE, b.streamed);
+    assertSame(ColorsSeries.BLUE, b.tree);
+  }
+
+  @Test
+  public void testCanonicalConceptIdentifiers() throws IOException {
+    ConceptIdentifier red = CanonicalTerms.asConceptIdentifier(ColorsSeries.RED);
+    assertNotSame(red, CanonicalTerms.asConceptIdentifier(ColorsSeries.RED));
+    assertEquals(ColorsSeries.RED.asConceptIdentifier(), red);
+    // the caller owns the identifier: changes do not affect the canonical one
+    red.setName("Crimson");
+    assertEquals(ColorsSeries.RED.getName(),
+        CanonicalTerms.asConceptIdentifier(ColorsSeries.RED).getName());
+
+    Bean b = new Bean();
+    b.col1 = ColorsSeries.BLUE;
+    // compact output embeds the pre-serialized identifier
+    String compact = JSonMapperRegistry.getWriter().writeValueAsString(b);
+    String expected = JSonMapperRegistry.getWriter()
+        .writeValueAsString(ColorsSeries.BLUE.asConceptIdentifier());
+    assertTrue(compact.contains("\"col1\":" + expected));
+    assertEquals(compact, JSonMapperRegistry.getWriter().writeValueAsString(b));
+
+    Bean b2 = JSonUtil.parseJson(compact, Bean.class).orElse(null);
+    assertNotNull(b2);
+    assertSame(ColorsSeries.BLUE, b2.col1);
+  }
+
+  @Test
+  public void testRawFormsHonorGeneratorFeatures() throws IOException {
+    Bean b = new Bean();
+    b.col1 = ColorsSeries.BLUE;
+    // caches the raw form for the default features
+    JSonMapperRegistry.getWriter().writeValueAsString(b);
+
+    ObjectWriter unquoted = JSonMapperRegistry.getWriter()
+        .without(JsonGenerator.Feature.QUOTE_FIELD_NAMES);
+    String expected = unquoted.writeValueAsString(ColorsSeries.BLUE.asConceptIdentifier());
+    assertFalse(expected.startsWith("{\""));
+    assertTrue(unquoted.writeValueAsString(b).contains("col1:" + expected));
+  }
+
   @Test
   public void testRoundTripWithMixedNamespaces() {
     ConceptIdentifier c1 = new ConceptIdentifier()
@@ -73,6 +147,31 @@ public class JsonAdaptersTest {
     assertEquals(c1.getNamespaceUri(),f3.t.getNamespaceUri());
   }
 
+  public static class AliasBean {
+    @JsonDeserialize(using = AliasDeserializer.class)
+    public IColors streamed;
+
+    @JsonDeserialize(using = TreeAliasDeserializer.class)
+    public IColors tree;
+  }
+
+  public static class AliasDeserializer extends Bean.TrmDeserializer {
+
+    @Override
+    protected Optional<String> getTag(TreeNode t) {
+      return super.getTag(t)
+          .map(tag -> "azure".equals(tag) ? ColorsSeries.BLUE.getTag() : tag);
+    }
+  }
+
+  public static class TreeAliasDeserializer extends AliasDeserializer {
+
+    @Override
+    protected boolean supportsStreaming() {
+      return false;
+    }
+  }
+
   public static class Foo {
     @JsonSerialize(using = GenericURITermsJsonAdapter.GenericURISerializer.class)
     @JsonDeserialize(using = GenericURITermsJsonAdapter.GenericURIDeserializer.class)
@@ -133,7 +133,9 @@ public abstract class BaseEnumGenerator {
     context.put("api4kpRelease", api4kpRelease);
     context.put("conceptScheme", conceptScheme);
     context.put("conceptSchemeTag", NameUtils.getTrailingPart(conceptScheme.getId().toString()));
-    context.put("concepts", graph.getConceptList(conceptScheme));
+    List<Term> concepts = graph.getConceptList(conceptScheme);
+    context.put("concepts", concepts);
+    context.put("encodedClosure", encodeClosure(concepts));
     context.put("schemeVersions", graph.getSchemeSeries(conceptScheme.getId()));
     context.put("schemeVersionIdentifiers",
         graph.getSchemeSeriesURI(conceptScheme.getId()));
@@ -247,6 +249,42 @@ public abstract class BaseEnumGenerator {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Encodes the closure of the (current) concept as a bitset over the ordinals of the concepts in
+   * the same scheme, i.e. the position of each concept in the generated enumeration.
+   * Ancestors from other schemes are not part of the bitset.
+   *
+   * @param concepts the concepts of the scheme, in the order they are enumerated
+   * @return a Lambda that writes the bitset as comma-separated, hexadecimal 64-bit words
+   */
+  private Mustache.Lambda encodeClosure(List<Term> concepts) {
+    Map<URI, Integer> ordinals = new HashMap<>();
+    for (int j = 0; j < concepts.size(); j++) {
+      ordinals.putIfAbsent(concepts.get(j).getConceptId(), j);
+    }
+    return (frag, out) -> {
+      ConceptTermImpl concept = (ConceptTermImpl) frag.context();
+      out.write(encodeClosure(concept.getClosure(), ordinals, concepts.size()));
+    };
+  }
+
+  static String encodeClosure(Term[] closure, Map<URI, Integer> ordinals, int numConcepts) {
+    long[] mask = new long[(numConcepts + 63) / 64];
+    int length = 0;
+    for (Term ancestor : closure) {
+      Integer ordinal = ordinals.get(ancestor.getConceptId());
+      if (ordinal != null) {
+        int word = ordinal >>> 6;
+        mask[word] |= 1L << ordinal;
+        length = Math.max(length, word + 1);
+      }
+    }
+    // trailing zero words are implied
+    return Arrays.stream(mask, 0, length)
+        .mapToObj(Long::toHexString)
+        .collect(Collectors.joining(","));
+  }
+
   private Mustache.Lambda overridePk(String defaultPackage, Properties overrides) {
     return (frag, out) -> {
       String key = frag.execute();
@@ -26,9 +26,22 @@ import de.escalon.hypermedia.hydra.serialize.JacksonHydraSerializer;
 
 public class JSonLDUtil {
 
+  /**
+   * The JSON-LD module is stateless, and shared, so that the mappers that register it can be
+   * reused (see {@link JSonMapperRegistry})
+   */
+  private static final Module LD_MODULE = newLDModule();
+
   private JSonLDUtil() {}
 
+  /**
+   * @return the (shared) Jackson module that serializes beans as JSON-LD
+   */
   public static Module initLDModule() {
+    return LD_MODULE;
+  }
+
+  private static Module newLDModule() {
     return new SimpleModule() {
       @Override
       public void setupModule(Module.SetupContext context) {
@@ -0,0 +1,231 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.util;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.xml.JacksonXmlModule;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide registry of pre-configured Jackson mappers.
+ * <p>
+ * Building and configuring an {@link ObjectMapper} is expensive, mostly because each new mapper
+ * has to rebuild its (de)serializer caches on first use. Mappers are thread safe once configured,
+ * so this registry configures one mapper for each combination of (mapper kind, {@link Module}
+ * set, {@link Properties}), and keeps it - together with its derived {@link ObjectReader} and
+ * {@link ObjectWriter} - for the life of the process.
+ * <p>
+ * The mappers themselves are not exposed, since a client could reconfigure a shared instance:
+ * clients get immutable readers and writers instead.
+ * <p>
+ * Modules are identified by instance, since distinct instances of the same Module class (hence
+ * with the same {@link Module#getTypeId()}) can be configured differently: clients are expected to
+ * reuse their Module instances. Properties are identified by value, so that equivalent
+ * {@link Properties} instances share the same mapper. The registry is bounded, and evicts the
+ * least recently used mappers when full.
+ */
+public final class JSonMapperRegistry {
+
+  private static final int MAX_MAPPERS = 256;
+
+  private static final LRUCache<MapperKey, MapperEntry> registry = new LRUCache<>(MAX_MAPPERS);
+
+  private JSonMapperRegistry() {
+    // static functions only
+  }
+
+  /**
+   * @return a reader for a plain, unconfigured JSON mapper (i.e. Jackson defaults)
+   */
+  public static ObjectReader getReader() {
+    return lookup(MapperKind.JSON, Collections.emptyList(), null).reader;
+  }
+
+  /**
+   * @param module an optional Module to register with the mapper
+   * @param p      the configuration, as per {@link JSonUtil#configureMapper(ObjectMapper,
+   *               Properties)}
+   * @return a reader for a JSON mapper with the given module(s) and configuration
+   */
+  public static ObjectReader getReader(Module module, Properties p) {
+    return lookup(MapperKind.JSON, asList(module), p).reader;
+  }
+
+  /**
+   * @return a writer for a plain, unconfigured JSON mapper (i.e. Jackson defaults)
+   */
+  public static ObjectWriter getWriter() {
+    return lookup(MapperKind.JSON, Collections.emptyList(), null).writer;
+  }
+
+  /**
+   * @param module an optional Module to register with the mapper
+   * @param p      the configuration, as per {@link JSonUtil#configureMapper(ObjectMapper,
+   *               Properties)}, including the pretty printing option
+   * @return a writer for a JSON mapper with the given module(s) and configuration
+   */
+  public static ObjectWriter getWriter(Module module, Properties p) {
+    return lookup(MapperKind.JSON, asList(module), p).writer;
+  }
+
+  /**
+   * @param module an optional Module to register with the mapper, in addition to the {@link
+   *               JacksonXmlModule}
+   * @param p      the configuration, as per {@link JSonUtil#configureMapper(ObjectMapper,
+   *               Properties)}, including the pretty printing option
+   * @return a writer for an XML mapper with the given module(s) and configuration
+   */
+  public static ObjectWriter getXMLWriter(Module module, Properties p) {
+    return lookup(MapperKind.XML, asList(module), p).writer;
+  }
+
+  /**
+   * Evicts all the cached mappers. Mostly intended for testing purposes.
+   */
+  public static void clear() {
+    registry.clear();
+  }
+
+  /**
+   * @return the number of mappers currently cached
+   */
+  public static int size() {
+    return registry.size();
+  }
+
+
+  private static MapperEntry lookup(MapperKind kind, Collection<? extends Module> modules,
+      Properties p) {
+    return registry.computeIfAbsent(new MapperKey(kind, modules, p),
+        k -> new MapperEntry(kind, modules, p));
+  }
+
+  private static List<Module> asList(Module module) {
+    return module != null
+        ? Collections.singletonList(module)
+        : Collections.emptyList();
+  }
+
+
+  private enum MapperKind {
+    JSON(ObjectMapper::new),
+    XML(() -> new XmlMapper(new JacksonXmlModule()));
+
+    private final Supplier<ObjectMapper> factory;
+
+    MapperKind(Supplier<ObjectMapper> factory) {
+      this.factory = factory;
+    }
+  }
+
+  /**
+   * The immutable view of a configured mapper
+   */
+  private static final class MapperEntry {
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    private MapperEntry(MapperKind kind, Collection<? extends Module> modules, Properties p) {
+      ObjectMapper mapper = kind.factory.get();
+      modules.stream()
+          .filter(Objects::nonNull)
+          .forEach(mapper::registerModule);
+      if (p != null) {
+        JSonUtil.configureMapper(mapper, p);
+      }
+      this.reader = mapper.reader();
+      this.writer = p != null && JSonUtil.isPrettyPrint(p)
+          ? mapper.writerWithDefaultPrettyPrinter()
+          : mapper.writer();
+    }
+  }
+
+  /**
+   * Key: mapper kind, module instances (by identity), and a snapshot of the (possibly defaulted)
+   * properties
+   */
+  private static final class MapperKey {
+
+    private final MapperKind kind;
+    private final List<Module> modules;
+    private final Map<String, String> config;
+    private final int hash;
+
+    private MapperKey(MapperKind kind, Collection<? extends Module> modules, Properties p) {
+      this.kind = kind;
+      this.modules = new ArrayList<>(modules.size());
+      int modulesHash = 1;
+      for (Module m : modules) {
+        if (m != null) {
+          this.modules.add(m);
+          modulesHash = 31 * modulesHash + System.identityHashCode(m);
+        }
+      }
+      if (p != null) {
+        this.config = new TreeMap<>();
+        for (String name : p.stringPropertyNames()) {
+          config.put(name, p.getProperty(name));
+        }
+      } else {
+        this.config = null;
+      }
+      this.hash = Objects.hash(kind, modulesHash, config);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof MapperKey)) {
+        return false;
+      }
+      MapperKey other = (MapperKey) o;
+      return hash == other.hash
+          && kind == other.kind
+          && sameModules(other.modules)
+          && Objects.equals(config, other.config);
+    }
+
+    private boolean sameModules(List<Module> others) {
+      if (modules.size() != others.size()) {
+        return false;
+      }
+      for (int j = 0; j < modules.size(); j++) {
+        if (modules.get(j) != others.get(j)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
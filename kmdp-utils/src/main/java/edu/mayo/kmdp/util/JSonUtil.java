@@ -25,12 +25,12 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.ArrayType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
-import com.fasterxml.jackson.dataformat.xml.JacksonXmlModule;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import edu.mayo.kmdp.util.adapters.DateAdapter;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -66,9 +66,8 @@ public class JSonUtil {
   }
 
   public static Optional<JsonNode> readJson(InputStream data) {
-    ObjectMapper objectMapper = new ObjectMapper();
     try {
-      return Optional.ofNullable(objectMapper.readTree(data));
+      return Optional.ofNullable(JSonMapperRegistry.getReader().readTree(data));
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
       return Optional.empty();
@@ -88,9 +87,9 @@ public class JSonUtil {
   }
 
   public static <T> Optional<T> readJson(InputStream data, Class<? extends T> klass) {
-    ObjectMapper objectMapper = configureMapper(new ObjectMapper(), defaultProperties());
+    ObjectReader reader = JSonMapperRegistry.getReader(null, defaultProperties());
     try {
-      return Optional.ofNullable(objectMapper.readValue(data, klass));
+      return Optional.ofNullable(reader.forType(klass).readValue(data));
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
       return Optional.empty();
@@ -121,11 +120,7 @@ public class JSonUtil {
   }
 
   public static Optional<ByteArrayOutputStream> writeXML(Object root, Module module) {
-    JacksonXmlModule xmlModule = new JacksonXmlModule();
-    return writeJson(root,
-        new XmlMapper(xmlModule),
-        module != null ? module : xmlModule,
-        defaultProperties());
+    return write(root, JSonMapperRegistry.getXMLWriter(module, defaultProperties()));
   }
 
   public static Optional<ByteArrayOutputStream> writeXML(Object root) {
@@ -167,21 +162,28 @@ public class JSonUtil {
 
   public static Optional<ByteArrayOutputStream> writeJson(Object root, Module module,
       Properties p) {
-    return writeJson(root, new ObjectMapper(), module, p);
+    return write(root, JSonMapperRegistry.getWriter(module, p));
   }
 
+  /**
+   * Serializes an object using a client-provided mapper, which will be (re)configured
+   * according to the given module and properties.
+   * <p>
+   * Prefer {@link #writeJson(Object, Module, Properties)}, which reuses a pre-configured mapper
+   * from the {@link JSonMapperRegistry}
+   */
   public static Optional<ByteArrayOutputStream> writeJson(Object root, ObjectMapper mapper,
       Module module, Properties p) {
     ObjectMapper objectMapper = configure(mapper, module, p);
+    return write(root, isPrettyPrint(p)
+        ? objectMapper.writerWithDefaultPrettyPrinter()
+        : objectMapper.writer());
+  }
+
+  private static Optional<ByteArrayOutputStream> write(Object root, ObjectWriter writer) {
     try {
       ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-      if (Boolean.TRUE.equals(
-          Boolean.valueOf(p.getProperty(PRETTYPRINT, Boolean.TRUE.toString())))) {
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(baos, root);
-      } else {
-        objectMapper.writeValue(baos, root);
-      }
+      writer.writeValue(baos, root);
       return Optional.of(baos);
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
@@ -189,12 +191,15 @@ public class JSonUtil {
     }
   }
 
+  static boolean isPrettyPrint(Properties p) {
+    return Boolean.parseBoolean(p.getProperty(PRETTYPRINT, Boolean.TRUE.toString()));
+  }
+
   public static String prettyPrintJsonString(JsonNode jsonNode) {
     try {
-      ObjectMapper mapper = new ObjectMapper();
-      return mapper.writerWithDefaultPrettyPrinter()
-          .writeValueAsString(mapper.readValue(jsonNode.toString(),
-              Object.class));
+      return JSonMapperRegistry.getWriter().withDefaultPrettyPrinter()
+          .writeValueAsString(JSonMapperRegistry.getReader().forType(Object.class)
+              .readValue(jsonNode.toString()));
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
       return "";
@@ -255,7 +260,7 @@ public class JSonUtil {
     Optional<String> jsonTxt = JSonUtil.printJson(jsonNode);
     if (jsonTxt.isPresent()) {
       try {
-        return Optional.of(new ObjectMapper().readValue(jsonTxt.get(), type));
+        return Optional.of(JSonMapperRegistry.getReader().forType(type).readValue(jsonTxt.get()));
       } catch (IOException e) {
         logger.error(e.getMessage(), e);
         return Optional.empty();
@@ -267,8 +272,8 @@ public class JSonUtil {
   public static <T> Optional<T> parseJson(JsonNode jsonNode,
       Class<T> type) {
     try {
-      return Optional
-          .of(new ObjectMapper().readValue(JSonUtil.printJson(jsonNode).orElse(""), type));
+      return Optional.of(JSonMapperRegistry.getReader().forType(type)
+          .readValue(JSonUtil.printJson(jsonNode).orElse("")));
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
       return Optional.empty();
@@ -278,8 +283,8 @@ public class JSonUtil {
   public static <T> Optional<T> tryParseJson(JsonNode jsonNode,
       Class<T> type) {
     try {
-      return Optional
-          .of(new ObjectMapper().readValue(JSonUtil.printJson(jsonNode).orElse(""), type));
+      return Optional.of(JSonMapperRegistry.getReader().forType(type)
+          .readValue(JSonUtil.printJson(jsonNode).orElse("")));
     } catch (IOException e) {
       return Optional.empty();
     }
@@ -288,7 +293,7 @@ public class JSonUtil {
   public static <T> Optional<T> parseJson(String json,
       Class<? extends T> type) {
     try {
-      return Optional.of(new ObjectMapper().readValue(json, type));
+      return Optional.of(JSonMapperRegistry.getReader().forType(type).readValue(json));
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
       return Optional.empty();
@@ -298,7 +303,7 @@ public class JSonUtil {
   public static <T> Optional<T> tryParseJson(String json,
       Class<? extends T> type) {
     try {
-      return Optional.of(new ObjectMapper().readValue(json, type));
+      return Optional.of(JSonMapperRegistry.getReader().forType(type).readValue(json));
     } catch (IOException e) {
       return Optional.empty();
     }
@@ -307,7 +312,7 @@ public class JSonUtil {
 
   public static Optional<Object> parseJson(String json) {
     try {
-      return Optional.of(new ObjectMapper().readValue(json, Object.class));
+      return Optional.of(JSonMapperRegistry.getReader().forType(Object.class).readValue(json));
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
       return Optional.empty();
@@ -316,9 +321,21 @@ public class JSonUtil {
 
   public static <T> Optional<T> parseJson(String json, Module mod, Class<? extends T> klass) {
     try {
-      ObjectMapper mapper = new ObjectMapper();
-      configure(mapper, mod, defaultProperties());
-      Object x = mapper.readValue(json, klass);
+      Object x = JSonMapperRegistry.getReader(mod, defaultProperties())
+          .forType(klass)
+          .readValue(json);
+      return klass.isInstance(x) ? Optional.of(klass.cast(x)) : Optional.empty();
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  public static <T> Optional<T> parseJson(InputStream json, Module mod, Class<? extends T> klass) {
+    try {
+      Object x = JSonMapperRegistry.getReader(mod, defaultProperties())
+          .forType(klass)
+          .readValue(json);
       return klass.isInstance(x) ? Optional.of(klass.cast(x)) : Optional.empty();
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
@@ -334,9 +351,9 @@ public class JSonUtil {
 
   public static <T> Optional<List<T>> parseJsonList(InputStream data, Module m,
       Class<? extends T> memberKlass) {
-    ObjectMapper objectMapper = configure(new ObjectMapper(), m, defaultProperties());
+    ObjectReader reader = JSonMapperRegistry.getReader(m, defaultProperties());
     try {
-      return Optional.of(Arrays.asList(objectMapper.readValue(data, asArrayOf(memberKlass))));
+      return Optional.of(Arrays.asList(reader.forType(asArrayOf(memberKlass)).readValue(data)));
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
       return Optional.empty();
@@ -345,13 +362,12 @@ public class JSonUtil {
 
   public static <T> Optional<T> parseJson(String json, Module mod, TypeReference<T> type) {
     try {
-      ObjectMapper mapper = new ObjectMapper();
-      configure(mapper, mod, defaultProperties());
+      ObjectReader reader = JSonMapperRegistry.getReader(mod, defaultProperties());
       if (type instanceof JavaTypeReference) {
         JavaType jt = ((JavaTypeReference<T>) type).getjType();
-        return Optional.of(mapper.readValue(json, jt));
+        return Optional.of(reader.forType(jt).readValue(json));
       } else {
-        return Optional.of(mapper.readValue(json, type));
+        return Optional.of(reader.forType(type).readValue(json));
       }
     } catch (IOException e) {
       logger.error(e.getMessage(), e);
@@ -0,0 +1,232 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.util;
+
+import edu.mayo.kmdp.util.properties.jaxb.JaxbConfig;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.validation.Schema;
+
+/**
+ * Process-wide cache of {@link JAXBContext}, with bounded pools of {@link Marshaller} and
+ * {@link Unmarshaller}.
+ * <p>
+ * Contexts are thread safe and expensive to build, so one context is kept for each distinct set
+ * of bound classes. (Un)Marshallers are cheap(er) to create, but not thread safe: they are
+ * borrowed from a pool for the duration of a single operation, and returned to the pool
+ * afterwards. Marshallers are pooled by (class set, {@link JaxbConfig}, {@link Schema}), so that a
+ * pooled instance always carries the configuration it was created with. Pools are bounded: if
+ * a pool is exhausted, a new instance is created, and discarded on release if the pool is full.
+ * Since Schemas are identified by instance, the number of Marshaller pools is bounded as well:
+ * when the limit is reached, the pools are reset, so that callers that build a Schema per call
+ * do not retain them indefinitely.
+ */
+public final class JaxbContextRegistry {
+
+  private static final int MAX_POOL_SIZE =
+      Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+  private static final Map<Set<Class<?>>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+  private static final int MAX_MARSHALLER_POOLS = 64;
+
+  private static final Map<MarshallerKey, BlockingQueue<Marshaller>> marshallers =
+      new ConcurrentHashMap<>();
+
+  private static final Map<Set<Class<?>>, BlockingQueue<Unmarshaller>> unmarshallers =
+      new ConcurrentHashMap<>();
+
+  private JaxbContextRegistry() {
+    // static functions only
+  }
+
+  /**
+   * Operation on a borrowed (Un)Marshaller
+   *
+   * @param <X> the type of (Un)Marshaller
+   * @param <R> the type of the result
+   */
+  @FunctionalInterface
+  public interface JaxbTask<X, R> {
+
+    R apply(X x) throws JAXBException;
+  }
+
+  /**
+   * @param classes the classes to be bound
+   * @return the (cached) JAXBContext for the given classes
+   * @throws JAXBException if the context cannot be created
+   */
+  public static JAXBContext getContext(Class<?>... classes) throws JAXBException {
+    return getContext(Arrays.asList(classes));
+  }
+
+  /**
+   * @param classes the classes to be bound
+   * @return the (cached) JAXBContext for the given classes
+   * @throws JAXBException if the context cannot be created
+   */
+  public static JAXBContext getContext(Collection<Class<?>> classes) throws JAXBException {
+    return getContext(asKey(classes));
+  }
+
+  private static JAXBContext getContext(Set<Class<?>> key) throws JAXBException {
+    JAXBContext ctx = contexts.get(key);
+    if (ctx == null) {
+      JAXBContext newCtx = JAXBContext.newInstance(key.toArray(new Class[0]));
+      ctx = contexts.putIfAbsent(key, newCtx);
+      if (ctx == null) {
+        ctx = newCtx;
+      }
+    }
+    return ctx;
+  }
+
+  /**
+   * Borrows a pooled Marshaller, configured with the given Schema and properties, and applies the
+   * given task to it.
+   *
+   * @param classes the classes to be bound
+   * @param schema  an optional Schema to validate against
+   * @param cfg     the marshalling configuration
+   * @param task    the operation to perform
+   * @param <R>     the type of the result
+   * @return the result of the task
+   * @throws JAXBException if the Marshaller cannot be created, or the task fails
+   */
+  public static <R> R withMarshaller(Collection<Class<?>> classes, Schema schema, JaxbConfig cfg,
+      JaxbTask<Marshaller, R> task) throws JAXBException {
+    MarshallerKey key = new MarshallerKey(asKey(classes), schema, cfg);
+    BlockingQueue<Marshaller> pool = marshallers.get(key);
+    if (pool == null) {
+      if (marshallers.size() >= MAX_MARSHALLER_POOLS) {
+        marshallers.clear();
+      }
+      pool = marshallers.computeIfAbsent(key, k -> new ArrayBlockingQueue<>(MAX_POOL_SIZE));
+    }
+
+    Marshaller marshaller = pool.poll();
+    if (marshaller == null) {
+      marshaller = getContext(key.classes).createMarshaller();
+      JaxbUtil.configure(marshaller, schema, cfg);
+    }
+    R result = task.apply(marshaller);
+    // only return instances that completed normally
+    pool.offer(marshaller);
+    return result;
+  }
+
+  /**
+   * Borrows a pooled, unconfigured Unmarshaller, and applies the given task to it.
+   *
+   * @param classes the classes to be bound
+   * @param task    the operation to perform
+   * @param <R>     the type of the result
+   * @return the result of the task
+   * @throws JAXBException if the Unmarshaller cannot be created, or the task fails
+   */
+  public static <R> R withUnmarshaller(Collection<Class<?>> classes,
+      JaxbTask<Unmarshaller, R> task) throws JAXBException {
+    Set<Class<?>> key = asKey(classes);
+    BlockingQueue<Unmarshaller> pool =
+        unmarshallers.computeIfAbsent(key, k -> new ArrayBlockingQueue<>(MAX_POOL_SIZE));
+
+    Unmarshaller unmarshaller = pool.poll();
+    if (unmarshaller == null) {
+      unmarshaller = getContext(key).createUnmarshaller();
+    }
+    R result = task.apply(unmarshaller);
+    // only return instances that completed normally
+    pool.offer(unmarshaller);
+    return result;
+  }
+
+  /**
+   * Evicts all the cached contexts and pooled instances. Mostly intended for testing purposes.
+   */
+  public static void clear() {
+    marshallers.clear();
+    unmarshallers.clear();
+    contexts.clear();
+  }
+
+  /**
+   * @return the number of Marshaller pools currently retained
+   */
+  static int marshallerPools() {
+    return marshallers.size();
+  }
+
+  /**
+   * @return the number of JAXBContexts currently cached
+   */
+  public static int size() {
+    return contexts.size();
+  }
+
+
+  private static Set<Class<?>> asKey(Collection<Class<?>> classes) {
+    return Set.copyOf(classes);
+  }
+
+  /**
+   * Value-based key: bound classes, Schema (by identity) and a snapshot of the configuration
+   */
+  private static final class MarshallerKey {
+
+    private final Set<Class<?>> classes;
+    private final Schema schema;
+    private final Map<String, String> config;
+    private final int hash;
+
+    private MarshallerKey(Set<Class<?>> classes, Schema schema, JaxbConfig cfg) {
+      this.classes = classes;
+      this.schema = schema;
+      this.config = new TreeMap<>();
+      cfg.consume(config::put);
+      this.hash = Objects.hash(classes, System.identityHashCode(schema), config);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof MarshallerKey)) {
+        return false;
+      }
+      MarshallerKey other = (MarshallerKey) o;
+      return hash == other.hash
+          && schema == other.schema
+          && classes.equals(other.classes)
+          && config.equals(other.config);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -13,15 +13,19 @@
  */
 package edu.mayo.kmdp.util;
 
+import edu.mayo.kmdp.util.JaxbContextRegistry.JaxbTask;
 import edu.mayo.kmdp.util.properties.jaxb.JaxbConfig;
 import edu.mayo.kmdp.util.properties.jaxb.JaxbConfig.JaxbOptions;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -33,6 +37,7 @@ import javax.xml.bind.PropertyException;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.validation.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,11 +60,13 @@ public class JaxbUtil {
 
   public static Marshaller getXMLMarshaller(Collection<Class<?>> ctx, Class<?> root, Schema schema,
       JaxbConfig jaxbConfig) throws JAXBException {
-    List<Class<?>> ctxs = new LinkedList<>(ctx);
-    ctxs.add(root);
-
-    Marshaller marshaller = JAXBContext.newInstance(ctxs.toArray(new Class[ctxs.size()]))
+    Marshaller marshaller = JaxbContextRegistry.getContext(withRoot(ctx, root))
         .createMarshaller();
+    configure(marshaller, schema, jaxbConfig);
+    return marshaller;
+  }
+
+  static void configure(Marshaller marshaller, Schema schema, JaxbConfig jaxbConfig) {
     if (schema != null) {
       marshaller.setSchema(schema);
     }
@@ -72,17 +79,22 @@ public class JaxbUtil {
         logger.error(e.getMessage(), e);
       }
     });
-
-    return marshaller;
   }
 
   public static Unmarshaller getXMLUnmarshaller(Class<?>... context)
       throws JAXBException {
-    JAXBContext jaxbContext = JAXBContext.newInstance(context);
+    JAXBContext jaxbContext = JaxbContextRegistry.getContext(context);
 
     return jaxbContext.createUnmarshaller();
   }
 
+  private static Collection<Class<?>> withRoot(Collection<Class<?>> ctx, Class<?> root) {
+    List<Class<?>> ctxs = new ArrayList<>(ctx.size() + 1);
+    ctxs.addAll(ctx);
+    ctxs.add(root);
+    return ctxs;
+  }
+
   /**
    * https://stackoverflow.com/questions/12977299/prevent-xxe-attack-with-jaxb
    * <p>
@@ -105,12 +117,14 @@ public class JaxbUtil {
       final Function<T, JAXBElement<? super T>> mapper,
       final Schema schema,
       JaxbConfig p) {
-    if (root.getClass().getAnnotation(XmlRootElement.class) == null) {
-      return marshall(ctx, mapper.apply(root), schema, p);
-    } else {
-      return marshall(ctx, root, schema, p);
-    }
+    return marshall(ctx, asRoot(root, mapper), schema, p);
+  }
 
+  private static <T> Object asRoot(final T root,
+      final Function<T, JAXBElement<? super T>> mapper) {
+    return root.getClass().getAnnotation(XmlRootElement.class) == null
+        ? mapper.apply(root)
+        : root;
   }
 
   public static <T> Optional<ByteArrayOutputStream> marshall(final Collection<Class<?>> ctx,
@@ -143,16 +157,23 @@ public class JaxbUtil {
       final Object root,
       final Schema schema,
       JaxbConfig p) {
-    Marshaller marshaller;
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    return doMarshall(ctx, root, schema, p, marshaller -> {
+      marshaller.marshal(root, baos);
+      return baos;
+    });
+  }
+
+  private static <R> Optional<R> doMarshall(final Collection<Class<?>> ctx,
+      final Object root,
+      final Schema schema,
+      JaxbConfig p,
+      JaxbTask<Marshaller, R> task) {
     try {
-      marshaller = getXMLMarshaller(ctx,
-          root instanceof JAXBElement ? ((JAXBElement<?>) root).getDeclaredType() : root.getClass(),
-          schema,
-          p);
+      Collection<Class<?>> classes = withRoot(ctx,
+          root instanceof JAXBElement ? ((JAXBElement<?>) root).getDeclaredType() : root.getClass());
 
-      ByteArrayOutputStream baos = new ByteArrayOutputStream();
-      marshaller.marshal(root, baos);
-      return Optional.of(baos);
+      return Optional.of(JaxbContextRegistry.withMarshaller(classes, schema, p, task));
     } catch (JAXBException e) {
       boolean logX = p.getTyped(JaxbOptions.LOG_EXCEPTIONS);
       if (logX) {
@@ -162,19 +183,101 @@ public class JaxbUtil {
     }
   }
 
+  /**
+   * Marshals an object directly into a client-provided OutputStream, without intermediate
+   * buffers. The stream is neither flushed nor closed.
+   *
+   * @param ctx  the JAXB context classes
+   * @param root the object to marshal (a root element, or a JAXBElement)
+   * @param out  the target stream
+   * @param p    the marshalling configuration
+   * @return the target stream, if the marshalling was successful
+   */
+  public static <O extends OutputStream> Optional<O> marshallTo(final Collection<Class<?>> ctx,
+      final Object root,
+      final O out,
+      JaxbConfig p) {
+    return marshallTo(ctx, root, out, null, p);
+  }
+
+  public static <O extends OutputStream> Optional<O> marshallTo(final Collection<Class<?>> ctx,
+      final Object root,
+      final O out,
+      final Schema schema,
+      JaxbConfig p) {
+    return doMarshall(ctx, root, schema, p, marshaller -> {
+      marshaller.marshal(root, out);
+      return out;
+    });
+  }
+
+  /**
+   * Marshals an object directly into a client-provided Writer, without intermediate buffers. The
+   * writer is neither flushed nor closed.
+   *
+   * @param ctx    the JAXB context classes
+   * @param root   the object to marshal (a root element, or a JAXBElement)
+   * @param writer the target writer
+   * @param p      the marshalling configuration
+   * @return the target writer, if the marshalling was successful
+   */
+  public static <W extends Writer> Optional<W> marshallTo(final Collection<Class<?>> ctx,
+      final Object root,
+      final W writer,
+      JaxbConfig p) {
+    return marshallTo(ctx, root, writer, null, p);
+  }
+
+  public static <W extends Writer> Optional<W> marshallTo(final Collection<Class<?>> ctx,
+      final Object root,
+      final W writer,
+      final Schema schema,
+      JaxbConfig p) {
+    return doMarshall(ctx, root, schema, p, marshaller -> {
+      marshaller.marshal(root, writer);
+      return writer;
+    });
+  }
+
+  /**
+   * Marshals an object as a sequence of StAX events, into a client-provided XMLStreamWriter. The
+   * writer is neither flushed nor closed.
+   *
+   * @param ctx    the JAXB context classes
+   * @param root   the object to marshal (a root element, or a JAXBElement)
+   * @param writer the target writer
+   * @param p      the marshalling configuration
+   * @return the target writer, if the marshalling was successful
+   */
+  public static <W extends XMLStreamWriter> Optional<W> marshallTo(
+      final Collection<Class<?>> ctx,
+      final Object root,
+      final W writer,
+      JaxbConfig p) {
+    return marshallTo(ctx, root, writer, null, p);
+  }
+
+  public static <W extends XMLStreamWriter> Optional<W> marshallTo(
+      final Collection<Class<?>> ctx,
+      final Object root,
+      final W writer,
+      final Schema schema,
+      JaxbConfig p) {
+    return doMarshall(ctx, root, schema, p, marshaller -> {
+      marshaller.marshal(root, writer);
+      return writer;
+    });
+  }
+
   public static String marshallToString(final Object root) {
-    return marshall(Collections.singleton(root.getClass()), root, defaultProperties())
-        .map(ByteArrayOutputStream::toByteArray)
-        .map(String::new)
-        .orElse("");
+    return marshallToString(Collections.singleton(root.getClass()), root, defaultProperties());
   }
 
   public static String marshallToString(final Collection<Class<?>> ctx,
       final Object root,
       JaxbConfig p) {
-    return marshall(ctx, root, p)
-        .map(ByteArrayOutputStream::toByteArray)
-        .map(String::new)
+    return marshallTo(ctx, root, new StringWriter(), p)
+        .map(StringWriter::toString)
         .orElse("");
   }
 
@@ -182,10 +285,7 @@ public class JaxbUtil {
       final T root,
       final Function<T, JAXBElement<? super T>> mapper,
       JaxbConfig p) {
-    return marshall(ctx, root, mapper, p)
-        .map(ByteArrayOutputStream::toByteArray)
-        .map(String::new)
-        .orElse("");
+    return marshallToString(ctx, asRoot(root, mapper), p);
   }
 
   public static <T> Optional<Document> marshallDox(final Collection<Class<?>> ctx,
@@ -213,20 +313,19 @@ public class JaxbUtil {
       final Class<T> type,
       final NodeList sources) {
     Collection<T> set = new HashSet<>(sources.getLength());
-    Unmarshaller unmarshaller;
     try {
-      unmarshaller = getXMLUnmarshaller(ctx);
-
-      for (int j = 0; j < sources.getLength(); j++) {
-        Object o = unmarshaller.unmarshal(sources.item(j));
-        if (o instanceof JAXBElement) {
-          o = ((JAXBElement<?>) o).getValue();
+      return JaxbContextRegistry.withUnmarshaller(Collections.singleton(ctx), unmarshaller -> {
+        for (int j = 0; j < sources.getLength(); j++) {
+          Object o = unmarshaller.unmarshal(sources.item(j));
+          if (o instanceof JAXBElement) {
+            o = ((JAXBElement<?>) o).getValue();
+          }
+          if (type.isInstance(o)) {
+            set.add(type.cast(o));
+          }
         }
-        if (type.isInstance(o)) {
-          set.add(type.cast(o));
-        }
-      }
-      return set;
+        return set;
+      });
     } catch (JAXBException e) {
       logger.error(e.getMessage(), e);
       return Collections.emptyList();
@@ -243,8 +342,8 @@ public class JaxbUtil {
       final Node source) {
     try {
       T val;
-      Unmarshaller unmarshaller = getXMLUnmarshaller(ctx);
-      Object o = unmarshaller.unmarshal(source);
+      Object o = JaxbContextRegistry.withUnmarshaller(Collections.singleton(ctx),
+          unmarshaller -> unmarshaller.unmarshal(source));
       if (o instanceof JAXBElement) {
         val = type.cast(((JAXBElement<?>) o).getValue());
       } else {
@@ -298,12 +397,9 @@ public class JaxbUtil {
   public static <T> Optional<T> unmarshall(final Collection<Class<?>> context,
       final Class<T> type,
       final Document dox) {
-    Unmarshaller unmarshaller;
-
     try {
-      unmarshaller = getXMLUnmarshaller(context.toArray(new Class[0]));
-
-      Object root = unmarshaller.unmarshal(dox);
+      Object root = JaxbContextRegistry.withUnmarshaller(context,
+          unmarshaller -> unmarshaller.unmarshal(dox));
 
       if (root instanceof JAXBElement) {
         root = ((JAXBElement<?>) root).getValue();
@@ -0,0 +1,152 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A bounded, concurrent cache with (approximate) least-recently-used eviction.
+ * <p>
+ * Lookups are lock free: each entry records the tick of its last access, and the entries with the
+ * oldest ticks are evicted, in batches, once the cache exceeds its capacity. Values are computed
+ * outside of any lock, so concurrent misses on the same key may compute the value more than once,
+ * but only one value is retained. Null values are not supported.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class LRUCache<K, V> {
+
+  private final int capacity;
+  private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final AtomicLong clock = new AtomicLong();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  private static final class Entry<V> {
+
+    private final V value;
+    private volatile long lastAccess;
+
+    private Entry(V value, long tick) {
+      this.value = value;
+      this.lastAccess = tick;
+    }
+  }
+
+  private static final class Candidate<K, V> {
+
+    private final K key;
+    private final Entry<V> entry;
+    private final long tick;
+
+    private Candidate(K key, Entry<V> entry) {
+      this.key = key;
+      this.entry = entry;
+      this.tick = entry.lastAccess;
+    }
+  }
+
+  /**
+   * @param capacity the maximum number of entries retained
+   */
+  public LRUCache(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Cache capacity must be positive, was " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * @param key the key
+   * @return the cached value, or null if not cached
+   */
+  public V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    entry.lastAccess = clock.incrementAndGet();
+    return entry.value;
+  }
+
+  /**
+   * @param key    the key
+   * @param loader the function that computes the value, if not cached
+   * @return the cached value, or the newly computed one
+   */
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+    V value = get(key);
+    if (value != null) {
+      return value;
+    }
+    value = Objects.requireNonNull(loader.apply(key));
+    Entry<V> prev = entries.putIfAbsent(key, new Entry<>(value, clock.incrementAndGet()));
+    if (prev != null) {
+      return prev.value;
+    }
+    if (entries.size() > capacity) {
+      evict();
+    }
+    return value;
+  }
+
+  /**
+   * Evicts all the entries
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * @return the number of entries currently cached
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Evicts the least recently used entries, plus some slack, so that the (sorting) cost of an
+   * eviction is amortized over the following insertions
+   */
+  private void evict() {
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      int excess = entries.size() - capacity;
+      if (excess <= 0) {
+        return;
+      }
+      // the ticks are snapshot, since concurrent lookups keep updating them
+      List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+      entries.forEach((k, e) -> candidates.add(new Candidate<>(k, e)));
+      candidates.sort(Comparator.comparingLong(c -> c.tick));
+      int toEvict = Math.min(candidates.size(), excess + capacity / 8);
+      for (int j = 0; j < toEvict; j++) {
+        Candidate<K, V> c = candidates.get(j);
+        entries.remove(c.key, c.entry);
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+}
@@ -28,10 +28,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.StringWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -108,7 +110,7 @@ public class XMLUtil {
    * @return an Inpustream with the XML document content
    * @throws IOException error
    */
-  private static InputStream openXMLInputStream(URL source) throws IOException {
+  static InputStream openXMLInputStream(URL source) throws IOException {
     if (source.getProtocol().startsWith("http")) {
       var urlConnection = source.openConnection();
       HttpURLConnection httpConn = (HttpURLConnection) urlConnection;
@@ -189,14 +191,39 @@ public class XMLUtil {
    * @param outputStream the Stream into which to serialize the Node
    */
   public static void streamXMLNode(Node dox, OutputStream outputStream) {
+    streamXMLNode(dox, outputStream, Charset.defaultCharset());
+  }
+
+  /**
+   * Streams an XML Node to an output stream, using the given Charset
+   *
+   * @param dox          The Node to be serialized
+   * @param outputStream the Stream into which to serialize the Node
+   * @param charset      the Charset used to encode the serialized Node
+   */
+  public static void streamXMLNode(Node dox, OutputStream outputStream, Charset charset) {
+    try {
+      var writer = new OutputStreamWriter(outputStream, charset);
+      streamXMLNode(dox, writer);
+      writer.flush();
+    } catch (Exception e) {
+      logger.error(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Streams an XML Node to a character stream
+   *
+   * @param dox    The Node to be serialized
+   * @param writer the Writer into which to serialize the Node
+   */
+  public static void streamXMLNode(Node dox, Writer writer) {
     try {
       var transformer = getSecureTransformer();
       transformer.setOutputProperty(OutputKeys.INDENT, "yes");
       transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
 
-      var result = new StreamResult(new StringWriter());
-      transformer.transform(new DOMSource(dox), result);
-      outputStream.write(result.getWriter().toString().getBytes());
+      transformer.transform(new DOMSource(dox), new StreamResult(writer));
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
     }
@@ -432,28 +459,24 @@ public class XMLUtil {
       final URL xslt,
       final XSLTConfig p) {
     try {
-      Source stylesheetSource = new StreamSource(xslt.openStream());
-      stylesheetSource.setSystemId(xslt.toString());
       Source inputSource = new StreamSource(source);
       inputSource.setSystemId(sourceSystemID);
 
-      TransformerFactory factory = initFactory(p.getTyped(XSLTOptions.CATALOGS));
+      var transformer = XSLTTemplatesRegistry
+          .newTransformer(xslt, p.getTyped(XSLTOptions.CATALOGS));
 
       var out = emptyDocument();
       var outputResult = new DOMResult(out);
 
       if (p.get(XSLTOptions.OUTPUT_RESOLVER).isPresent()) {
         var splitter = new XSLTSplitter(outputResult);
-        factory.setAttribute(XSLTOptions.OUTPUT_RESOLVER.getName(), splitter);
 
-        var transformer = factory.newTransformer(stylesheetSource);
         transformer.setErrorListener(new StandardErrorListener());
         applyProperties(transformer, p);
 
-        transformer.transform(inputSource, outputResult);
+        XSLTTemplatesRegistry.transform(transformer, inputSource, outputResult, splitter);
         return splitter.getFragments();
       } else {
-        var transformer = factory.newTransformer(stylesheetSource);
         applyProperties(transformer, p);
 
         transformer.transform(inputSource, outputResult);
@@ -493,14 +516,13 @@ public class XMLUtil {
       String sourceSystemId,
       final XSLTConfig p) {
     try {
-      Source stylesheetSource = new StreamSource(openXMLInputStream(xslt));
       Source inputSource = new StreamSource(source);
       if (sourceSystemId != null) {
         inputSource.setSystemId(sourceSystemId);
       }
 
-      TransformerFactory factory = initFactory(p.getTyped(XSLTOptions.CATALOGS));
-      var transformer = factory.newTransformer(stylesheetSource);
+      var transformer = XSLTTemplatesRegistry
+          .newTransformer(xslt, p.getTyped(XSLTOptions.CATALOGS));
 
       p.get(XSLTOptions.CATALOGS).ifPresent(value ->
           transformer.setParameter(XSLTOptions.CATALOGS.name(), value));
@@ -518,7 +540,7 @@ public class XMLUtil {
   }
 
 
-  private static TransformerFactory initFactory(String catalogUrls)
+  static TransformerFactory initFactory(String catalogUrls)
       throws TransformerConfigurationException {
     var factory = getSecureTransformerFactory();
 
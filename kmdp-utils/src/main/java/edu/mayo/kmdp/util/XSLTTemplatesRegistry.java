@@ -0,0 +1,204 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.util;
+
+import edu.mayo.kmdp.xslt.XSLTConfig.XSLTOptions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.stream.StreamSource;
+import net.sf.saxon.lib.OutputURIResolver;
+
+/**
+ * Process-wide cache of compiled XSLT stylesheets ({@link Templates}).
+ * <p>
+ * Compiling a stylesheet requires a (secure) TransformerFactory, configured with a catalog-based
+ * URI resolver, and is much more expensive than running it. Templates are thread safe, so one
+ * Templates is kept for each distinct (stylesheet URL, catalogs) pair, while {@link Transformer}s,
+ * which are not thread safe, are created from the Templates for each transformation.
+ * <p>
+ * The Templates share the configuration of the factory they were compiled with, so an {@link
+ * OutputURIResolver}, which collects the results of a single transformation (e.g. {@link
+ * XSLTSplitter}), cannot be bound to the factory. Instead, the factory is bound to a resolver that
+ * delegates to the OutputURIResolver passed to {@link #transform(Transformer, Source, Result,
+ * OutputURIResolver)}, for the duration of the transformation, on the current thread.
+ * <p>
+ * Stylesheets are assumed not to change once compiled: see {@link #clear()}.
+ */
+public final class XSLTTemplatesRegistry {
+
+  private static final Map<TemplatesKey, Templates> templates = new ConcurrentHashMap<>();
+
+  private XSLTTemplatesRegistry() {
+    // static functions only
+  }
+
+  /**
+   * @param xslt     the URL of the stylesheet
+   * @param catalogs the URL(s) of the XML catalogs used to resolve imports, includes and documents,
+   *                 if any
+   * @return the (cached) compiled stylesheet
+   * @throws TransformerException if the stylesheet cannot be read or compiled
+   */
+  public static Templates getTemplates(URL xslt, String catalogs) throws TransformerException {
+    var key = new TemplatesKey(xslt, catalogs);
+    var compiled = templates.get(key);
+    if (compiled == null) {
+      var newCompiled = compile(xslt, catalogs);
+      compiled = templates.putIfAbsent(key, newCompiled);
+      if (compiled == null) {
+        compiled = newCompiled;
+      }
+    }
+    return compiled;
+  }
+
+  /**
+   * @param xslt     the URL of the stylesheet
+   * @param catalogs the URL(s) of the XML catalogs, if any
+   * @return a new Transformer, created from the (cached) compiled stylesheet
+   * @throws TransformerException if the stylesheet cannot be read or compiled
+   */
+  public static Transformer newTransformer(URL xslt, String catalogs)
+      throws TransformerException {
+    return getTemplates(xslt, catalogs).newTransformer();
+  }
+
+  /**
+   * Runs a Transformer, created from a registered Templates, with the given OutputURIResolver,
+   * which will handle the secondary results of the transformation.
+   *
+   * @param transformer    the Transformer
+   * @param source         the input of the transformation
+   * @param result         the (principal) result of the transformation
+   * @param outputResolver the OutputURIResolver for the secondary results, if any
+   * @throws TransformerException if the transformation fails
+   */
+  public static void transform(Transformer transformer, Source source, Result result,
+      OutputURIResolver outputResolver) throws TransformerException {
+    var prev = ThreadBoundOutputResolver.bound.get();
+    ThreadBoundOutputResolver.bound.set(outputResolver);
+    try {
+      transformer.transform(source, result);
+    } finally {
+      if (prev != null) {
+        ThreadBoundOutputResolver.bound.set(prev);
+      } else {
+        ThreadBoundOutputResolver.bound.remove();
+      }
+    }
+  }
+
+  /**
+   * Evicts all the compiled stylesheets, e.g. after a stylesheet has been modified. Mostly
+   * intended for testing purposes.
+   */
+  public static void clear() {
+    templates.clear();
+  }
+
+  /**
+   * @return the number of compiled stylesheets currently cached
+   */
+  public static int size() {
+    return templates.size();
+  }
+
+
+  private static Templates compile(URL xslt, String catalogs) throws TransformerException {
+    var factory = XMLUtil.initFactory(catalogs);
+    factory.setAttribute(XSLTOptions.OUTPUT_RESOLVER.getName(),
+        ThreadBoundOutputResolver.INSTANCE);
+    try (InputStream is = XMLUtil.openXMLInputStream(xslt)) {
+      return factory.newTemplates(new StreamSource(is, xslt.toString()));
+    } catch (IOException e) {
+      throw new TransformerException(e);
+    }
+  }
+
+  /**
+   * Delegates to the OutputURIResolver bound to the current thread, if any, or to the standard
+   * (Saxon) resolution otherwise
+   */
+  private static final class ThreadBoundOutputResolver implements OutputURIResolver {
+
+    private static final ThreadBoundOutputResolver INSTANCE = new ThreadBoundOutputResolver();
+
+    private static final ThreadLocal<OutputURIResolver> bound = new ThreadLocal<>();
+
+    @Override
+    public OutputURIResolver newInstance() {
+      return this;
+    }
+
+    @Override
+    public Result resolve(String href, String base) throws TransformerException {
+      var delegate = bound.get();
+      // null falls back to the standard resolver
+      return delegate != null ? delegate.resolve(href, base) : null;
+    }
+
+    @Override
+    public void close(Result result) throws TransformerException {
+      var delegate = bound.get();
+      if (delegate != null) {
+        delegate.close(result);
+      }
+    }
+  }
+
+  /**
+   * Value-based key: stylesheet URL (as a String, to avoid {@link URL#equals(Object)}), and
+   * catalogs
+   */
+  private static final class TemplatesKey {
+
+    private final String xslt;
+    private final String catalogs;
+    private final int hash;
+
+    private TemplatesKey(URL xslt, String catalogs) {
+      this.xslt = xslt.toExternalForm();
+      this.catalogs = catalogs;
+      this.hash = Objects.hash(this.xslt, catalogs);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof TemplatesKey)) {
+        return false;
+      }
+      TemplatesKey other = (TemplatesKey) o;
+      return hash == other.hash
+          && xslt.equals(other.xslt)
+          && Objects.equals(catalogs, other.catalogs);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
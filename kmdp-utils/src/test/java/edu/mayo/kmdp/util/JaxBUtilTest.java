@@ -1,6 +1,7 @@
 package edu.mayo.kmdp.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -8,17 +9,25 @@ import static org.junit.jupiter.api.Assertions.fail;
 import edu.mayo.kmdp.util.XMLUtilTest.Customer;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
+import javax.xml.XMLConstants;
 import javax.xml.bind.UnmarshalException;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
 
 class JaxBUtilTest {
 
@@ -41,6 +50,18 @@ class JaxBUtilTest {
       + "  <name>&name;</name>\n"
       + "</customer>";
 
+  public static final String CUSTOMER_XSD =
+      "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\n"
+          + "  <xs:element name=\"customer\">\n"
+          + "    <xs:complexType>\n"
+          + "      <xs:sequence>\n"
+          + "        <xs:element name=\"age\" type=\"xs:int\"/>\n"
+          + "        <xs:element name=\"name\" type=\"xs:string\"/>\n"
+          + "      </xs:sequence>\n"
+          + "    </xs:complexType>\n"
+          + "  </xs:element>\n"
+          + "</xs:schema>";
+
   @Test
     // This test demonstrates that an out of the box
     // XMLInputFactory parses and does not reject the malicious XXE XML and parses it
@@ -114,6 +135,60 @@ class JaxBUtilTest {
     assertTrue(tryParsed.isEmpty());
   }
 
+  @Test
+  void testCachedContextAndPooledMarshallers() throws JAXBException {
+    Customer c = new Customer();
+    c.setName("John");
+    c.setAge(42);
+
+    String xml1 = JaxbUtil.marshallToString(c);
+    String xml2 = JaxbUtil.marshallToString(c);
+    assertEquals(xml1, xml2);
+    assertEquals(String.format(XML_1, "John").replace("<age>5</age>", "<age>42</age>"), xml1);
+
+    assertSame(
+        JaxbContextRegistry.getContext(Customer.class),
+        JaxbContextRegistry.getContext(Customer.class));
+
+    var parsed = JaxbUtil.unmarshall(Customer.class, Customer.class, xml1);
+    assertTrue(parsed.isPresent());
+    assertEquals("John", parsed.get().getName());
+    assertEquals(42, parsed.get().getAge());
+  }
+
+  @Test
+  void testMarshallerPoolsBoundedWithSchemaPerCall() throws SAXException {
+    Customer c = new Customer();
+    c.setName("John");
+    c.setAge(42);
+    SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+
+    for (int j = 0; j < 200; j++) {
+      Schema schema = sf.newSchema(new StreamSource(new StringReader(CUSTOMER_XSD)));
+      assertTrue(JaxbUtil.marshall(List.of(Customer.class), c, schema,
+          JaxbUtil.defaultProperties()).isPresent());
+      assertTrue(JaxbContextRegistry.marshallerPools() <= 64);
+    }
+  }
+
+  @Test
+  void testStreamingMarshal() {
+    Customer c = new Customer();
+    c.setName("Jane");
+    c.setAge(5);
+    String expected = String.format(XML_1, "Jane");
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertTrue(JaxbUtil.marshallTo(List.of(Customer.class), c, out, JaxbUtil.defaultProperties())
+        .isPresent());
+    assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+
+    StringWriter writer = new StringWriter();
+    assertTrue(JaxbUtil.marshallTo(List.of(Customer.class), c, writer, JaxbUtil.defaultProperties())
+        .isPresent());
+    assertEquals(expected, writer.toString());
+  }
+
   private InputStream getTestInputStream() {
     return JaxBUtilTest.class.getResourceAsStream(SRC_TEST_RESOURCES_XXE_JAXB);
   }
@@ -16,16 +16,27 @@
 package edu.mayo.kmdp.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 import org.junit.jupiter.api.Test;
 
 public class JsonUtilTest {
@@ -69,6 +80,93 @@ public class JsonUtilTest {
     assertEquals(2, recs.size());
   }
 
+  @Test
+  public void testMapperRegistryReuse() {
+    assertSame(
+        JSonMapperRegistry.getWriter(null, JSonUtil.defaultProperties()),
+        JSonMapperRegistry.getWriter(null, JSonUtil.defaultProperties()));
+    assertSame(
+        JSonMapperRegistry.getReader(null, JSonUtil.defaultProperties()),
+        JSonMapperRegistry.getReader(null, JSonUtil.defaultProperties()));
+
+    Properties compact = JSonUtil.defaultProperties();
+    compact.setProperty(DefaultPrettyPrinter.class.getName(), Boolean.FALSE.toString());
+    assertNotSame(
+        JSonMapperRegistry.getWriter(null, JSonUtil.defaultProperties()),
+        JSonMapperRegistry.getWriter(null, compact));
+
+    String s = JSonUtil.printJson(new Foo("a"), compact).orElse("");
+    assertEquals("{\"bar\":\"a\"}", s);
+    assertFalse(s.contains("\n"));
+  }
+
+  @Test
+  public void testMapperRegistryReusesLDModule() {
+    assertSame(JSonLDUtil.initLDModule(), JSonLDUtil.initLDModule());
+    assertSame(
+        JSonMapperRegistry.getWriter(JSonLDUtil.initLDModule(), JSonUtil.defaultProperties()),
+        JSonMapperRegistry.getWriter(JSonLDUtil.initLDModule(), JSonUtil.defaultProperties()));
+  }
+
+  @Test
+  public void testMapperRegistryEvictsLeastRecentlyUsed() {
+    Properties hot = JSonUtil.defaultProperties();
+    hot.setProperty("test.hot", Boolean.TRUE.toString());
+    ObjectWriter hotWriter = JSonMapperRegistry.getWriter(null, hot);
+    for (int j = 0; j < 512; j++) {
+      Properties p = JSonUtil.defaultProperties();
+      p.setProperty("test.cold", Integer.toString(j));
+      JSonMapperRegistry.getWriter(null, p);
+      assertSame(hotWriter, JSonMapperRegistry.getWriter(null, hot));
+    }
+    assertTrue(JSonMapperRegistry.size() <= 256);
+  }
+
+  @Test
+  public void testMapperRegistryDistinguishesModuleInstances() throws IOException {
+    Properties compact = JSonUtil.defaultProperties();
+    compact.setProperty(DefaultPrettyPrinter.class.getName(), Boolean.FALSE.toString());
+    FooModule upper = new FooModule(true);
+    FooModule lower = new FooModule(false);
+    assertEquals(upper.getTypeId(), lower.getTypeId());
+
+    assertEquals("\"A\"",
+        JSonMapperRegistry.getWriter(upper, compact).writeValueAsString(new Foo("a")));
+    assertEquals("\"a\"",
+        JSonMapperRegistry.getWriter(lower, compact).writeValueAsString(new Foo("a")));
+    assertSame(
+        JSonMapperRegistry.getWriter(upper, compact),
+        JSonMapperRegistry.getWriter(upper, compact));
+  }
+
+  @Test
+  public void testPlainMapperStillStrict() {
+    assertTrue(JSonUtil.tryParseJson("{\"bar\":\"a\"}", Foo.class).isPresent());
+    assertFalse(JSonUtil.tryParseJson("{\"baz\":\"a\"}", Foo.class).isPresent());
+    assertTrue(JSonUtil.readJson("{\"baz\":\"a\"}", Foo.class).isPresent());
+  }
+
+  /**
+   * Modules of the same class share the same (default) type id, but not their configuration
+   */
+  private static class FooModule extends SimpleModule {
+
+    private FooModule(boolean upperCase) {
+      addSerializer(Foo.class, new StdSerializer<>(Foo.class) {
+        @Override
+        public void serialize(Foo value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+          gen.writeString(upperCase ? value.getBar().toUpperCase() : value.getBar());
+        }
+      });
+    }
+
+    @Override
+    public Object getTypeId() {
+      return FooModule.class.getName();
+    }
+  }
+
   public static class Foo {
     private String bar;
 
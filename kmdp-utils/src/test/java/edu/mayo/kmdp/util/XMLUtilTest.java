@@ -1,18 +1,26 @@
 package edu.mayo.kmdp.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import edu.mayo.kmdp.xslt.XSLTConfig;
+import edu.mayo.kmdp.xslt.XSLTConfig.XSLTOptions;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
@@ -80,6 +88,39 @@ class XMLUtilTest {
 
   }
 
+  @Test
+  void testXSLTTemplatesCached() throws TransformerException {
+    XSLTTemplatesRegistry.clear();
+    URL xslt = XMLUtilTest.class.getResource("/index.xsl");
+    URL source = XMLUtilTest.class.getResource("/items.xml");
+
+    assertEquals("a,b", XMLUtil.applyXSLTSimple(source, xslt, new XSLTConfig()));
+    assertEquals(1, XSLTTemplatesRegistry.size());
+    Templates compiled = XSLTTemplatesRegistry.getTemplates(xslt, null);
+
+    assertEquals("a,b", XMLUtil.applyXSLTSimple(source, xslt, new XSLTConfig()));
+    assertEquals(1, XSLTTemplatesRegistry.size());
+    assertSame(compiled, XSLTTemplatesRegistry.getTemplates(xslt, null));
+  }
+
+  @Test
+  void testXSLTSplitWithCachedTemplates() throws IOException {
+    URL xslt = XMLUtilTest.class.getResource("/split.xsl");
+    URL source = XMLUtilTest.class.getResource("/items.xml");
+
+    // the second run reuses the compiled stylesheet, but not the splitter of the first run
+    for (int j = 0; j < 2; j++) {
+      try (InputStream is = source.openStream()) {
+        Map<String, Document> docs = XMLUtil.applyXSLT(is, source.toString(), xslt,
+            new XSLTConfig().with(XSLTOptions.OUTPUT_RESOLVER, XSLTSplitter.class.getName()));
+
+        assertEquals(3, docs.size());
+        assertTrue(docs.keySet().stream().anyMatch(k -> k != null && k.endsWith("a.xml")));
+        assertTrue(docs.keySet().stream().anyMatch(k -> k != null && k.endsWith("b.xml")));
+      }
+    }
+  }
+
   @XmlRootElement
   public static class Customer {
 
@@ -0,0 +1,17 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet version="2.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform">
+
+  <xsl:template match="/items">
+    <index>
+      <xsl:for-each select="item">
+        <entry ref="{@name}.xml"/>
+        <xsl:result-document href="{@name}.xml">
+          <item>
+            <xsl:value-of select="."/>
+          </item>
+        </xsl:result-document>
+      </xsl:for-each>
+    </index>
+  </xsl:template>
+
+</xsl:stylesheet>